@@ -0,0 +1,27 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ Runs all the benchmarks of this module with the GC profiler enabled, so the
+ report shows both the throughput (ops/s) and the allocation rate
+ (gc.alloc.rate.norm, in bytes per operation) of each benchmark.
+ <p>The JMH annotation processor (jmh-generator-annprocess) must be enabled
+ for this module in the IDE settings so the benchmark classes are generated
+ at compile time.
+ <p>An optional argument is a regular expression selecting the benchmarks to
+ run, for example "Conduit".
+ */
+public class BenchmarkRunner {
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(args.length > 0 ? args[0] : "bench\\..*")
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
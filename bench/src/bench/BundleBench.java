@@ -0,0 +1,39 @@
+package bench;
+
+import eecalcs.conductors.Bundle;
+import eecalcs.conductors.Cable;
+import eecalcs.systems.VoltageSystemAC;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures the count of current-carrying conductors in a bundle of 1, 10 and
+ 100 cables.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BundleBench {
+	@Param({"1", "10", "100"})
+	public int conduitables;
+
+	private Bundle bundle;
+
+	@Setup
+	public void setup() {
+		bundle = new Bundle();
+		VoltageSystemAC[] systems = {VoltageSystemAC.v120_1ph_2w,
+				VoltageSystemAC.v208_3ph_4w, VoltageSystemAC.v480_3ph_3w};
+		for (int i = 0; i < conduitables; i++)
+			bundle.add(new Cable(systems[i % systems.length], 0.5));
+	}
+
+	@Benchmark
+	public int getCurrentCarryingCount() {
+		return bundle.getCurrentCarryingCount();
+	}
+}
@@ -0,0 +1,45 @@
+package bench;
+
+import eecalcs.circuits.Circuit;
+import eecalcs.conductors.Size;
+import eecalcs.loads.GeneralLoad;
+import eecalcs.systems.VoltageSystemAC;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures a full circuit calculation (phase, neutral, OCPD and EGC). The
+ circuit caches its results, so its length is toggled on every invocation
+ to force a recalculation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CircuitBench {
+	@Param({"v120_1ph_2w", "v208_3ph_4w", "v480_3ph_3w"})
+	public VoltageSystemAC voltageSystem;
+	@Param({"15", "60", "200"})
+	public double current;
+	@Param({"50", "300"})
+	public double length;
+
+	private Circuit circuit;
+	private boolean toggle;
+
+	@Setup
+	public void setup() {
+		circuit = new Circuit(new GeneralLoad(voltageSystem, current));
+		circuit.setLength(length);
+	}
+
+	@Benchmark
+	public Size getCircuitSize() {
+		toggle = !toggle;
+		circuit.setLength(toggle ? length + 1 : length);
+		return circuit.getCircuitSize();
+	}
+}
@@ -0,0 +1,45 @@
+package bench;
+
+import eecalcs.conductors.Conductor;
+import eecalcs.conductors.Insul;
+import eecalcs.conductors.Metal;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Conduit;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures the trade size calculation of a conduit filled with 1, 10 and 100
+ conductors of mixed sizes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConduitBench {
+	@Param({"1", "10", "100"})
+	public int conduitables;
+	@Param({"EMT", "PVC40", "RMC"})
+	public Type type;
+
+	private Conduit conduit;
+
+	@Setup
+	public void setup() {
+		conduit = new Conduit(type, false);
+		Size[] sizes = {Size.AWG_12, Size.AWG_10, Size.AWG_8, Size.AWG_6};
+		for (int i = 0; i < conduitables; i++)
+			conduit.add(new Conductor(sizes[i % sizes.length], Metal.COPPER,
+					Insul.THHN, 100));
+	}
+
+	@Benchmark
+	public Trade getTradeSize() {
+		return conduit.getTradeSize();
+	}
+}
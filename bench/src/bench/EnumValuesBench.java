@@ -0,0 +1,39 @@
+package bench;
+
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Trade;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Compares iterating over the conductor sizes and trade sizes with values(),
+ which clones the array of constants on every call, against the
+ ordinal-indexed lookup. With the GC profiler, gc.alloc.rate.norm is the
+ allocation of each approach per sweep (zero for byOrdinal).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumValuesBench {
+
+	@Benchmark
+	public void values(Blackhole blackhole) {
+		for (int i = 0; i < Size.values().length; i++)
+			blackhole.consume(Size.values()[i]);
+		for (Trade trade : Trade.values())
+			blackhole.consume(trade);
+	}
+
+	@Benchmark
+	public void byOrdinal(Blackhole blackhole) {
+		for (int i = 0; i < Size.COUNT; i++)
+			blackhole.consume(Size.byOrdinal(i));
+		for (int i = 0; i < Trade.COUNT; i++)
+			blackhole.consume(Trade.byOrdinal(i));
+	}
+}
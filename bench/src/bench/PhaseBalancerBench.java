@@ -0,0 +1,59 @@
+package bench;
+
+import eecalcs.loads.GeneralLoad;
+import eecalcs.loads.Panel;
+import eecalcs.loads.PhaseBalancer;
+import eecalcs.systems.VoltageSystemAC;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures the balancing of a switchboard with 100 and 1000 loads of 120 V
+ and 208 V, single and three-phase, that start all connected to the same
+ phases. Each operation puts the loads back on their initial phases
+ and balances the switchboard.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhaseBalancerBench {
+	@Param({"100", "1000"})
+	public int loads;
+
+	private final PhaseBalancer balancer = new PhaseBalancer();
+	private Panel panel;
+	private Panel.Connection[] initial;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(1);
+		panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+		for (int i = 0; i < loads; i++) {
+			int kind = random.nextInt(10);
+			double current = 1 + random.nextInt(400) / 10.0;
+			if (kind < 6)
+				panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, current),
+						Panel.Connection.A);
+			else if (kind < 9)
+				panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, current),
+						Panel.Connection.AB);
+			else
+				panel.add(new GeneralLoad(VoltageSystemAC.v208_3ph_4w, current));
+		}
+		initial = new Panel.Connection[loads];
+		for (int i = 0; i < loads; i++)
+			initial[i] = panel.getConnection(i);
+	}
+
+	@Benchmark
+	public double balance() {
+		for (int i = 0; i < loads; i++)
+			panel.setConnection(i, initial[i]);
+		return balancer.balance(panel);
+	}
+}
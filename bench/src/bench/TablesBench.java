@@ -0,0 +1,90 @@
+package bench;
+
+import eecalcs.circuits.DSProperties;
+import eecalcs.circuits.OCPD;
+import eecalcs.conductors.ConductorProperties;
+import eecalcs.conductors.EGC;
+import eecalcs.conductors.Insul;
+import eecalcs.conductors.Metal;
+import eecalcs.conductors.Size;
+import eecalcs.loads.Horsepower;
+import eecalcs.loads.MotorProperties;
+import eecalcs.systems.TempRating;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures the static table lookups used inside the sizing loops. Each
+ benchmark sweeps a realistic range of inputs, so the reported score is the
+ number of sweeps per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TablesBench {
+	private final double[] ampacities = new double[200];
+	private final Horsepower[] horsepowers = Horsepower.values();
+	private final int[] voltages = {115, 208, 230, 460, 575};
+	private final Size[] sizes = Size.values();
+	private final Insul[] insulations = Insul.values();
+	private final double[] flcs = new double[horsepowers.length];
+
+	@Setup
+	public void setup() {
+		for (int i = 0; i < ampacities.length; i++)
+			ampacities[i] = 10 + i * 30.5;
+	}
+
+	@Benchmark
+	public void ocpdGetRatingFor(Blackhole blackhole) {
+		for (double ampacity : ampacities) {
+			blackhole.consume(OCPD.getRatingFor(ampacity, true));
+			blackhole.consume(OCPD.getRatingFor(ampacity, false));
+		}
+	}
+
+	@Benchmark
+	public void disconnectAndEGCRatings(Blackhole blackhole) {
+		for (double ampacity : ampacities) {
+			blackhole.consume(DSProperties.getRating(ampacity));
+			blackhole.consume(EGC.getEGCSize((int) ampacity, Metal.COPPER));
+			blackhole.consume(OCPD.getClosestMatch(ampacity));
+		}
+	}
+
+	@Benchmark
+	public void motorGetFlc(Blackhole blackhole) {
+		for (int voltage : voltages)
+			for (Horsepower horsepower : horsepowers)
+				blackhole.consume(MotorProperties.getFlc(
+						MotorProperties.Type.AC3P, voltage, horsepower));
+	}
+
+	@Benchmark
+	public void motorGetFlcBulk(Blackhole blackhole) {
+		for (int voltage : voltages) {
+			MotorProperties.getFlc(MotorProperties.Type.AC3P, voltage,
+					horsepowers, flcs);
+			blackhole.consume(flcs);
+		}
+	}
+
+	@Benchmark
+	public void getSizeFromStandardAmpacityTable(Blackhole blackhole) {
+		for (double ampacity : ampacities)
+			blackhole.consume(ConductorProperties.getSizeFromStandardAmpacityTable(
+					ampacity / 10, Metal.COPPER, TempRating.T75));
+	}
+
+	@Benchmark
+	public void getInsulatedAreaIn2(Blackhole blackhole) {
+		for (Insul insul : insulations)
+			for (Size size : sizes)
+				blackhole.consume(ConductorProperties.getInsulatedAreaIn2(size, insul));
+	}
+}
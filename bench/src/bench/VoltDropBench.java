@@ -0,0 +1,52 @@
+package bench;
+
+import eecalcs.conductors.Conductor;
+import eecalcs.conductors.Insul;
+import eecalcs.conductors.Metal;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Material;
+import eecalcs.systems.VoltageSystemAC;
+import eecalcs.voltagedrop.VoltDrop;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Measures the sizing of a conductor per AC voltage drop.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VoltDropBench {
+	@Param({"v120_1ph_2w", "v208_3ph_4w", "v480_3ph_3w"})
+	public VoltageSystemAC voltageSystem;
+	@Param({"20", "100", "400"})
+	public double current;
+	@Param({"50", "500"})
+	public double length;
+	@Param({"COPPER", "ALUMINUM"})
+	public Metal metal;
+	@Param({"PVC", "STEEL"})
+	public Material conduitMaterial;
+
+	private VoltDrop voltDrop;
+
+	@Setup
+	public void setup() {
+		Conductor conductor = new Conductor(Size.AWG_12, metal, Insul.THHN, length);
+		voltDrop = new VoltDrop(conductor)
+				.setSourceVoltage(voltageSystem)
+				.setLoadCurrent(current)
+				.setPowerFactor(0.9)
+				.setConduitMaterial(conduitMaterial)
+				.setSets(current > 300 ? 2 : 1);
+	}
+
+	@Benchmark
+	public Size getCalculatedSizeAC() {
+		return voltDrop.getCalculatedSizeAC();
+	}
+}
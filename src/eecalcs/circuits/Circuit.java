@@ -10,7 +10,9 @@ import eecalcs.voltagedrop.VoltDrop;
 import org.jetbrains.annotations.Nullable;
 import tools.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  This class represents an electrical circuit as recognized by the NEC 2014.
@@ -268,18 +270,96 @@ public class Circuit {
 	/**Container for messages resulting from validation of input variables and
 	 calculations performed by this class.*/
 	private final ResultMessages resultMessages = new ResultMessages();
-	/**Indicates that something changed and the circuit needs to be
-	 recalculated*/
-	private boolean circuitChangedRecalculationNeeded = true;
+	//region calculation stages
+	/*The calculation of the circuit is done in stages. A stage is rerun only
+	if any of the inputs it depends on have changed since the last successful
+	calculation, or if a stage it depends on was rerun.*/
+	/**Stage that calculates the size of the phase conductors per ampacity.*/
+	private static final int SIZE_PER_AMPACITY_STAGE = 1;
+	/**Stage that calculates the size of the phase conductors per voltage
+	 drop.*/
+	private static final int SIZE_PER_VOLTAGE_DROP_STAGE = 2;
+	/**Stage that selects the phase size and calculates the circuit ampacity,
+	 the neutral, the OCPD rating and the EGC. It depends on the two stages
+	 above, so it is rerun whenever any of them is.*/
+	private static final int PROTECTION_STAGE = 4;
+	private static final int ALL_STAGES = SIZE_PER_AMPACITY_STAGE |
+			SIZE_PER_VOLTAGE_DROP_STAGE | PROTECTION_STAGE;
+	/**Dependency graph: for each input, identified by the name of its field
+	 as reported in {@link FieldInfoChangeEvent}, the stages that must be
+	 rerun when it changes. An input not listed here invalidates all stages.*/
+	private static final Map<String, Integer> stagesPerInput = new HashMap<>();
+
+	static {
+		//circuit and conductors
+		stagesPerInput.put("length", SIZE_PER_VOLTAGE_DROP_STAGE);
+		stagesPerInput.put("maxVoltageDropPercent", SIZE_PER_VOLTAGE_DROP_STAGE);
+		stagesPerInput.put("ambientTemperatureF", SIZE_PER_AMPACITY_STAGE);
+		stagesPerInput.put("terminationTempRating", SIZE_PER_AMPACITY_STAGE);
+		//insulation and metal define the ampacity used by both sizes.
+		stagesPerInput.put("insulation", SIZE_PER_AMPACITY_STAGE | SIZE_PER_VOLTAGE_DROP_STAGE);
+		stagesPerInput.put("metal", SIZE_PER_AMPACITY_STAGE | SIZE_PER_VOLTAGE_DROP_STAGE);
+		//the factor for continuous loads is used by the size per ampacity.
+		stagesPerInput.put("_100PercentRated", SIZE_PER_AMPACITY_STAGE | PROTECTION_STAGE);
+		//conduits and bundles
+		stagesPerInput.put("type", SIZE_PER_VOLTAGE_DROP_STAGE);
+		stagesPerInput.put("roofTopDistance", SIZE_PER_AMPACITY_STAGE);
+		stagesPerInput.put("isNipple", SIZE_PER_AMPACITY_STAGE);
+		stagesPerInput.put("conduitables", SIZE_PER_AMPACITY_STAGE);
+		stagesPerInput.put("bundlingLength", SIZE_PER_AMPACITY_STAGE);
+		//the conduit size is not calculated at the circuit level.
+		stagesPerInput.put("minimumTrade", 0);
+	}
+
+	/**The stages that need to be recalculated because something changed.
+	 Zero means the circuit is up to date.*/
+	private int stagesToRecalculate = ALL_STAGES;
+	//endregion
 	private Size sizePerAmpacity;
 	private Size sizePerVoltageDrop;
+	/**The adjustment factor of this circuit's conduitables the last time the
+	 size per ampacity was calculated. NaN if it was never calculated.*/
+	private double calculatedAdjustmentFactor = Double.NaN;
 
 	/**
-	 Sets a flag indicating that recalculation is needed after certain
+	 Marks all the calculation stages as needing recalculation after certain
 	 properties of this circuit have changed.
 	 */
 	private void circuitStateChanged() {
-		circuitChangedRecalculationNeeded = true;
+		stagesToRecalculate = ALL_STAGES;
+	}
+
+	/**
+	 Marks as needing recalculation the calculation stages that depend on the
+	 given input and all the stages that depend on them.
+	 @param fieldName The name of the field that changed.
+	 */
+	private void circuitStateChanged(String fieldName) {
+		Integer stages = stagesPerInput.get(fieldName);
+		if(stages == null)
+			stages = ALL_STAGES;
+		if(stages != 0)
+			stagesToRecalculate |= stages | PROTECTION_STAGE;
+	}
+
+	/**
+	 Event handler for when the shared conduit or the shared bundle changes.
+	 The stages to recalculate are determined from the names of the fields
+	 that changed.
+	 @param speaker Is the sender of this event, a conduit or a bundle.
+	 */
+	private void notifySharedChanged(Object speaker) {
+		NotifierDelegate notifier = null;
+		if(speaker instanceof Conduit)
+			notifier = ((Conduit) speaker).getNotifier();
+		else if(speaker instanceof Bundle)
+			notifier = ((Bundle) speaker).getNotifier();
+		if(notifier == null || notifier.info.fields.isEmpty()) {
+			circuitStateChanged();
+			return;
+		}
+		for(FieldInfoChangeEvent.Fields field: notifier.info.fields)
+			circuitStateChanged(field.fieldName);
 	}
 
 	/**
@@ -554,15 +634,17 @@ public class Circuit {
 	 shared bundle used by this circuit.
 	 */
 	private void removeFromSharedMeans(){
+		//the other circuits are notified once, since their adjustment factor
+		//may change
 		if(sharedConduit != null) {//circuit is in SHARED_CONDUIT mode
-			sharedConduit.getNotifier().enable(false);
+			sharedConduit.getNotifier().beginBatch();
 			conduitables.forEach(conduitable ->	sharedConduit.remove(conduitable));
-			sharedConduit.getNotifier().enable(true);
+			sharedConduit.getNotifier().commit();
 		}
 		if(sharedBundle != null) {//circuit is in SHARED_BUNDLE mode
-			sharedBundle.getNotifier().enable(false);
+			sharedBundle.getNotifier().beginBatch();
 			conduitables.forEach(conduitable -> sharedBundle.remove(conduitable));
-			sharedBundle.getNotifier().enable(true);
+			sharedBundle.getNotifier().commit();
 		}
 	}
 
@@ -728,7 +810,7 @@ public class Circuit {
 			t_rating = TempRating.T75;
 		else
 			t_rating = TempRating.T60;
-		double lookup_current = current / getFactor(conduitable, t_rating);
+		double lookup_current = current / getFactor(conduitable.getFactorContext(), t_rating);
 		return ConductorProperties.getSizeFromStandardAmpacityTable(
 				lookup_current, conduitable.getMetal(), t_rating);
 	}
@@ -786,15 +868,18 @@ public class Circuit {
 	 the compound factor for the given temp rating if not null.
 	 The 100% rated exception applies to conductor sizing and OCPD
 	 rating for both branch circuits and feeders. NEC rules 210.19(A)(1),
-	 210.20(A), 215.2, 215.3*/
-	private double getFactor(Conduitable conduitable, TempRating tempRating) {
+	 210.20(A), 215.2, 215.3
+	 <p>The factors are read from the given factor context, so the
+	 conduitable is not modified to evaluate a temperature rating different
+	 from the one of its insulation.*/
+	private double getFactor(FactorContext factorContext, TempRating tempRating) {
 		if(_100PercentRated)
-			return conduitable.getCompoundFactor(); //do not account for 1.25
+			return factorContext.getCompoundFactor(); //do not account for 1.25
 		else
 			return Math.min(
 					1 / load.getMCAMultiplier(),//this is 1.25 or other
-					tempRating == null? conduitable.getCompoundFactor()
-							: conduitable.getCompoundFactor(tempRating));
+					tempRating == null? factorContext.getCompoundFactor()
+							: factorContext.getCompoundFactor(tempRating));
 	};
 
 	/**
@@ -816,7 +901,7 @@ public class Circuit {
 	public Size getSizePerAmpacity(boolean forNeutral){
 		resultMessages.remove(ERROR260, ERROR270, ERROR290);
 		Conduitable conduitable = _getConduitable();
-		double factor = getFactor(conduitable, null);
+		double factor = getFactor(conduitable.getFactorContext(), null);
 		if(failsWithError290(factor))
 			return null;
 		double loadCurrentPerSet = getLoadCurrentPerSet(forNeutral);
@@ -885,6 +970,108 @@ public class Circuit {
 		return voltageDrop.getCalculatedSizeAC();
 	}
 
+	/**
+	 Returns the AC voltage drop percentage that the phase conductors of
+	 this circuit would have if their length were the given one, keeping
+	 their present size. Neither the circuit nor its conductors are changed:
+	 the calculation is done on a copy of the phase conductor, with the same
+	 parameters this circuit uses for its own voltage drop.
+	 @param length The length of the conductors, in feet.
+	 @return The voltage drop percentage.
+	 */
+	double getVoltageDropPercentageForLength(double length) {
+		Conductor conductor = getPhaseConductorCopy();
+		conductor.setLength(length);
+		return newPhaseVoltageDrop(conductor).getACVoltageDropPercentage();
+	}
+
+	/**
+	 Returns a new voltage drop object for a copy of the phase conductors of
+	 this circuit, with the same parameters this circuit uses for its own
+	 voltage drop. Neither the circuit nor its voltage drop object are
+	 changed.
+	 @return The voltage drop of the phase conductors.
+	 */
+	VoltDrop getPhaseVoltageDrop() {
+		return newPhaseVoltageDrop(getPhaseConductorCopy());
+	}
+
+	/**
+	 Calculates this circuit (if needed) and returns a copy of its phase
+	 conductor.
+	 */
+	private Conductor getPhaseConductorCopy() {
+		calculateCircuit();
+		return usingCable ? cable.getPhaseConductorClone() : phaseAConductor.clone();
+	}
+
+	/**
+	 Returns a new voltage drop object for the given conductor, with the
+	 parameters this circuit uses for the voltage drop of its phase
+	 conductors.
+	 */
+	private VoltDrop newPhaseVoltageDrop(Conductor conductor) {
+		Conduit conduit = getConduitPerMode();
+		Material material;
+		if(conduit != null)
+			material = ConduitProperties.getMaterial(conduit.getType());
+		else
+			material = usingCable ? cable.getType().getMaterial() : Material.PVC;
+		return new VoltDrop(conductor)
+				.setLoadCurrent(load.getNominalCurrent())
+				.setPowerFactor(load.getPowerFactor())
+				.setSets(numberOfSets)
+				.setSourceVoltage(load.getVoltageSystem())
+				.setMaxVoltageDropPercent(voltageDrop.getMaxVoltageDropPercent())
+				.setConduitMaterial(material);
+	}
+
+	/**
+	 @return The size per ampacity of the phase conductors found by the last
+	 calculation of this circuit, without calculating it again.
+	 */
+	Size getCalculatedSizePerAmpacity() {
+		return sizePerAmpacity;
+	}
+
+	/**
+	 @return The size per voltage drop of the phase conductors found by the
+	 last calculation of this circuit, without calculating it again.
+	 */
+	Size getCalculatedSizePerVoltageDrop() {
+		return sizePerVoltageDrop;
+	}
+
+	/**
+	 Tells if the voltage drop percentage of the sizes per voltage drop of
+	 this circuit grows with the length, for every length up to the present
+	 one. When the neutral is sized on its own current, its size per voltage
+	 drop is checked too. Under this condition, the sizes of this circuit do
+	 not decrease as its length increases. Neither the circuit nor its
+	 conductors are changed.
+	 @return True if the voltage drop percentages increase with the length,
+	 false otherwise or if the circuit cannot be calculated.
+	 */
+	boolean isSizePerVoltageDropIncreasing() {
+		Conductor conductor = getPhaseConductorCopy();
+		if(sizePerVoltageDrop == null)
+			return false;
+		conductor.setSize(sizePerVoltageDrop);
+		VoltDrop phaseVoltageDrop = newPhaseVoltageDrop(conductor);
+		if(!phaseVoltageDrop.isACVoltageDropIncreasing())
+			return false;
+		if(!load.getVoltageSystem().hasNeutral() || !load.isNonlinear()
+				|| load.getVoltageSystem().getPhases() != 3)
+			return true;
+		VoltDrop neutralVoltageDrop = newPhaseVoltageDrop(conductor)
+				.setLoadCurrent(load.getNeutralCurrent());
+		Size neutralSizePerVoltageDrop = neutralVoltageDrop.getCalculatedSizeAC();
+		if(neutralSizePerVoltageDrop == null)
+			return false;
+		conductor.setSize(neutralSizePerVoltageDrop);
+		return neutralVoltageDrop.isACVoltageDropIncreasing();
+	}
+
 	/**
 	 Sets the phase current (or the neutral current if forNeutral is true),
 	 the power factor, the number of sets and the voltage for this circuit's
@@ -952,8 +1139,8 @@ public class Circuit {
 		this.load = load;
 		circuitType = load.getRequiredCircuitType();
 		neutralListener = this::notifyNeutralChanged;
-		sharedConduitListener = speaker -> circuitStateChanged();//recalculation is required when
-		sharedBundleListener =  speaker -> circuitStateChanged();//the conduit or bundle length changes
+		sharedConduitListener = this::notifySharedChanged;
+		sharedBundleListener = this::notifySharedChanged;
 		setPermanentListeners();
 		prepareCircuit();
 		calculateCircuit();
@@ -988,7 +1175,7 @@ public class Circuit {
 		if(voltageDrop.getMaxVoltageDropPercent() == maxVoltageDropPercent)
 			return;
 		voltageDrop.setMaxVoltageDropPercent(maxVoltageDropPercent);
-		circuitStateChanged();
+		circuitStateChanged("maxVoltageDropPercent");
 	}
 
 	/**Sets up this circuit according to its mode.*/
@@ -1025,7 +1212,10 @@ public class Circuit {
 	 */
 	private void setupSharedBundleMode() {
 		detachFromSharedConduit();
+		//the other circuits in the bundle are notified once
+		sharedBundle.getNotifier().beginBatch();
 		conduitables.forEach(conduitable -> sharedBundle.add(conduitable));
+		sharedBundle.getNotifier().commit();
 		if(!usingCable)//using conductors in bundle, bad practice
 			resultMessages.add(WARNN205);
 	}
@@ -1046,7 +1236,10 @@ public class Circuit {
 	 */
 	private void setupSharedConduitMode() {
 		detachFromSharedBundle();
+		//the other circuits in the conduit are notified once
+		sharedConduit.getNotifier().beginBatch();
 		conduitables.forEach(conduitable -> sharedConduit.add(conduitable));
+		sharedConduit.getNotifier().commit();
 		if(usingCable) //using cables in conduit, bad practice
 			resultMessages.add(WARNN210);
 	}
@@ -1126,9 +1319,11 @@ public class Circuit {
 		if(sharedConduit == this.sharedConduit)
 			return;
 		circuitMode = CircuitMode.SHARED_CONDUIT;
+		//leaves the previous shared conduit or bundle, if any
+		prepareConduitableList();
+		detachFromSharedConduit();
 		sharedConduit.getNotifier().addListener(sharedConduitListener);
 		this.sharedConduit = sharedConduit;
-		prepareConduitableList();
 		setupMode();
 	}
 
@@ -1158,9 +1353,11 @@ public class Circuit {
 		if(sharedBundle == this.sharedBundle)
 			return;
 		circuitMode = CircuitMode.SHARED_BUNDLE;
+		//leaves the previous shared conduit or bundle, if any
+		prepareConduitableList();
+		detachFromSharedBundle();
 		sharedBundle.getNotifier().addListener(sharedBundleListener);
 		this.sharedBundle = sharedBundle;
-		prepareConduitableList();
 		setupMode();
 	}
 
@@ -1215,7 +1412,7 @@ public class Circuit {
 	If no error is found it resets the circuitRecalculationNeeded flag and
 	returns true. Performs the opposite otherwise.*/
 	private boolean calculateCircuit(){
-		if(!circuitChangedRecalculationNeeded)
+		if(stagesToRecalculate == 0)
 			return true;
 		if(!calculatePhase())
 			return false;
@@ -1230,7 +1427,7 @@ public class Circuit {
 		getSharedConduit(). That object will provide the proper trade size. No
 		calculation is done for the conduit size at the circuit level*/
 		if(!resultMessages.hasErrors()) {
-			circuitChangedRecalculationNeeded = false;
+			stagesToRecalculate = 0;
 			return true;
 		}
 		return false;
@@ -1240,16 +1437,26 @@ public class Circuit {
 	conductors or the phase conductors in the cable. Updates the size for all
 	phase conductors.*/
 	private boolean calculatePhase(){
-		sizePerAmpacity = getSizePerAmpacity(false);
-		if(sizePerAmpacity == null) //reasons on resultMessages
-			return false;
-		sizePerVoltageDrop = getSizePerVoltageDrop(false);
-		if(sizePerVoltageDrop == null) //reasons on resultMessages
-			return false;
+		if((stagesToRecalculate & SIZE_PER_AMPACITY_STAGE) != 0 || sizePerAmpacity == null) {
+			calculatedAdjustmentFactor = _getConduitable().getAdjustmentFactor();
+			sizePerAmpacity = getSizePerAmpacity(false);
+			if(sizePerAmpacity == null) //reasons on resultMessages
+				return false;
+		}
+		boolean voltageDropRecalculated = false;
+		if((stagesToRecalculate & SIZE_PER_VOLTAGE_DROP_STAGE) != 0 || sizePerVoltageDrop == null) {
+			sizePerVoltageDrop = getSizePerVoltageDrop(false);
+			if(sizePerVoltageDrop == null) //reasons on resultMessages
+				return false;
+			voltageDropRecalculated = true;
+		}
 		//choosing the biggest one from these two sizes.
 		Size phaseSize = ConductorProperties.getBiggestSize(sizePerAmpacity,
 				sizePerVoltageDrop);
-		if(phaseSize == sizePerVoltageDrop)
+		/*the voltage drop object is shared with other calculations; its
+		messages belong to the phase conductors only if it was just used for
+		them.*/
+		if(phaseSize == sizePerVoltageDrop && voltageDropRecalculated)
 			resultMessages.copyFrom(voltageDrop.getResultMessages());
 		//update the size of all phase conductors
 		setCircuitSize(phaseSize);
@@ -1295,14 +1502,15 @@ public class Circuit {
 	 */
 	public double calculateCircuitAmpacity(Size size){
 		Conduitable conduitable = _getConduitable();
-		double factor1 = getFactor(conduitable, null);
+		FactorContext factorContext = conduitable.getFactorContext();
+		double factor1 = getFactor(factorContext, null);
 		if(factor1 == 0) //Could happen if ambient temp > conductor temp rating
 			return 0;
 
 		if (terminationTempRating != null)
 			return ampacityWhenTempRatingIsKnown(size, conduitable, factor1);
 
-		return ampacityWhenTempRatingIsNotKnown(size, conduitable);
+		return ampacityWhenTempRatingIsNotKnown(size, conduitable, factorContext);
 	}
 
 	/**
@@ -1310,8 +1518,10 @@ public class Circuit {
 	 when the temperature of the termination is not known.
 	 @param size The size of the conduitable.
 	 @param conduitable The conduitable for which the ampacity is requested.
+	 @param factorContext The factor context of the conduitable.
 	 */
-	private double ampacityWhenTempRatingIsNotKnown(Size size, Conduitable conduitable) {
+	private double ampacityWhenTempRatingIsNotKnown(Size size, Conduitable conduitable,
+	                                                FactorContext factorContext) {
 		//future: implement 110.14(C)(1)(4) motors design letter B, C or D..
 		TempRating t_rating = TempRating.T60;
 		double loadCurrentPerSet = load.getNominalCurrent() / numberOfSets;
@@ -1321,7 +1531,7 @@ public class Circuit {
 					TempRating.T75 : TempRating.T60;
 
 		return ConductorProperties.getStandardAmpacity(size, conduitable.getMetal(),
-				t_rating) * conduitable.getCompoundFactor(t_rating) * numberOfSets;
+				t_rating) * factorContext.getCompoundFactor(t_rating) * numberOfSets;
 	}
 
 	/**
@@ -1745,6 +1955,18 @@ public class Circuit {
 		return null;
 	}
 
+	/**
+	 Calculates this circuit (if needed) and returns an immutable copy of its
+	 results. The returned object does not change when this circuit changes
+	 and can be safely shared among threads.
+	 @return The snapshot of this circuit's results.
+	 @see CircuitResult
+	 */
+	public CircuitResult snapshot(){
+		calculateCircuit();
+		return new CircuitResult(this);
+	}
+
 	/**
 	 @return A multiline string describing this circuit, as follow:<br>
 	 <p>- First line, the load description.
@@ -1837,7 +2059,7 @@ Third line, circuit ratings:
 		if(this.terminationTempRating == terminationTempRating)
 			return;
 		this.terminationTempRating = terminationTempRating;
-		circuitStateChanged();
+		circuitStateChanged("terminationTempRating");
 	}
 
 	/**
@@ -1913,7 +2135,7 @@ Third line, circuit ratings:
 			return;
 		privateConduit.setMinimumTrade(minimumTrade);
 		if(circuitMode == CircuitMode.PRIVATE_CONDUIT)
-			circuitStateChanged();
+			circuitStateChanged("minimumTrade");
 	}
 
 	/**
@@ -1926,7 +2148,7 @@ Third line, circuit ratings:
 			return;
 		privateConduit.setType(type);
 		if(circuitMode == CircuitMode.PRIVATE_CONDUIT)
-			circuitStateChanged();
+			circuitStateChanged("type");
 	}
 
 	/**
@@ -1939,7 +2161,7 @@ Third line, circuit ratings:
 			return;
 		privateConduit.setNipple(isNipple);
 		if(circuitMode == CircuitMode.PRIVATE_CONDUIT)
-			circuitStateChanged();
+			circuitStateChanged("isNipple");
 	}
 
 	/**
@@ -1952,6 +2174,8 @@ Third line, circuit ratings:
 	 */
 	public void setPrivateConduitRoofTopDistance(double roofTopDistance) {
 		privateConduit.setRoofTopDistance(roofTopDistance);
+		if(circuitMode == CircuitMode.PRIVATE_CONDUIT)
+			circuitStateChanged("roofTopDistance");
 	}
 
 	/**
@@ -1963,7 +2187,7 @@ Third line, circuit ratings:
 			return;
 		privateConduit.resetRoofTop();
 		if(circuitMode == CircuitMode.PRIVATE_CONDUIT)
-			circuitStateChanged();
+			circuitStateChanged("roofTopDistance");
 	}
 
 	/**
@@ -1991,7 +2215,7 @@ Third line, circuit ratings:
 			return;
 		privateBundle.setBundlingLength(length);
 		if(circuitMode == CircuitMode.PRIVATE_BUNDLE)
-			circuitStateChanged();
+			circuitStateChanged("bundlingLength");
 	}
 
 
@@ -2073,6 +2297,68 @@ Third line, circuit ratings:
 		return sharedBundle;
 	}
 
+	/**
+	 @return The shared conduit or the shared bundle used by this circuit, or
+	 null if this circuit is not in shared conduit or shared bundle mode.
+	 Unlike {@link #getSharedConduit()} and {@link #getSharedBundle()}, this
+	 method does not calculate the circuit.
+	 */
+	Object getSharedContainer() {
+		return sharedConduit != null ? sharedConduit : sharedBundle;
+	}
+
+	/**
+	 @return True if some calculation stage of this circuit is out of date.
+	 */
+	boolean needsRecalculation() {
+		return stagesToRecalculate != 0;
+	}
+
+	/**
+	 Calculates the stages of this circuit that are out of date.
+	 @return True if the circuit was calculated without errors.
+	 */
+	boolean recalculate() {
+		return calculateCircuit();
+	}
+
+	/**
+	 @return The adjustment factor of this circuit's phase conductors or
+	 cables in their conduit or bundle, without calculating the circuit.
+	 */
+	double getConduitableAdjustmentFactor() {
+		return _getConduitable().getAdjustmentFactor();
+	}
+
+	/**
+	 @return The adjustment factor of this circuit's phase conductors or
+	 cables the last time its size per ampacity was calculated, or NaN if it
+	 was never calculated. If it is different from
+	 {@link #getConduitableAdjustmentFactor()}, the conduit or bundle changed
+	 after the calculation.
+	 */
+	double getCalculatedAdjustmentFactor() {
+		return calculatedAdjustmentFactor;
+	}
+
+	/**
+	 @return The size of this circuit's phase conductors or cables, without
+	 calculating the circuit.
+	 */
+	Size getConduitableSize() {
+		return _getSize();
+	}
+
+	/**
+	 Marks as out of date the stages that depend on the adjustment factor of
+	 this circuit's conduitables, after the other conduitables in its conduit
+	 or bundle changed in a way that is not notified to this circuit (like
+	 the number of current-carrying conductors of another circuit).
+	 */
+	void adjustmentFactorChanged() {
+		stagesToRecalculate |= SIZE_PER_AMPACITY_STAGE | PROTECTION_STAGE;
+	}
+
 	/**
 	 @return The length of this circuit, in feet.
 	 */
@@ -2089,7 +2375,7 @@ Third line, circuit ratings:
 		if(_getConduitable().getLength() == length)
 			return;
 		_getConduitable().setLength(length);
-		circuitStateChanged();
+		circuitStateChanged("length");
 	}
 
 	/**
@@ -2100,7 +2386,7 @@ Third line, circuit ratings:
 		if(_getConduitable().getAmbientTemperatureF() == temperature)
 			return;
 		_getConduitable().setAmbientTemperatureF(temperature);
-		circuitStateChanged();
+		circuitStateChanged("ambientTemperatureF");
 	}
 
 	/**
@@ -2112,7 +2398,7 @@ Third line, circuit ratings:
 		if(_getConduitable().getInsulation() == insul)
 			return;
 		_getConduitable().setInsulation(insul);
-		circuitStateChanged();
+		circuitStateChanged("insulation");
 	}
 
 	/**
@@ -2124,7 +2410,7 @@ Third line, circuit ratings:
 		if(_getConduitable().getMetal() == metal)
 			return;
 		_getConduitable().setMetal(metal);
-		circuitStateChanged();
+		circuitStateChanged("metal");
 	}
 
 	/** Returns Conduitable interface to this circuit's internal cable or
@@ -2159,7 +2445,7 @@ Third line, circuit ratings:
 		if(_100PercentRated == flag)
 			return;
 		_100PercentRated = flag;
-		circuitStateChanged();
+		circuitStateChanged("_100PercentRated");
 	}
 
 	/**
@@ -0,0 +1,120 @@
+package eecalcs.circuits;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ Sizes a large number of independent circuits in parallel.
+ <p>Each {@link CircuitSpec} is turned into its own {@link Circuit} object
+ which is calculated by the very same logic used interactively (size per
+ ampacity and per voltage drop, neutral, OCPD rating and EGC). Since every
+ circuit owns its load, conductors and conduit, the specs can be evaluated in
+ any order by any number of threads; the work is split among the workers of
+ a {@link ForkJoinPool}.
+ <p>The returned list has one {@link CircuitResult} per spec, in the same
+ order as the given specs. When a {@link CircuitCache} is given, identical
+ specs are sized once and their result is reused.
+ */
+public class CircuitBatch {
+	/**Number of specs below which a task is not split any further.*/
+	private static final int THRESHOLD = 16;
+
+	/**
+	 Sizes all the given circuit specs using the common fork/join pool.
+	 @param specs The list of circuit specs to be sized. Cannot be null nor
+	 contain null elements.
+	 @return An unmodifiable list with the results of each spec, in the same
+	 order as the given specs.
+	 */
+	public static List<CircuitResult> sizeAll(List<CircuitSpec> specs) {
+		return sizeAll(specs, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 Sizes all the given circuit specs using the given fork/join pool.
+	 @param specs The list of circuit specs to be sized. Cannot be null nor
+	 contain null elements.
+	 @param pool The pool whose workers will perform the calculations.
+	 @return An unmodifiable list with the results of each spec, in the same
+	 order as the given specs.
+	 */
+	public static List<CircuitResult> sizeAll(List<CircuitSpec> specs,
+	                                          ForkJoinPool pool) {
+		return sizeAll(specs, pool, null);
+	}
+
+	/**
+	 Sizes all the given circuit specs using the given fork/join pool and
+	 reusing the results held by the given cache.
+	 @param specs The list of circuit specs to be sized. Cannot be null nor
+	 contain null elements.
+	 @param pool The pool whose workers will perform the calculations.
+	 @param cache The cache used to obtain and store the results. If null, no
+	 cache is used.
+	 @return An unmodifiable list with the results of each spec, in the same
+	 order as the given specs.
+	 */
+	public static List<CircuitResult> sizeAll(List<CircuitSpec> specs,
+	                                          ForkJoinPool pool,
+	                                          CircuitCache cache) {
+		if(specs == null)
+			throw new IllegalArgumentException("Specs parameter cannot be null.");
+		if(pool == null)
+			throw new IllegalArgumentException("Pool parameter cannot be null.");
+		CircuitSpec[] in = specs.toArray(new CircuitSpec[0]);
+		for(CircuitSpec spec: in)
+			if(spec == null)
+				throw new IllegalArgumentException("Specs cannot contain null elements.");
+		CircuitResult[] out = new CircuitResult[in.length];
+		pool.invoke(new SizingTask(in, out, cache, 0, in.length));
+		return Collections.unmodifiableList(Arrays.asList(out));
+	}
+
+	/**
+	 Sizes one circuit spec in the calling thread.
+	 @param spec The circuit spec to be sized. Cannot be null.
+	 @return The result of the calculation.
+	 */
+	public static CircuitResult size(CircuitSpec spec) {
+		if(spec == null)
+			throw new IllegalArgumentException("Spec parameter cannot be null.");
+		return spec.toCircuit().snapshot();
+	}
+
+	/**
+	 Task that sizes the specs in the range [from, to) splitting itself in
+	 halves until the range is small enough.
+	 */
+	private static class SizingTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final CircuitSpec[] in;
+		private final CircuitResult[] out;
+		private final CircuitCache cache;
+		private final int from;
+		private final int to;
+
+		SizingTask(CircuitSpec[] in, CircuitResult[] out, CircuitCache cache,
+		           int from, int to) {
+			this.in = in;
+			this.out = out;
+			this.cache = cache;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(to - from <= THRESHOLD) {
+				for(int i = from; i < to; i++)
+					out[i] = cache == null ? size(in[i]) : cache.get(in[i]);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new SizingTask(in, out, cache, from, middle),
+					new SizingTask(in, out, cache, middle, to));
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package eecalcs.circuits;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ Bounded cache of circuit calculation results, keyed by the circuit's input
+ parameters (a {@link CircuitSpec}).
+ <p>Across a building many circuits share exactly the same design. Since a
+ spec fully describes a circuit and a {@link CircuitResult} is immutable, the
+ result of sizing a spec can be reused by every other equal spec instead of
+ being calculated again.
+ <p>When the cache is full, the least recently used entry is evicted. The
+ number of hits, misses and evictions are counted so the effectiveness of the
+ cache can be monitored.
+ <p>This class is thread safe. A result is calculated outside the lock, so
+ two threads asking for the same new spec at the same time could both
+ calculate it; both obtain equal results.
+ */
+public class CircuitCache {
+	private final int maxEntries;
+	private final LinkedHashMap<CircuitSpec, CircuitResult> results;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 Creates a cache that can hold up to the given number of results.
+	 @param maxEntries The maximum number of results to keep. Must be greater
+	 than zero.
+	 */
+	public CircuitCache(int maxEntries) {
+		if(maxEntries <= 0)
+			throw new IllegalArgumentException("Maximum number of entries must be greater than zero.");
+		this.maxEntries = maxEntries;
+		//access ordered: the eldest entry is the least recently used one.
+		results = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CircuitSpec, CircuitResult> eldest) {
+				if(size() > CircuitCache.this.maxEntries) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 Returns the result of sizing the given spec. If an equal spec was sized
+	 before and its result is still in this cache, that result is returned;
+	 otherwise the spec is sized and its result is added to this cache.
+	 @param spec The circuit spec to be sized. Cannot be null.
+	 @return The result of the calculation.
+	 */
+	public CircuitResult get(CircuitSpec spec) {
+		if(spec == null)
+			throw new IllegalArgumentException("Spec parameter cannot be null.");
+		synchronized(results) {
+			CircuitResult result = results.get(spec);
+			if(result != null) {
+				hits++;
+				return result;
+			}
+			misses++;
+		}
+		CircuitResult result = CircuitBatch.size(spec);
+		synchronized(results) {
+			results.put(spec, result);
+		}
+		return result;
+	}
+
+	/**
+	 Removes all the results from this cache. The statistics are not reset.
+	 */
+	public void clear() {
+		synchronized(results) {
+			results.clear();
+		}
+	}
+
+	/**
+	 @return The number of results currently held by this cache.
+	 */
+	public int size() {
+		synchronized(results) {
+			return results.size();
+		}
+	}
+
+	/**
+	 @return The maximum number of results this cache can hold.
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 @return The number of requests that were served from this cache.
+	 */
+	public long getHitCount() {
+		synchronized(results) {
+			return hits;
+		}
+	}
+
+	/**
+	 @return The number of requests that required a calculation.
+	 */
+	public long getMissCount() {
+		synchronized(results) {
+			return misses;
+		}
+	}
+
+	/**
+	 @return The number of results removed to make room for new ones.
+	 */
+	public long getEvictionCount() {
+		synchronized(results) {
+			return evictions;
+		}
+	}
+
+	/**
+	 @return The ratio of hits to the total number of requests, or zero if no
+	 request has been made yet.
+	 */
+	public double getHitRate() {
+		synchronized(results) {
+			long requests = hits + misses;
+			return requests == 0 ? 0 : (double) hits / requests;
+		}
+	}
+}
@@ -0,0 +1,440 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.Insul;
+import eecalcs.conductors.Metal;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+import eecalcs.loads.ACMotor;
+import eecalcs.loads.Horsepower;
+import eecalcs.loads.MotorProperties;
+import eecalcs.systems.TempRating;
+import eecalcs.systems.VoltageSystemAC;
+import tools.ROResultMessages;
+import tools.ResultMessage;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ Sizes the circuits described by the rows of a CSV file and writes the
+ results to another CSV file, one output row per input row and in the same
+ order.
+ <p>The calculation is a pipeline of three stages: a reader thread reads the
+ input rows, a pool of workers builds and calculates a {@link Circuit} for
+ each row, and the calling thread writes the results. At most a fixed number
+ of rows (the window) are in the pipeline at any time: when the window is
+ full the reader waits for the writer, and the writer waits for the result
+ of the oldest row. Hence, the memory used does not depend on the size of
+ the input.
+ <p>The first row of the input is a header with the names of the columns,
+ which can be in any order. Names and enum values are not case-sensitive and
+ an empty cell takes the default value of {@link CircuitSpec.Builder}. The
+ recognized columns are:
+ <ul>
+ <li><b>id</b>: any text, copied to the output.</li>
+ <li><b>load</b>: <i>general</i> (default) or <i>motor</i>.</li>
+ <li><b>voltage</b>: a {@link VoltageSystemAC} name, like v208_3ph_4w.</li>
+ <li><b>current</b>, <b>powerFactor</b>, <b>continuous</b>, <b>nonlinear</b>:
+ for general loads only.</li>
+ <li><b>motorType</b> (a {@link MotorProperties.Type} name),
+ <b>motorVoltage</b> and <b>horsepower</b> (a {@link Horsepower} name): for
+ motors only.</li>
+ <li><b>length</b>, <b>ambientF</b>, <b>insulation</b>, <b>metal</b>,
+ <b>sets</b>, <b>terminationTempRating</b>, <b>maxVoltageDrop</b>,
+ <b>installation</b> (a {@link CircuitSpec.Installation} name),
+ <b>conduitType</b>, <b>cable</b>, <b>oneEGC</b> and
+ <b>100PercentRated</b>.</li>
+ </ul>
+ <p>The output columns are id, status (OK, WARNING or ERROR), phaseSize,
+ neutralSize, groundingSize, sets, ampacity, OCPD, conduitTradeSize,
+ conduitFill, voltageDrop and messages. Rows that cannot be read are
+ written with the ERROR status and the reason in the messages column.
+ <p>Cells cannot contain line breaks.
+ */
+public class CircuitCsvCalculator {
+	private static final String OUTPUT_HEADER = "id,status,phaseSize," +
+			"neutralSize,groundingSize,sets,ampacity,OCPD,conduitTradeSize," +
+			"conduitFill,voltageDrop,messages";
+	/**Marks the end of the input in the queue of pending rows.*/
+	private static final Future<String> END = CompletableFuture.completedFuture(null);
+	private final int workers;
+	private final int window;
+
+	/**
+	 Creates a calculator that uses one worker per available processor and
+	 a window of 64 rows per worker.
+	 */
+	public CircuitCsvCalculator() {
+		this(Runtime.getRuntime().availableProcessors(),
+				64 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 Creates a calculator.
+	 @param workers The number of threads that calculate circuits. Must be
+	 bigger than zero.
+	 @param window The maximum number of rows in the pipeline at any time.
+	 Must be bigger than zero.
+	 */
+	public CircuitCsvCalculator(int workers, int window) {
+		if(workers <= 0)
+			throw new IllegalArgumentException("Workers parameter must be bigger than zero.");
+		if(window <= 0)
+			throw new IllegalArgumentException("Window parameter must be bigger than zero.");
+		this.workers = workers;
+		this.window = window;
+	}
+
+	/**
+	 Calculates the circuits of the given input file and writes the results
+	 to the given output file, using UTF-8.
+	 @param input The CSV file with the circuits.
+	 @param output The CSV file where the results are written. It is created
+	 or overwritten.
+	 @return The number of rows written, without the header.
+	 @throws IOException If the files cannot be read or written.
+	 */
+	public long calculate(Path input, Path output) throws IOException {
+		try (Reader in = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+		     Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+			return calculate(in, out);
+		}
+	}
+
+	/**
+	 Calculates the circuits read from the given reader and writes the
+	 results to the given writer. The writer is flushed but not closed.
+	 @param in The source of the CSV rows.
+	 @param out The destination of the CSV results.
+	 @return The number of rows written, without the header.
+	 @throws IOException If the input cannot be read or the output cannot be
+	 written.
+	 */
+	public long calculate(Reader in, Writer out) throws IOException {
+		if(in == null || out == null)
+			throw new IllegalArgumentException("Parameters cannot be null.");
+		BufferedReader reader = in instanceof BufferedReader ?
+				(BufferedReader) in : new BufferedReader(in);
+		String header = reader.readLine();
+		if(header == null)
+			throw new IOException("The input is empty; a header row is expected.");
+		Map<String, Integer> columns = readHeader(header);
+
+		BlockingQueue<Future<String>> pending = new ArrayBlockingQueue<>(window);
+		ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+			Thread thread = new Thread(r, "circuit-csv-worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		IOException[] readError = new IOException[1];
+		AtomicBoolean stopped = new AtomicBoolean();
+		Thread readerThread = new Thread(() -> {
+			try {
+				String line;
+				while(!stopped.get() && (line = reader.readLine()) != null) {
+					if(line.trim().isEmpty())
+						continue;
+					String row = line;
+					pending.put(pool.submit(() -> calculateRow(columns, row)));
+				}
+				if(!stopped.get())
+					pending.put(END);
+			}
+			catch (IOException e) {
+				readError[0] = e;
+				try {
+					pending.put(END);
+				}
+				catch (InterruptedException ignored) {
+				}
+			}
+			catch (InterruptedException | RejectedExecutionException e) {
+				//the writer failed and stopped the pipeline
+			}
+		}, "circuit-csv-reader");
+		readerThread.setDaemon(true);
+		readerThread.start();
+
+		long count = 0;
+		try {
+			out.write(OUTPUT_HEADER);
+			out.write('\n');
+			Future<String> result;
+			while((result = pending.take()) != END) {
+				out.write(result.get());
+				out.write('\n');
+				count++;
+			}
+			out.flush();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("The calculation was interrupted.");
+		}
+		catch (ExecutionException e) {
+			throw new IOException("A row could not be calculated.", e.getCause());
+		}
+		finally {
+			stopped.set(true);
+			readerThread.interrupt();
+			pool.shutdownNow();
+			joinUninterruptibly(readerThread);
+		}
+		if(readError[0] != null)
+			throw readError[0];
+		return count;
+	}
+
+	/**
+	 Waits for the given thread to finish. If the calling thread is
+	 interrupted while waiting, it keeps waiting and its interrupt status is
+	 restored afterwards.
+	 */
+	private static void joinUninterruptibly(Thread thread) {
+		boolean interrupted = false;
+		while(true) {
+			try {
+				thread.join();
+				break;
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if(interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	/**
+	 Returns the index of each column of the given header, by lower case name.
+	 */
+	private static Map<String, Integer> readHeader(String header) {
+		List<String> names = splitRow(header);
+		Map<String, Integer> columns = new HashMap<>();
+		for(int i = 0; i < names.size(); i++)
+			columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+		return Collections.unmodifiableMap(columns);
+	}
+
+	/**
+	 Calculates one row and returns its output row. It never throws:
+	 problems with the row are reported in the output row.
+	 */
+	static String calculateRow(Map<String, Integer> columns, String line) {
+		Row row = new Row(columns, splitRow(line));
+		try {
+			return format(row.get("id"), row.calculate());
+		}
+		catch (RuntimeException e) {
+			String message = e.getMessage() == null ? e.toString() : e.getMessage();
+			return join(row.get("id"), "ERROR", "", "", "", "", "", "", "", "", "",
+					message);
+		}
+	}
+
+	private static String format(String id, CircuitResult result) {
+		ROResultMessages messages = result.getResultMessages();
+		String status = messages.hasErrors() ? "ERROR" :
+				messages.hasWarnings() ? "WARNING" : "OK";
+		StringBuilder text = new StringBuilder();
+		for(ResultMessage message: messages.getMessages()) {
+			if(text.length() > 0)
+				text.append("; ");
+			text.append(message.number).append(": ").append(message.message);
+		}
+		Trade trade = result.getConduitTradeSize();
+		return join(id, status, name(result.getPhaseSize()),
+				name(result.getNeutralSize()), name(result.getGroundingSize()),
+				String.valueOf(result.getNumberOfSets()),
+				number(result.getCircuitAmpacity()),
+				String.valueOf(result.getOCPDRating()),
+				trade == null ? "" : trade.name(),
+				trade == null ? "" : number(result.getConduitFillPercentage()),
+				number(result.getVoltageDropPercentage()), text.toString());
+	}
+
+	private static String name(Size size) {
+		return size == null ? "" : size.name();
+	}
+
+	private static String number(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+	//region CSV
+	/**
+	 Splits a CSV row in its cells. Cells can be quoted, and quotes inside
+	 quoted cells are escaped by doubling them.
+	 */
+	static List<String> splitRow(String line) {
+		List<String> cells = new ArrayList<>();
+		StringBuilder cell = new StringBuilder();
+		boolean quoted = false;
+		for(int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if(quoted) {
+				if(c == '"') {
+					if(i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						cell.append('"');
+						i++;
+					}
+					else
+						quoted = false;
+				}
+				else
+					cell.append(c);
+			}
+			else if(c == '"')
+				quoted = true;
+			else if(c == ',') {
+				cells.add(cell.toString());
+				cell.setLength(0);
+			}
+			else
+				cell.append(c);
+		}
+		cells.add(cell.toString());
+		return cells;
+	}
+
+	/**
+	 Joins the given cells in a CSV row, quoting the ones that need it.
+	 */
+	private static String join(String... cells) {
+		StringBuilder line = new StringBuilder();
+		for(int i = 0; i < cells.length; i++) {
+			if(i > 0)
+				line.append(',');
+			String cell = cells[i];
+			if(cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0)
+				line.append('"').append(cell.replace("\"", "\"\"")).append('"');
+			else
+				line.append(cell);
+		}
+		return line.toString();
+	}
+	//endregion
+
+	/**
+	 One input row, with the methods to read its cells and to calculate it.
+	 */
+	private static class Row {
+		private final Map<String, Integer> columns;
+		private final List<String> cells;
+
+		Row(Map<String, Integer> columns, List<String> cells) {
+			this.columns = columns;
+			this.cells = cells;
+		}
+
+		/**
+		 Returns the trimmed cell of the given column, or an empty string if
+		 the column does not exist.
+		 */
+		String get(String column) {
+			Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+			if(index == null || index >= cells.size())
+				return "";
+			return cells.get(index).trim();
+		}
+
+		CircuitResult calculate() {
+			CircuitSpec.Builder builder = new CircuitSpec.Builder();
+			VoltageSystemAC voltage = enumValue(VoltageSystemAC.class, "voltage");
+			boolean motor = get("load").equalsIgnoreCase("motor");
+			if(!motor && !get("load").isEmpty() && !get("load").equalsIgnoreCase("general"))
+				throw new IllegalArgumentException("Unknown load: " + get("load") + ".");
+			if(voltage == null)
+				throw new IllegalArgumentException("The voltage is required.");
+			if(!motor) {
+				if(get("current").isEmpty())
+					throw new IllegalArgumentException("The current is required.");
+				builder.setLoad(voltage, doubleValue("current"));
+				if(!get("powerFactor").isEmpty())
+					builder.setPowerFactor(doubleValue("powerFactor"));
+				if(!get("continuous").isEmpty())
+					builder.setContinuous(booleanValue("continuous"));
+				if(!get("nonlinear").isEmpty())
+					builder.setNonlinear(booleanValue("nonlinear"));
+			}
+			if(!get("length").isEmpty())
+				builder.setLength(doubleValue("length"));
+			if(!get("ambientF").isEmpty())
+				builder.setAmbientTemperatureF((int) Math.round(doubleValue("ambientF")));
+			Insul insulation = enumValue(Insul.class, "insulation");
+			if(insulation != null)
+				builder.setInsulation(insulation);
+			Metal metal = enumValue(Metal.class, "metal");
+			if(metal != null)
+				builder.setMetal(metal);
+			if(!get("sets").isEmpty())
+				builder.setNumberOfSets((int) Math.round(doubleValue("sets")));
+			builder.setTerminationTempRating(enumValue(TempRating.class, "terminationTempRating"));
+			if(!get("maxVoltageDrop").isEmpty())
+				builder.setMaxVoltageDropPercent(doubleValue("maxVoltageDrop"));
+			CircuitSpec.Installation installation =
+					enumValue(CircuitSpec.Installation.class, "installation");
+			if(installation != null)
+				builder.setInstallation(installation);
+			Type conduitType = enumValue(Type.class, "conduitType");
+			if(conduitType != null)
+				builder.setConduitType(conduitType);
+			if(!get("cable").isEmpty())
+				builder.setUsingCable(booleanValue("cable"));
+			if(!get("oneEGC").isEmpty())
+				builder.setUsingOneEGC(booleanValue("oneEGC"));
+			if(!get("100PercentRated").isEmpty())
+				builder.set100PercentRated(booleanValue("100PercentRated"));
+
+			if(!motor)
+				return builder.build().toCircuit().snapshot();
+
+			MotorProperties.Type motorType = enumValue(MotorProperties.Type.class, "motorType");
+			Horsepower horsepower = enumValue(Horsepower.class, "horsepower");
+			if(motorType == null || horsepower == null || get("motorVoltage").isEmpty())
+				throw new IllegalArgumentException("The motor type, motor voltage " +
+						"and horsepower are required for motors.");
+			ACMotor load = new ACMotor(motorType,
+					(int) Math.round(doubleValue("motorVoltage")), horsepower, voltage);
+			return builder.build().toCircuit(load).snapshot();
+		}
+
+		private double doubleValue(String column) {
+			try {
+				return Double.parseDouble(get(column));
+			}
+			catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid " + column + ": " + get(column) + ".");
+			}
+		}
+
+		private boolean booleanValue(String column) {
+			String value = get(column).toLowerCase(Locale.ROOT);
+			if(value.equals("true") || value.equals("yes") || value.equals("1"))
+				return true;
+			if(value.equals("false") || value.equals("no") || value.equals("0"))
+				return false;
+			throw new IllegalArgumentException("Invalid " + column + ": " + get(column) + ".");
+		}
+
+		/**
+		 Returns the constant of the given enum whose name is the cell of the
+		 given column, or null if the cell is empty.
+		 */
+		private <E extends Enum<E>> E enumValue(Class<E> enumClass, String column) {
+			String value = get(column);
+			if(value.isEmpty())
+				return null;
+			for(E constant: enumClass.getEnumConstants())
+				if(constant.name().equalsIgnoreCase(value))
+					return constant;
+			throw new IllegalArgumentException("Invalid " + column + ": " + value + ".");
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.RoConductor;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.ROConduit;
+import eecalcs.conduits.Trade;
+import eecalcs.voltagedrop.ROVoltDrop;
+import tools.ROResultMessages;
+import tools.ResultMessage;
+import tools.ResultMessages;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ Immutable value holding the outcome of the calculation of a {@link Circuit}
+ object, as returned by {@link Circuit#snapshot()}. Once built, a result does
+ not reference the circuit it was obtained from (nor any of its conductors,
+ conduits, loads or result messages), so it can be cached, serialized and
+ shared among threads without any locking.
+ <p>A null size means the size could not be determined; check
+ {@link #getResultMessages()} for the causes.
+ */
+public final class CircuitResult implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private final CircuitMode circuitMode;
+	private final int numberOfSets;
+	private final Size phaseSize;
+	private final Size neutralSize;
+	private final Size groundingSize;
+	private final Size sizePerAmpacity;
+	private final Size sizePerVoltageDrop;
+	private final double circuitAmpacity;
+	private final int OCPDRating;
+	private final Trade conduitTradeSize;
+	private final double conduitFillPercentage;
+	private final double voltageDropPercentage;
+	private final double maxVoltageDropPercent;
+	private final double maxLength;
+	/**The messages are kept as plain arrays since ResultMessage objects are
+	 not serializable.*/
+	private final int[] messageNumbers;
+	private final String[] messageTexts;
+
+	/**
+	 Builds a result from the current state of the given circuit. The circuit
+	 must have been calculated already.
+	 @param circuit The circuit whose results are copied into this object.
+	 */
+	CircuitResult(Circuit circuit) {
+		List<ResultMessage> messages = circuit.getResultMessages().getMessages();
+		messageNumbers = new int[messages.size()];
+		messageTexts = new String[messages.size()];
+		for(int i = 0; i < messages.size(); i++) {
+			messageNumbers[i] = messages.get(i).number;
+			messageTexts[i] = messages.get(i).message;
+		}
+		circuitMode = circuit.getCircuitMode();
+		numberOfSets = circuit.getNumberOfSets();
+		phaseSize = circuit.getCircuitSize();
+		if(circuit.isUsingCable()) {
+			neutralSize = circuit.getCable().getNeutralConductorSize();
+			groundingSize = circuit.getCable().getGroundingConductorSize();
+		}
+		else {
+			RoConductor neutral = circuit.getNeutralConductor();
+			neutralSize = neutral == null ? null : neutral.getSize();
+			groundingSize = circuit.getGroundingConductor().getSize();
+		}
+		circuitAmpacity = circuit.getCircuitAmpacity();
+		OCPDRating = circuit.getOCPDRating();
+		ROConduit conduit = null;
+		if(circuitMode == CircuitMode.PRIVATE_CONDUIT)
+			conduit = circuit.getPrivateConduit();
+		else if(circuitMode == CircuitMode.SHARED_CONDUIT)
+			conduit = circuit.getSharedConduit();
+		conduitTradeSize = conduit == null ? null : conduit.getTradeSize();
+		conduitFillPercentage = conduit == null ? 0 : conduit.getFillPercentage();
+		sizePerAmpacity = circuit.getCalculatedSizePerAmpacity();
+		sizePerVoltageDrop = circuit.getCalculatedSizePerVoltageDrop();
+		ROVoltDrop voltageDrop = circuit.getPhaseVoltageDrop();
+		voltageDropPercentage = voltageDrop.getACVoltageDropPercentage();
+		maxVoltageDropPercent = voltageDrop.getMaxVoltageDropPercent();
+		maxLength = voltageDrop.getMaxLengthACForActualConductor();
+	}
+
+	/**
+	 @return The mode of the circuit when the result was taken.
+	 */
+	public CircuitMode getCircuitMode() {
+		return circuitMode;
+	}
+
+	/**
+	 @return The number of sets in parallel.
+	 */
+	public int getNumberOfSets() {
+		return numberOfSets;
+	}
+
+	/**
+	 @return The size of the phase conductors, or null if it could not be
+	 determined.
+	 */
+	public Size getPhaseSize() {
+		return phaseSize;
+	}
+
+	/**
+	 @return The size of the neutral conductor, or null if the circuit does
+	 not have a neutral.
+	 */
+	public Size getNeutralSize() {
+		return neutralSize;
+	}
+
+	/**
+	 @return The size of the equipment grounding conductor.
+	 */
+	public Size getGroundingSize() {
+		return groundingSize;
+	}
+
+	/**
+	 @return The size of the phase conductors per ampacity only.
+	 */
+	public Size getSizePerAmpacity() {
+		return sizePerAmpacity;
+	}
+
+	/**
+	 @return The size of the phase conductors per voltage drop only.
+	 */
+	public Size getSizePerVoltageDrop() {
+		return sizePerVoltageDrop;
+	}
+
+	/**
+	 @return The ampacity of the circuit conductors under the circuit's
+	 installation conditions.
+	 */
+	public double getCircuitAmpacity() {
+		return circuitAmpacity;
+	}
+
+	/**
+	 @return The rating of the circuit's OCPD.
+	 */
+	public int getOCPDRating() {
+		return OCPDRating;
+	}
+
+	/**
+	 @return The trade size of the conduit used by the circuit, or null if the
+	 circuit is not in a conduit mode.
+	 */
+	public Trade getConduitTradeSize() {
+		return conduitTradeSize;
+	}
+
+	/**
+	 @return The fill percentage of the conduit used by the circuit, or zero
+	 if the circuit is not in a conduit mode.
+	 */
+	public double getConduitFillPercentage() {
+		return conduitFillPercentage;
+	}
+
+	/**
+	 @return The AC voltage drop in percentage of the phase conductors.
+	 */
+	public double getVoltageDropPercentage() {
+		return voltageDropPercentage;
+	}
+
+	/**
+	 @return The maximum allowed voltage drop in percentage.
+	 */
+	public double getMaxVoltageDropPercent() {
+		return maxVoltageDropPercent;
+	}
+
+	/**
+	 @return The maximum length of the phase conductors for which the
+	 voltage drop does not exceed the maximum allowed value.
+	 */
+	public double getMaxLength() {
+		return maxLength;
+	}
+
+	/**
+	 @return The error and warning messages produced by the calculation, as a
+	 read-only object. Every call returns a new copy of the messages.
+	 */
+	public ROResultMessages getResultMessages() {
+		ResultMessages resultMessages = new ResultMessages();
+		for(int i = 0; i < messageNumbers.length; i++)
+			resultMessages.add(messageTexts[i], messageNumbers[i]);
+		return resultMessages;
+	}
+}
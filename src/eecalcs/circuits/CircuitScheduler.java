@@ -0,0 +1,264 @@
+package eecalcs.circuits;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ Recalculates all the circuits of a project in parallel.
+ <p>Circuits depend on each other only through the objects they share: a
+ shared {@link eecalcs.conduits.Conduit} or
+ {@link eecalcs.conductors.Bundle}, where the number of current-carrying
+ conductors of one circuit changes the adjustment factor of the others, or
+ a load object used by more than one circuit. The scheduler partitions the
+ circuits into connected components with a union-find over those shared
+ objects. The circuits of one component are recalculated in the same
+ thread by a {@link SharedRacewaySolver}, while different components are
+ recalculated in parallel by the workers of a {@link ForkJoinPool}. A circuit in free
+ air, in a private conduit or in a private bundle is a component by itself.
+ <p>The components are determined when the scheduler is created. If a
+ circuit is moved to another conduit or bundle afterwards, a new scheduler
+ must be created. The circuits must not be modified by other threads while
+ they are being recalculated.
+ */
+public final class CircuitScheduler {
+	/**Number of circuits below which a task is not split any further.*/
+	private static final int THRESHOLD = 16;
+	private final Circuit[] circuits;
+	/**Indexes of the circuits, grouped by component.*/
+	private final int[] order;
+	/**Start of each component in {@link #order}, plus the total count.*/
+	private final int[] componentStart;
+	private final int[] componentOfCircuit;
+	/**The solver of each component with more than one circuit, created the
+	 first time the component is recalculated.*/
+	private final SharedRacewaySolver[] solvers;
+	/**The outcome of the last recalculation of each component.*/
+	private final SharedRacewaySolver.Outcome[] outcomes;
+
+	/**
+	 Creates a scheduler for the given circuits and partitions them into
+	 components.
+	 @param circuits The circuits of the project. Cannot be null nor contain
+	 null elements.
+	 */
+	public CircuitScheduler(List<Circuit> circuits) {
+		if(circuits == null)
+			throw new IllegalArgumentException("Circuits parameter cannot be null.");
+		this.circuits = circuits.toArray(new Circuit[0]);
+		for(Circuit circuit: this.circuits)
+			if(circuit == null)
+				throw new IllegalArgumentException("Circuits cannot contain null elements.");
+		int[] parent = new int[this.circuits.length];
+		int[] size = new int[this.circuits.length];
+		for(int i = 0; i < parent.length; i++) {
+			parent[i] = i;
+			size[i] = 1;
+		}
+		/*the first circuit found for each shared object; the circuit itself
+		is included in case it is listed more than once.*/
+		Map<Object, Integer> firstUser = new IdentityHashMap<>();
+		for(int i = 0; i < this.circuits.length; i++) {
+			Circuit circuit = this.circuits[i];
+			union(parent, size, i, firstUser(firstUser, circuit, i));
+			Object container = circuit.getSharedContainer();
+			if(container != null)
+				union(parent, size, i, firstUser(firstUser, container, i));
+			if(circuit.getLoad() != null)
+				union(parent, size, i, firstUser(firstUser, circuit.getLoad(), i));
+		}
+
+		//components are numbered in the order of their first circuit
+		componentOfCircuit = new int[this.circuits.length];
+		int[] componentOfRoot = new int[this.circuits.length];
+		Arrays.fill(componentOfRoot, -1);
+		int count = 0;
+		for(int i = 0; i < this.circuits.length; i++) {
+			int root = find(parent, i);
+			if(componentOfRoot[root] == -1)
+				componentOfRoot[root] = count++;
+			componentOfCircuit[i] = componentOfRoot[root];
+		}
+		componentStart = new int[count + 1];
+		for(int component: componentOfCircuit)
+			componentStart[component + 1]++;
+		for(int c = 0; c < count; c++)
+			componentStart[c + 1] += componentStart[c];
+		order = new int[this.circuits.length];
+		int[] next = Arrays.copyOf(componentStart, count);
+		for(int i = 0; i < this.circuits.length; i++)
+			order[next[componentOfCircuit[i]]++] = i;
+		solvers = new SharedRacewaySolver[count];
+		outcomes = new SharedRacewaySolver.Outcome[count];
+	}
+
+	/**
+	 @return The first circuit that uses the given object. If there is none
+	 yet, the given circuit is registered as such.
+	 */
+	private static int firstUser(Map<Object, Integer> firstUser, Object shared,
+	                             int circuit) {
+		Integer first = firstUser.putIfAbsent(shared, circuit);
+		return first == null ? circuit : first;
+	}
+
+	/**
+	 @return The root of the set the given element belongs to. The path is
+	 halved on the way.
+	 */
+	private static int find(int[] parent, int element) {
+		while(parent[element] != element) {
+			parent[element] = parent[parent[element]];
+			element = parent[element];
+		}
+		return element;
+	}
+
+	/**
+	 Joins the sets of the given elements, attaching the smaller set to the
+	 bigger one.
+	 */
+	private static void union(int[] parent, int[] size, int a, int b) {
+		a = find(parent, a);
+		b = find(parent, b);
+		if(a == b)
+			return;
+		if(size[a] < size[b]) {
+			int temp = a;
+			a = b;
+			b = temp;
+		}
+		parent[b] = a;
+		size[a] += size[b];
+	}
+
+	/**
+	 @return The number of circuits of this scheduler.
+	 */
+	public int getCircuitCount() {
+		return circuits.length;
+	}
+
+	/**
+	 @return The number of independent groups of circuits.
+	 */
+	public int getComponentCount() {
+		return componentStart.length - 1;
+	}
+
+	/**
+	 @param circuit The index of the circuit, in the list given to the
+	 constructor.
+	 @return The index of the component the given circuit belongs to.
+	 Components are numbered in the order of their first circuit.
+	 */
+	public int getComponent(int circuit) {
+		return componentOfCircuit[circuit];
+	}
+
+	/**
+	 @param component The index of the component.
+	 @return The indexes of the circuits of the given component, in
+	 increasing order.
+	 */
+	public List<Integer> getCircuits(int component) {
+		List<Integer> result = new ArrayList<>();
+		for(int i = componentStart[component]; i < componentStart[component + 1]; i++)
+			result.add(order[i]);
+		return result;
+	}
+
+	/**
+	 @param component The index of the component.
+	 @return The outcome of the last recalculation of the given component,
+	 or null if it was not recalculated yet. A component with only one
+	 circuit always converges.
+	 */
+	public SharedRacewaySolver.Outcome getOutcome(int component) {
+		return outcomes[component];
+	}
+
+	/**
+	 Recalculates all the circuits using the common fork/join pool.
+	 @return An unmodifiable list with the snapshot of each circuit, in the
+	 same order as the circuits given to the constructor.
+	 */
+	public List<CircuitResult> recalculate() {
+		return recalculate(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 Recalculates all the circuits using the given fork/join pool.
+	 @param pool The pool whose workers will perform the calculations.
+	 @return An unmodifiable list with the snapshot of each circuit, in the
+	 same order as the circuits given to the constructor.
+	 */
+	public List<CircuitResult> recalculate(ForkJoinPool pool) {
+		if(pool == null)
+			throw new IllegalArgumentException("Pool parameter cannot be null.");
+		CircuitResult[] out = new CircuitResult[circuits.length];
+		pool.invoke(new ComponentTask(out, 0, getComponentCount()));
+		return Collections.unmodifiableList(Arrays.asList(out));
+	}
+
+	/**
+	 Recalculates the circuits of the given component in the calling thread.
+	 */
+	private void recalculate(int component, CircuitResult[] out) {
+		int from = componentStart[component];
+		int to = componentStart[component + 1];
+		if(to - from == 1)
+			outcomes[component] = SharedRacewaySolver.Outcome.CONVERGED;
+		else {
+			if(solvers[component] == null) {
+				List<Circuit> members = new ArrayList<>(to - from);
+				for(int i = from; i < to; i++)
+					members.add(circuits[order[i]]);
+				solvers[component] = new SharedRacewaySolver(members);
+			}
+			outcomes[component] = solvers[component].solve();
+		}
+		for(int i = from; i < to; i++)
+			out[order[i]] = circuits[order[i]].snapshot();
+	}
+
+	/**
+	 Task that recalculates the components in the range [from, to), splitting
+	 itself in two halves with about the same number of circuits until the
+	 range has one component or a few circuits.
+	 */
+	private class ComponentTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final CircuitResult[] out;
+		private final int from;
+		private final int to;
+
+		ComponentTask(CircuitResult[] out, int from, int to) {
+			this.out = out;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(to - from == 1 ||
+					componentStart[to] - componentStart[from] <= THRESHOLD) {
+				for(int c = from; c < to; c++)
+					recalculate(c, out);
+				return;
+			}
+			int half = (componentStart[from] + componentStart[to]) >>> 1;
+			int middle = Arrays.binarySearch(componentStart, from, to, half);
+			if(middle < 0)
+				middle = -middle - 1;
+			middle = Math.max(from + 1, Math.min(to - 1, middle));
+			invokeAll(new ComponentTask(out, from, middle),
+					new ComponentTask(out, middle, to));
+		}
+	}
+}
@@ -0,0 +1,445 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.Insul;
+import eecalcs.conductors.Metal;
+import eecalcs.conduits.Type;
+import eecalcs.loads.GeneralLoad;
+import eecalcs.loads.Load;
+import eecalcs.systems.TempRating;
+import eecalcs.systems.VoltageSystemAC;
+
+import java.util.Objects;
+
+/**
+ Immutable set of input parameters that fully describes a circuit to be
+ sized by {@link CircuitBatch}. A spec carries no listeners and no references
+ to other mutable objects, so the same spec can be shared freely among
+ threads.
+ <p>Instances are created through the {@link Builder} class. Any parameter
+ not explicitly set on the builder takes the same default value a new
+ {@link Circuit} object would use:
+ <ul>
+ <li>Load: 10 amperes, 120v 1φ 2w, power factor 1.0, non continuous,
+ linear.</li>
+ <li>Conductors: 100 feet long, copper, THW, 86°F.</li>
+ <li>One set of conductors in a private PVC40 conduit.</li>
+ <li>Maximum voltage drop of 3%, termination temperature rating unknown,
+ 80% rated OCPD.</li>
+ </ul>
+ <p>Two specs having the same parameters are equal, so a spec can be used as
+ the key of a {@link CircuitCache}.
+ */
+public final class CircuitSpec {
+	/**
+	 Defines how the conduitables of the circuit are installed. Only the
+	 private modes are allowed since a spec describes a circuit that is
+	 independent of any other circuit.
+	 */
+	public enum Installation {PRIVATE_CONDUIT, PRIVATE_BUNDLE, FREE_AIR}
+
+	private final VoltageSystemAC voltageSystem;
+	private final double nominalCurrent;
+	private final double powerFactor;
+	private final boolean continuous;
+	private final boolean nonlinear;
+	private final double length;
+	private final int ambientTemperatureF;
+	private final Insul insulation;
+	private final Metal metal;
+	private final int numberOfSets;
+	private final TempRating terminationTempRating;
+	private final double maxVoltageDropPercent;
+	private final Installation installation;
+	private final Type conduitType;
+	private final boolean usingCable;
+	private final boolean usingOneEGC;
+	private final boolean _100PercentRated;
+
+	private CircuitSpec(Builder builder) {
+		voltageSystem = builder.voltageSystem;
+		nominalCurrent = builder.nominalCurrent;
+		powerFactor = builder.powerFactor;
+		continuous = builder.continuous;
+		nonlinear = builder.nonlinear;
+		length = builder.length;
+		ambientTemperatureF = builder.ambientTemperatureF;
+		insulation = builder.insulation;
+		metal = builder.metal;
+		numberOfSets = builder.numberOfSets;
+		terminationTempRating = builder.terminationTempRating;
+		maxVoltageDropPercent = builder.maxVoltageDropPercent;
+		installation = builder.installation;
+		conduitType = builder.conduitType;
+		usingCable = builder.usingCable;
+		usingOneEGC = builder.usingOneEGC;
+		_100PercentRated = builder._100PercentRated;
+	}
+
+	/**
+	 @return The voltage system of the load.
+	 */
+	public VoltageSystemAC getVoltageSystem() {
+		return voltageSystem;
+	}
+
+	/**
+	 @return The nominal current of the load in amperes.
+	 */
+	public double getNominalCurrent() {
+		return nominalCurrent;
+	}
+
+	/**
+	 @return The power factor of the load.
+	 */
+	public double getPowerFactor() {
+		return powerFactor;
+	}
+
+	/**
+	 @return True if the load is a continuous load.
+	 */
+	public boolean isContinuous() {
+		return continuous;
+	}
+
+	/**
+	 @return True if the load is nonlinear (load with harmonics).
+	 */
+	public boolean isNonlinear() {
+		return nonlinear;
+	}
+
+	/**
+	 @return The length of the circuit in feet.
+	 */
+	public double getLength() {
+		return length;
+	}
+
+	/**
+	 @return The ambient temperature in degrees Fahrenheits.
+	 */
+	public int getAmbientTemperatureF() {
+		return ambientTemperatureF;
+	}
+
+	/**
+	 @return The insulation of the conductors or cables.
+	 */
+	public Insul getInsulation() {
+		return insulation;
+	}
+
+	/**
+	 @return The metal of the conductors.
+	 */
+	public Metal getMetal() {
+		return metal;
+	}
+
+	/**
+	 @return The number of sets in parallel.
+	 */
+	public int getNumberOfSets() {
+		return numberOfSets;
+	}
+
+	/**
+	 @return The temperature rating of the terminations or null if it's not
+	 known.
+	 */
+	public TempRating getTerminationTempRating() {
+		return terminationTempRating;
+	}
+
+	/**
+	 @return The maximum allowed voltage drop in percentage.
+	 */
+	public double getMaxVoltageDropPercent() {
+		return maxVoltageDropPercent;
+	}
+
+	/**
+	 @return How the conduitables of the circuit are installed.
+	 */
+	public Installation getInstallation() {
+		return installation;
+	}
+
+	/**
+	 @return The type of the private conduit.
+	 */
+	public Type getConduitType() {
+		return conduitType;
+	}
+
+	/**
+	 @return True if the circuit uses cables instead of insulated conductors.
+	 */
+	public boolean isUsingCable() {
+		return usingCable;
+	}
+
+	/**
+	 @return True if only one EGC is used per conduit or bundle.
+	 */
+	public boolean isUsingOneEGC() {
+		return usingOneEGC;
+	}
+
+	/**
+	 @return True if the OCPD is 100% rated.
+	 */
+	public boolean is100PercentRated() {
+		return _100PercentRated;
+	}
+
+	/**
+	 @return The conduit type if the circuit uses a private conduit, null
+	 otherwise. The type of a conduit that is not used must not make two specs
+	 different.
+	 */
+	private Type keyConduitType() {
+		return installation == Installation.PRIVATE_CONDUIT ? conduitType : null;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if(this == o)
+			return true;
+		if(!(o instanceof CircuitSpec))
+			return false;
+		CircuitSpec spec = (CircuitSpec) o;
+		return Double.compare(nominalCurrent, spec.nominalCurrent) == 0
+				&& Double.compare(powerFactor, spec.powerFactor) == 0
+				&& Double.compare(length, spec.length) == 0
+				&& Double.compare(maxVoltageDropPercent, spec.maxVoltageDropPercent) == 0
+				&& ambientTemperatureF == spec.ambientTemperatureF
+				&& numberOfSets == spec.numberOfSets
+				&& continuous == spec.continuous
+				&& nonlinear == spec.nonlinear
+				&& usingCable == spec.usingCable
+				&& usingOneEGC == spec.usingOneEGC
+				&& _100PercentRated == spec._100PercentRated
+				&& voltageSystem == spec.voltageSystem
+				&& insulation == spec.insulation
+				&& metal == spec.metal
+				&& terminationTempRating == spec.terminationTempRating
+				&& installation == spec.installation
+				&& keyConduitType() == spec.keyConduitType();
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(voltageSystem, nominalCurrent, powerFactor,
+				continuous, nonlinear, length, ambientTemperatureF, insulation,
+				metal, numberOfSets, terminationTempRating, maxVoltageDropPercent,
+				installation, keyConduitType(), usingCable, usingOneEGC,
+				_100PercentRated);
+	}
+
+	/**
+	 Creates a new mutable {@link Circuit} object configured as described by
+	 this spec. The circuit is wired to its own private load and conduit, so
+	 each call returns an object that shares no state with any other circuit.
+	 @return The configured circuit object.
+	 */
+	Circuit toCircuit() {
+		GeneralLoad load = new GeneralLoad(voltageSystem, nominalCurrent);
+		load.setPowerFactor(powerFactor);
+		if(continuous)
+			load.setContinuous();
+		load.setNonlinear(nonlinear);
+		return toCircuit(load);
+	}
+
+	/**
+	 Creates a new mutable {@link Circuit} object for the given load,
+	 configured with the installation values of this spec. The values of
+	 this spec that describe the load (voltage system, current, power
+	 factor, continuous and nonlinear) are not used.
+	 @param load The load of the circuit. It must not be shared with any
+	 other circuit.
+	 @return The configured circuit object.
+	 */
+	Circuit toCircuit(Load load) {
+		Circuit circuit = new Circuit(load);
+		circuit.setUsingCable(usingCable);
+		circuit.setLength(length);
+		circuit.setAmbientTemperatureF(ambientTemperatureF);
+		circuit.setInsulation(insulation);
+		circuit.setMetal(metal);
+		circuit.setNumberOfSets(numberOfSets);
+		circuit.setTerminationTempRating(terminationTempRating);
+		circuit.setMaxVoltageDropPercent(maxVoltageDropPercent);
+		circuit.setUsingOneEGC(usingOneEGC);
+		circuit.set100PercentRated(_100PercentRated);
+		if(installation == Installation.FREE_AIR)
+			circuit.setFreeAirMode();
+		else if(installation == Installation.PRIVATE_BUNDLE)
+			circuit.setBundleMode();
+		else
+			circuit.setPrivateConduitType(conduitType);
+		return circuit;
+	}
+
+	/**
+	 @return A new builder initialized with the values of this spec, to
+	 build specs that differ from this one in a few values.
+	 */
+	public Builder toBuilder() {
+		Builder builder = new Builder();
+		builder.voltageSystem = voltageSystem;
+		builder.nominalCurrent = nominalCurrent;
+		builder.powerFactor = powerFactor;
+		builder.continuous = continuous;
+		builder.nonlinear = nonlinear;
+		builder.length = length;
+		builder.ambientTemperatureF = ambientTemperatureF;
+		builder.insulation = insulation;
+		builder.metal = metal;
+		builder.numberOfSets = numberOfSets;
+		builder.terminationTempRating = terminationTempRating;
+		builder.maxVoltageDropPercent = maxVoltageDropPercent;
+		builder.installation = installation;
+		builder.conduitType = conduitType;
+		builder.usingCable = usingCable;
+		builder.usingOneEGC = usingOneEGC;
+		builder._100PercentRated = _100PercentRated;
+		return builder;
+	}
+
+	/**
+	 Builder for {@link CircuitSpec} objects. A builder is not thread safe, but
+	 the specs it builds are.
+	 */
+	public static class Builder {
+		private VoltageSystemAC voltageSystem = VoltageSystemAC.v120_1ph_2w;
+		private double nominalCurrent = 10;
+		private double powerFactor = 1.0;
+		private boolean continuous = false;
+		private boolean nonlinear = false;
+		private double length = 100;
+		private int ambientTemperatureF = 86;
+		private Insul insulation = Insul.THW;
+		private Metal metal = Metal.COPPER;
+		private int numberOfSets = 1;
+		private TempRating terminationTempRating;
+		private double maxVoltageDropPercent = 3;
+		private Installation installation = Installation.PRIVATE_CONDUIT;
+		private Type conduitType = Type.PVC40;
+		private boolean usingCable = false;
+		private boolean usingOneEGC = false;
+		private boolean _100PercentRated = false;
+
+		/**
+		 Sets the voltage system and the nominal current of the load.
+		 @param voltageSystem The voltage system of the load. Cannot be null.
+		 @param nominalCurrent The nominal current of the load in amperes.
+		 @return This builder.
+		 */
+		public Builder setLoad(VoltageSystemAC voltageSystem, double nominalCurrent) {
+			if(voltageSystem == null)
+				throw new IllegalArgumentException("Voltage system parameter cannot be null.");
+			this.voltageSystem = voltageSystem;
+			this.nominalCurrent = nominalCurrent;
+			return this;
+		}
+
+		public Builder setPowerFactor(double powerFactor) {
+			this.powerFactor = powerFactor;
+			return this;
+		}
+
+		public Builder setContinuous(boolean continuous) {
+			this.continuous = continuous;
+			return this;
+		}
+
+		public Builder setNonlinear(boolean nonlinear) {
+			this.nonlinear = nonlinear;
+			return this;
+		}
+
+		public Builder setLength(double length) {
+			this.length = length;
+			return this;
+		}
+
+		public Builder setAmbientTemperatureF(int ambientTemperatureF) {
+			this.ambientTemperatureF = ambientTemperatureF;
+			return this;
+		}
+
+		public Builder setInsulation(Insul insulation) {
+			if(insulation == null)
+				throw new IllegalArgumentException("Insulation parameter cannot be null.");
+			this.insulation = insulation;
+			return this;
+		}
+
+		public Builder setMetal(Metal metal) {
+			if(metal == null)
+				throw new IllegalArgumentException("Metal parameter cannot be null.");
+			this.metal = metal;
+			return this;
+		}
+
+		public Builder setNumberOfSets(int numberOfSets) {
+			this.numberOfSets = numberOfSets;
+			return this;
+		}
+
+		/**
+		 @param terminationTempRating The temperature rating of the
+		 terminations. A null value means it is not known.
+		 @return This builder.
+		 */
+		public Builder setTerminationTempRating(TempRating terminationTempRating) {
+			this.terminationTempRating = terminationTempRating;
+			return this;
+		}
+
+		public Builder setMaxVoltageDropPercent(double maxVoltageDropPercent) {
+			this.maxVoltageDropPercent = maxVoltageDropPercent;
+			return this;
+		}
+
+		public Builder setInstallation(Installation installation) {
+			if(installation == null)
+				throw new IllegalArgumentException("Installation parameter cannot be null.");
+			this.installation = installation;
+			return this;
+		}
+
+		public Builder setConduitType(Type conduitType) {
+			if(conduitType == null)
+				throw new IllegalArgumentException("Conduit type parameter cannot be null.");
+			this.conduitType = conduitType;
+			return this;
+		}
+
+		public Builder setUsingCable(boolean usingCable) {
+			this.usingCable = usingCable;
+			return this;
+		}
+
+		public Builder setUsingOneEGC(boolean usingOneEGC) {
+			this.usingOneEGC = usingOneEGC;
+			return this;
+		}
+
+		public Builder set100PercentRated(boolean _100PercentRated) {
+			this._100PercentRated = _100PercentRated;
+			return this;
+		}
+
+		/**
+		 @return A new immutable spec with the values of this builder.
+		 */
+		public CircuitSpec build() {
+			return new CircuitSpec(this);
+		}
+	}
+}
@@ -0,0 +1,392 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.RoConductor;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ Sizes a circuit for every combination of a set of lengths, load currents,
+ ambient temperatures, number of sets and conduit types, that is, it explores
+ the design space around a base {@link CircuitSpec}. All the other values of
+ the circuits are taken from the base spec.
+ <p>The grid is divided in lines, each one having all the lengths for one
+ combination of the other values. Lines are calculated in parallel by the
+ workers of a {@link ForkJoinPool}; each line uses its own {@link Circuit}
+ object whose length is changed from point to point, so only the stages of
+ the calculation that depend on the length are repeated.
+ <p>Along a line, the sizes of the conductors do not decrease as the length
+ increases, as long as the voltage drop percentage of the sizes per voltage
+ drop grows with the length. That is not the case on long lines with small
+ sizes, where the voltage at the load "wraps around". When two points of a
+ line have the same sizes, ratings and size per voltage drop, and their
+ drop grows with the length, all the points in between have them too and
+ only their voltage drop is calculated; if that voltage drop exceeds the
+ maximum, or the points differ, the range is split in halves.
+ <p>The results are returned as a {@link SweepResult}. For any point, they are
+ the same as the ones obtained with {@link CircuitBatch#size(CircuitSpec)}
+ for the spec of that point.
+ */
+public class CircuitSweep {
+	/**Number of lines below which a task is not split any further.*/
+	private static final int THRESHOLD = 2;
+	private final CircuitSpec base;
+	private double[] lengths;
+	private double[] currents;
+	private int[] ambientTemperaturesF;
+	private int[] numberOfSets;
+	private Type[] conduitTypes;
+
+	/**
+	 Creates a sweep around the given spec. Initially, every axis has only the
+	 value of the base spec.
+	 @param base The spec that provides all the values of the circuits
+	 that are not swept. Cannot be null.
+	 */
+	public CircuitSweep(CircuitSpec base) {
+		if(base == null)
+			throw new IllegalArgumentException("Base spec parameter cannot be null.");
+		this.base = base;
+		lengths = new double[]{base.getLength()};
+		currents = new double[]{base.getNominalCurrent()};
+		ambientTemperaturesF = new int[]{base.getAmbientTemperatureF()};
+		numberOfSets = new int[]{base.getNumberOfSets()};
+		conduitTypes = new Type[]{base.getConduitType()};
+	}
+
+	/**
+	 Returns the values from the given start to the given end (both
+	 included), incremented by the given step. The end is included only if
+	 it's reached by the increments.
+	 @param from The first value.
+	 @param to The last value.
+	 @param step The increment, bigger than zero.
+	 @return The array of values.
+	 */
+	public static double[] range(double from, double to, double step) {
+		if(step <= 0)
+			throw new IllegalArgumentException("Step parameter must be bigger than zero.");
+		if(to < from)
+			throw new IllegalArgumentException("The end of a range cannot be less than its start.");
+		//the small tolerance keeps the end when (to - from)/step is inexact
+		int count = (int) Math.floor((to - from) / step + 1e-9) + 1;
+		double[] values = new double[count];
+		for(int i = 0; i < count; i++)
+			values[i] = from + i * step;
+		return values;
+	}
+
+	/**
+	 Sets the lengths of the sweep.
+	 @param lengths The lengths in feet, bigger than zero and in strictly
+	 increasing order.
+	 @return This sweep.
+	 */
+	public CircuitSweep setLengths(double... lengths) {
+		checkNotEmpty(lengths == null ? 0 : lengths.length, "Lengths");
+		for(int i = 0; i < lengths.length; i++) {
+			if(lengths[i] <= 0)
+				throw new IllegalArgumentException("Lengths must be bigger than zero.");
+			if(i > 0 && lengths[i] <= lengths[i - 1])
+				throw new IllegalArgumentException("Lengths must be in increasing order.");
+		}
+		this.lengths = lengths.clone();
+		return this;
+	}
+
+	/**
+	 Sets the load currents of the sweep.
+	 @param currents The nominal currents of the load, in amperes.
+	 @return This sweep.
+	 */
+	public CircuitSweep setCurrents(double... currents) {
+		checkNotEmpty(currents == null ? 0 : currents.length, "Currents");
+		this.currents = currents.clone();
+		return this;
+	}
+
+	/**
+	 Sets the ambient temperatures of the sweep.
+	 @param ambientTemperaturesF The ambient temperatures in degrees
+	 Fahrenheits.
+	 @return This sweep.
+	 */
+	public CircuitSweep setAmbientTemperaturesF(int... ambientTemperaturesF) {
+		checkNotEmpty(ambientTemperaturesF == null ? 0 : ambientTemperaturesF.length,
+				"Ambient temperatures");
+		this.ambientTemperaturesF = ambientTemperaturesF.clone();
+		return this;
+	}
+
+	/**
+	 Sets the number of sets of the sweep.
+	 @param numberOfSets The number of sets of conductors in parallel.
+	 @return This sweep.
+	 */
+	public CircuitSweep setNumberOfSets(int... numberOfSets) {
+		checkNotEmpty(numberOfSets == null ? 0 : numberOfSets.length, "Number of sets");
+		this.numberOfSets = numberOfSets.clone();
+		return this;
+	}
+
+	/**
+	 Sets the conduit types of the sweep. The type of conduit is used only
+	 if the installation of the base spec is a private conduit.
+	 @param conduitTypes The conduit types. Cannot contain null elements.
+	 @return This sweep.
+	 */
+	public CircuitSweep setConduitTypes(Type... conduitTypes) {
+		checkNotEmpty(conduitTypes == null ? 0 : conduitTypes.length, "Conduit types");
+		for(Type type: conduitTypes)
+			if(type == null)
+				throw new IllegalArgumentException("Conduit types cannot contain null elements.");
+		this.conduitTypes = conduitTypes.clone();
+		return this;
+	}
+
+	private static void checkNotEmpty(int length, String name) {
+		if(length == 0)
+			throw new IllegalArgumentException(name + " parameter cannot be null nor empty.");
+	}
+
+	/**
+	 Calculates the sweep using the common fork/join pool.
+	 @return The results of all the points of the sweep.
+	 */
+	public SweepResult run() {
+		return run(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 Calculates the sweep using the given fork/join pool.
+	 @param pool The pool whose workers will perform the calculations.
+	 @return The results of all the points of the sweep.
+	 */
+	public SweepResult run(ForkJoinPool pool) {
+		if(pool == null)
+			throw new IllegalArgumentException("Pool parameter cannot be null.");
+		SweepResult result = new SweepResult(lengths, currents,
+				ambientTemperaturesF, numberOfSets, conduitTypes);
+		AtomicInteger evaluated = new AtomicInteger();
+		int lines = result.size() / lengths.length;
+		pool.invoke(new SweepTask(result, evaluated, 0, lines));
+		result.evaluatedCount = evaluated.get();
+		return result;
+	}
+
+	/**
+	 Returns the spec for the given line, at the first length of the sweep.
+	 */
+	private CircuitSpec lineSpec(int line) {
+		int currentIndex = line % currents.length;
+		line /= currents.length;
+		int ambientIndex = line % ambientTemperaturesF.length;
+		line /= ambientTemperaturesF.length;
+		int setsIndex = line % numberOfSets.length;
+		int typeIndex = line / numberOfSets.length;
+		return base.toBuilder()
+				.setLoad(base.getVoltageSystem(), currents[currentIndex])
+				.setAmbientTemperatureF(ambientTemperaturesF[ambientIndex])
+				.setNumberOfSets(numberOfSets[setsIndex])
+				.setConduitType(conduitTypes[typeIndex])
+				.setLength(lengths[0])
+				.build();
+	}
+
+	/**
+	 Calculates all the points of one line of the sweep.
+	 */
+	private class LineSweep {
+		private final SweepResult result;
+		private final CircuitSpec spec;
+		private final Circuit circuit;
+		/**Index of the first point of the line in the result arrays.*/
+		private final int offset;
+		/**Index of the length the circuit was last calculated for.*/
+		private int circuitAt = -1;
+		private int evaluated = 0;
+		/**For each calculated length, true if its voltage drop grows with the
+		length.*/
+		private final boolean[] increasing;
+
+		LineSweep(SweepResult result, int line) {
+			this.result = result;
+			this.spec = lineSpec(line);
+			this.circuit = spec.toCircuit();
+			this.offset = line * lengths.length;
+			this.increasing = new boolean[lengths.length];
+		}
+
+		int sweep() {
+			int last = lengths.length - 1;
+			evaluate(0);
+			if(last > 0) {
+				evaluate(last);
+				fill(0, last);
+			}
+			return evaluated;
+		}
+
+		/**
+		 Calculates the points strictly between the given ones, which are
+		 already calculated.
+		 */
+		private void fill(int from, int to) {
+			if(to - from < 2)
+				return;
+			if(!sameSizes(from, to) || !increasing[from] || !increasing[to]
+					|| !voltageDropsWithinMax(from, to)) {
+				int middle = (from + to) >>> 1;
+				evaluate(middle);
+				fill(from, middle);
+				fill(middle, to);
+				return;
+			}
+			int a = offset + from;
+			for(int i = from + 1; i < to; i++) {
+				int p = offset + i;
+				result.phaseSizes[p] = result.phaseSizes[a];
+				result.neutralSizes[p] = result.neutralSizes[a];
+				result.groundingSizes[p] = result.groundingSizes[a];
+				result.sizesPerVoltageDrop[p] = result.sizesPerVoltageDrop[a];
+				result.ocpdRatings[p] = result.ocpdRatings[a];
+				result.conduitTradeSizes[p] = result.conduitTradeSizes[a];
+			}
+		}
+
+		/**
+		 Calculates the voltage drop of the points strictly between the given
+		 ones, which have the same sizes, and stores it. Returns false if any
+		 of them exceeds the maximum voltage drop.
+		 */
+		private boolean voltageDropsWithinMax(int from, int to) {
+			//the circuit must have the sizes of this range
+			if(!sameSizes(circuitAt, from)) {
+				circuit.setLength(lengths[from]);
+				circuitAt = from;
+			}
+			double max = circuit.getVoltageDrop().getMaxVoltageDropPercent();
+			for(int i = from + 1; i < to; i++) {
+				double percentage = circuit.getVoltageDropPercentageForLength(lengths[i]);
+				if(percentage > max)
+					return false;
+				result.voltageDropPercentages[offset + i] = percentage;
+			}
+			return true;
+		}
+
+		/**
+		 Returns true if the two calculated points have the same sizes and
+		 ratings, and these are valid.
+		 */
+		private boolean sameSizes(int i, int j) {
+			int a = offset + i;
+			int b = offset + j;
+			return result.phaseSizes[a] >= 0
+					&& result.sizesPerVoltageDrop[a] >= 0
+					&& result.phaseSizes[a] == result.phaseSizes[b]
+					&& result.neutralSizes[a] == result.neutralSizes[b]
+					&& result.groundingSizes[a] == result.groundingSizes[b]
+					&& result.sizesPerVoltageDrop[a] == result.sizesPerVoltageDrop[b]
+					&& result.ocpdRatings[a] == result.ocpdRatings[b]
+					&& result.conduitTradeSizes[a] == result.conduitTradeSizes[b];
+		}
+
+		/**
+		 Calculates the circuit for the length of the given index and stores
+		 its results.
+		 */
+		private void evaluate(int i) {
+			circuit.setLength(lengths[i]);
+			circuitAt = i;
+			evaluated++;
+			int p = offset + i;
+			if(circuit.getCircuitSize() == null) {
+				store(p, CircuitBatch.size(spec.toBuilder().setLength(lengths[i]).build()));
+				return;
+			}
+			result.phaseSizes[p] = ordinal(circuit.getCircuitSize());
+			Size neutralSize;
+			Size groundingSize;
+			if(circuit.isUsingCable()) {
+				neutralSize = circuit.getCable().getNeutralConductorSize();
+				groundingSize = circuit.getCable().getGroundingConductorSize();
+			}
+			else {
+				RoConductor neutral = circuit.getNeutralConductor();
+				neutralSize = neutral == null ? null : neutral.getSize();
+				groundingSize = circuit.getGroundingConductor().getSize();
+			}
+			result.neutralSizes[p] = ordinal(neutralSize);
+			result.groundingSizes[p] = ordinal(groundingSize);
+			result.ocpdRatings[p] = circuit.getOCPDRating();
+			Trade trade = null;
+			if(circuit.getCircuitMode() == CircuitMode.PRIVATE_CONDUIT)
+				trade = circuit.getPrivateConduit().getTradeSize();
+			result.conduitTradeSizes[p] = ordinal(trade);
+			result.sizesPerVoltageDrop[p] = ordinal(circuit.getCalculatedSizePerVoltageDrop());
+			result.voltageDropPercentages[p] =
+					circuit.getPhaseVoltageDrop().getACVoltageDropPercentage();
+			increasing[i] = circuit.isSizePerVoltageDropIncreasing();
+		}
+
+		/**
+		 Stores the given result for the point of the given index in the
+		 result arrays. Used for the points whose circuit cannot be sized, as
+		 the values left by a failed calculation depend on the previous state
+		 of the circuit.
+		 */
+		private void store(int p, CircuitResult circuitResult) {
+			result.phaseSizes[p] = ordinal(circuitResult.getPhaseSize());
+			result.neutralSizes[p] = ordinal(circuitResult.getNeutralSize());
+			result.groundingSizes[p] = ordinal(circuitResult.getGroundingSize());
+			result.ocpdRatings[p] = circuitResult.getOCPDRating();
+			result.conduitTradeSizes[p] = ordinal(circuitResult.getConduitTradeSize());
+			result.sizesPerVoltageDrop[p] = ordinal(circuitResult.getSizePerVoltageDrop());
+			result.voltageDropPercentages[p] = circuitResult.getVoltageDropPercentage();
+		}
+
+		private int ordinal(Size size) {
+			return size == null ? -1 : size.ordinal();
+		}
+
+		private int ordinal(Trade trade) {
+			return trade == null ? -1 : trade.ordinal();
+		}
+	}
+
+	/**
+	 Task that calculates the lines in the range [from, to) splitting itself
+	 in halves until the range is small enough.
+	 */
+	private class SweepTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final SweepResult result;
+		private final AtomicInteger evaluated;
+		private final int from;
+		private final int to;
+
+		SweepTask(SweepResult result, AtomicInteger evaluated, int from, int to) {
+			this.result = result;
+			this.evaluated = evaluated;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(to - from <= THRESHOLD) {
+				for(int line = from; line < to; line++)
+					evaluated.addAndGet(new LineSweep(result, line).sweep());
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new SweepTask(result, evaluated, from, middle),
+					new SweepTask(result, evaluated, middle, to));
+		}
+	}
+}
@@ -0,0 +1,509 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.Conductor;
+import eecalcs.conductors.Conduitable;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Conduit;
+import eecalcs.conduits.ConduitProperties;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ Assigns circuits to shared conduits, trying to use as few and as small
+ conduits as possible without upsizing the conductors too much.
+ <p>Circuits are added as {@link CircuitSpec}s together with a routing
+ group, which is any name that identifies the route of the circuit: only
+ circuits in the same routing group, with the same conduit type and the same
+ ambient temperature can share a conduit.
+ <p>The cost of a conduit is {@link #setConduitCost(double) conduitCost}
+ plus {@link #setTradeCost(double) tradeCost} for each trade size above the
+ minimum (1/2"), plus {@link #setUpsizeCost(double) upsizeCost} for each
+ size step that the phase conductors of each set of its circuits are
+ upsized because of the adjustment factor for the number of current-carrying
+ conductors in the conduit. A conduit that would require a trade size
+ bigger than {@link #setMaxTrade(Trade) maxTrade}, or where some of its
+ circuits could not be sized, is not allowed.
+ <p>The adjustment factor is constant within each range of current-carrying
+ conductors of NEC table 310.15(C)(1), so every circuit is first calculated
+ once per range, in a temporary conduit filled up with dummy conductors. The
+ result of this profiling (the area and the size of the phase conductors of
+ the circuit for each range) lets the cost of any conduit be updated in
+ constant time when a circuit is added to it or removed from it.
+ <p>Each group is then solved with a first fit decreasing heuristic followed
+ by a local search that moves circuits between conduits and tries to empty
+ whole conduits, while the cost decreases. Circuits are profiled, and groups
+ are solved, in parallel by the workers of a {@link ForkJoinPool}.
+ */
+public class ConduitOptimizer {
+	/**Upper limit of current-carrying conductors of each adjustment range.*/
+	private static final int[] LEVEL_MAX = {3, 6, 9, 20, 30, 40, Integer.MAX_VALUE};
+	/**Lower limit of current-carrying conductors of each adjustment range.*/
+	private static final int[] LEVEL_MIN = {0, 4, 7, 10, 21, 31, 41};
+	private static final int LEVELS = LEVEL_MAX.length;
+	/**The default minimum trade size of a conduit.*/
+	private static final Trade MINIMUM_TRADE = Trade.T1$2;
+	/**Cost of a not allowed conduit, per circuit in it.*/
+	private static final double INFEASIBLE = 1e9;
+	private static final double EPSILON = 1e-9;
+	/**Maximum number of passes of the local search.*/
+	private static final int MAX_PASSES = 50;
+	/**Number of specs below which a profiling task is not split any further.*/
+	private static final int THRESHOLD = 8;
+	private final List<CircuitSpec> specs = new ArrayList<>();
+	private final List<String> routingGroups = new ArrayList<>();
+	private double conduitCost = 1.0;
+	private double tradeCost = 0.25;
+	private double upsizeCost = 0.5;
+	private Trade maxTrade = Trade.T4;
+
+	/**
+	 Adds a circuit to be assigned to a conduit.
+	 @param spec The spec of the circuit. Its installation must be
+	 {@link CircuitSpec.Installation#PRIVATE_CONDUIT}; the conduit type of
+	 the spec is the type of the shared conduit.
+	 @param routingGroup The name of the route of the circuit. Cannot be null.
+	 @return The index of the circuit, used to query the resulting
+	 {@link ConduitPlan}.
+	 */
+	public int add(CircuitSpec spec, String routingGroup) {
+		if(spec == null)
+			throw new IllegalArgumentException("Spec parameter cannot be null.");
+		if(routingGroup == null)
+			throw new IllegalArgumentException("Routing group parameter cannot be null.");
+		if(spec.getInstallation() != CircuitSpec.Installation.PRIVATE_CONDUIT)
+			throw new IllegalArgumentException("Only circuits in conduit can be assigned to a shared conduit.");
+		specs.add(spec);
+		routingGroups.add(routingGroup);
+		return specs.size() - 1;
+	}
+
+	/**
+	 @param conduitCost The cost of each conduit. Default is 1.
+	 @return This optimizer.
+	 */
+	public ConduitOptimizer setConduitCost(double conduitCost) {
+		if(conduitCost < 0)
+			throw new IllegalArgumentException("Conduit cost parameter cannot be negative.");
+		this.conduitCost = conduitCost;
+		return this;
+	}
+
+	/**
+	 @param tradeCost The cost of each trade size step of a conduit above
+	 the minimum. Default is 0.25.
+	 @return This optimizer.
+	 */
+	public ConduitOptimizer setTradeCost(double tradeCost) {
+		if(tradeCost < 0)
+			throw new IllegalArgumentException("Trade cost parameter cannot be negative.");
+		this.tradeCost = tradeCost;
+		return this;
+	}
+
+	/**
+	 @param upsizeCost The cost of each size step that a set of phase
+	 conductors is upsized because of sharing the conduit. Default is 0.5.
+	 @return This optimizer.
+	 */
+	public ConduitOptimizer setUpsizeCost(double upsizeCost) {
+		if(upsizeCost < 0)
+			throw new IllegalArgumentException("Upsize cost parameter cannot be negative.");
+		this.upsizeCost = upsizeCost;
+		return this;
+	}
+
+	/**
+	 @param maxTrade The biggest trade size allowed for a shared conduit.
+	 Default is 4".
+	 @return This optimizer.
+	 */
+	public ConduitOptimizer setMaxTrade(Trade maxTrade) {
+		if(maxTrade == null)
+			throw new IllegalArgumentException("Max trade parameter cannot be null.");
+		this.maxTrade = maxTrade;
+		return this;
+	}
+
+	/**
+	 Finds the assignment of the circuits to conduits using the common
+	 fork/join pool.
+	 @return The plan of the assignment.
+	 */
+	public ConduitPlan optimize() {
+		return optimize(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 Finds the assignment of the circuits to conduits using the given
+	 fork/join pool.
+	 @param pool The pool whose workers will perform the calculations.
+	 @return The plan of the assignment.
+	 */
+	public ConduitPlan optimize(ForkJoinPool pool) {
+		if(pool == null)
+			throw new IllegalArgumentException("Pool parameter cannot be null.");
+		int n = specs.size();
+		Profile[] profiles = new Profile[n];
+		pool.invoke(new RangeTask(0, n, THRESHOLD,
+				i -> profiles[i] = new Profile(specs.get(i))));
+
+		Map<List<Object>, List<Integer>> groupMap = new LinkedHashMap<>();
+		for(int i = 0; i < n; i++) {
+			CircuitSpec spec = specs.get(i);
+			groupMap.computeIfAbsent(Arrays.asList(routingGroups.get(i),
+					spec.getConduitType(), spec.getAmbientTemperatureF()),
+					key -> new ArrayList<>()).add(i);
+		}
+		List<List<Integer>> groups = new ArrayList<>(groupMap.values());
+		//each task sets its own element; the size of the list never changes
+		List<List<Bin>> solutions = new ArrayList<>(Collections.nCopies(groups.size(), null));
+		pool.invoke(new RangeTask(0, groups.size(), 1,
+				g -> solutions.set(g, solve(groups.get(g), profiles))));
+
+		int[] conduitOfCircuit = new int[n];
+		Size[] phaseSizes = new Size[n];
+		List<Type> types = new ArrayList<>();
+		List<Trade> trades = new ArrayList<>();
+		double cost = 0;
+		for(int g = 0; g < groups.size(); g++) {
+			Type type = specs.get(groups.get(g).get(0)).getConduitType();
+			for(Bin bin: solutions.get(g)) {
+				int level = bin.level();
+				for(int i: bin.members) {
+					conduitOfCircuit[i] = types.size();
+					int size = profiles[i].sizes[level];
+					phaseSizes[i] = Size.byOrdinal(size);
+				}
+				Trade trade = bin.tradeFor(bin.area[level], bin.conductorCount);
+				types.add(type);
+				trades.add(bin.isAllowed(trade, 0) ? trade : null);
+				cost += bin.cost();
+			}
+		}
+		if(cost >= INFEASIBLE)
+			cost = Double.POSITIVE_INFINITY;
+		return new ConduitPlan(new ArrayList<>(specs), conduitOfCircuit,
+				types.toArray(new Type[0]), trades.toArray(new Trade[0]),
+				phaseSizes, cost);
+	}
+
+	/**
+	 Returns the index of the adjustment range for the given number of
+	 current-carrying conductors.
+	 */
+	private static int levelOf(int currentCarrying) {
+		int level = 0;
+		while(currentCarrying > LEVEL_MAX[level])
+			level++;
+		return level;
+	}
+
+	/**
+	 Assigns the given circuits, which belong to the same group, to conduits.
+	 */
+	private List<Bin> solve(List<Integer> group, Profile[] profiles) {
+		Type type = specs.get(group.get(0)).getConduitType();
+		Integer[] order = group.toArray(new Integer[0]);
+		Arrays.sort(order, Comparator.comparingDouble(
+				(Integer i) -> -profiles[i].area[profiles[i].ownLevel])
+				.thenComparingInt(i -> i));
+
+		//first fit decreasing: each circuit goes to the conduit where it adds
+		//the least cost, unless a new conduit is cheaper
+		List<Bin> bins = new ArrayList<>();
+		Map<Integer, Bin> binOf = new HashMap<>();
+		for(int i: order) {
+			Profile p = profiles[i];
+			Bin best = null;
+			double bestDelta = new Bin(type).cost(p, 1);
+			for(Bin bin: bins) {
+				double delta = bin.cost(p, 1) - bin.cost();
+				if(delta < bestDelta - EPSILON) {
+					bestDelta = delta;
+					best = bin;
+				}
+			}
+			if(best == null) {
+				best = new Bin(type);
+				bins.add(best);
+			}
+			best.add(i, p);
+			binOf.put(i, best);
+		}
+
+		//local search
+		for(int pass = 0; pass < MAX_PASSES; pass++) {
+			boolean improved = false;
+			for(int i: order) {
+				Profile p = profiles[i];
+				Bin from = binOf.get(i);
+				double removal = from.cost(p, -1) - from.cost();
+				Bin best = null;
+				double bestDelta = from.members.size() == 1 ? 0 :
+						removal + new Bin(type).cost(p, 1);
+				boolean toNewBin = bestDelta < -EPSILON;
+				for(Bin bin: bins) {
+					if(bin == from)
+						continue;
+					double delta = removal + bin.cost(p, 1) - bin.cost();
+					if(delta < bestDelta - EPSILON && delta < -EPSILON) {
+						bestDelta = delta;
+						best = bin;
+						toNewBin = false;
+					}
+				}
+				if(toNewBin) {
+					best = new Bin(type);
+					bins.add(best);
+				}
+				if(best != null) {
+					from.remove(i, p);
+					best.add(i, p);
+					binOf.put(i, best);
+					improved = true;
+				}
+			}
+			improved |= eliminateBins(bins, binOf, profiles);
+			bins.removeIf(bin -> bin.members.isEmpty());
+			if(!improved)
+				break;
+		}
+		return bins;
+	}
+
+	/**
+	 Tries to empty each conduit, starting with the ones with less circuits,
+	 by moving all its circuits to other conduits. The moves are kept only if
+	 the total cost decreases.
+	 @return True if some conduit was emptied.
+	 */
+	private boolean eliminateBins(List<Bin> bins, Map<Integer, Bin> binOf,
+	                              Profile[] profiles) {
+		boolean improved = false;
+		List<Bin> candidates = new ArrayList<>(bins);
+		candidates.sort(Comparator.comparingInt(bin -> bin.members.size()));
+		for(Bin source: candidates) {
+			if(source.members.isEmpty())
+				continue;
+			List<Integer> moved = new ArrayList<>(source.members);
+			List<Bin> targets = new ArrayList<>();
+			double total = 0;
+			for(int i: moved) {
+				Profile p = profiles[i];
+				double removal = source.cost(p, -1) - source.cost();
+				Bin best = null;
+				double bestDelta = Double.POSITIVE_INFINITY;
+				for(Bin bin: bins) {
+					if(bin == source || bin.members.isEmpty())
+						continue;
+					double delta = removal + bin.cost(p, 1) - bin.cost();
+					if(delta < bestDelta) {
+						bestDelta = delta;
+						best = bin;
+					}
+				}
+				if(best == null)
+					break;
+				source.remove(i, p);
+				best.add(i, p);
+				targets.add(best);
+				total += bestDelta;
+			}
+			if(targets.size() == moved.size() && total < -EPSILON) {
+				for(int k = 0; k < moved.size(); k++)
+					binOf.put(moved.get(k), targets.get(k));
+				improved = true;
+			}
+			else {
+				for(int k = targets.size() - 1; k >= 0; k--) {
+					int i = moved.get(k);
+					targets.get(k).remove(i, profiles[i]);
+					source.add(i, profiles[i]);
+				}
+			}
+		}
+		return improved;
+	}
+
+	/**
+	 Task that performs the given action for each index in the range
+	 [from, to) splitting itself in halves until the range is not bigger than
+	 the threshold.
+	 */
+	private static class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int from;
+		private final int to;
+		private final int threshold;
+		private final IntConsumer action;
+
+		RangeTask(int from, int to, int threshold, IntConsumer action) {
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if(to - from <= threshold) {
+				for(int i = from; i < to; i++)
+					action.accept(i);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new RangeTask(from, middle, threshold, action),
+					new RangeTask(middle, to, threshold, action));
+		}
+	}
+
+	/**
+	 The properties of a circuit in a shared conduit, for each adjustment
+	 range.
+	 */
+	private static class Profile {
+		private final int currentCarrying;
+		private final int conductorCount;
+		private final int ownLevel;
+		/**Area of the conduitables of the circuit, per range.*/
+		private final double[] area = new double[LEVELS];
+		/**Ordinal of the phase conductor size per range, -1 if not sized.*/
+		private final int[] sizes = new int[LEVELS];
+		/**Size steps of all the sets, relative to the own range.*/
+		private final double[] upsize = new double[LEVELS];
+
+		Profile(CircuitSpec spec) {
+			Circuit circuit = spec.toCircuit();
+			Conduit conduit = new Conduit(spec.getConduitType(), false);
+			circuit.setConduitMode(conduit);
+			currentCarrying = conduit.getCurrentCarryingCount();
+			conductorCount = conduit.getFillingConductorCount();
+			ownLevel = levelOf(currentCarrying);
+			Set<Conduitable> dummies = Collections.newSetFromMap(new IdentityHashMap<>());
+			Arrays.fill(sizes, -1);
+			for(int level = ownLevel; level < LEVELS; level++) {
+				int target = Math.max(currentCarrying, LEVEL_MIN[level]);
+				while(conduit.getCurrentCarryingCount() < target) {
+					Conductor dummy = new Conductor();
+					dummies.add(dummy);
+					conduit.add(dummy);
+				}
+				//the circuit is recalculated here, before its conductors are read
+				Size size = circuit.getCircuitSize();
+				sizes[level] = size == null ? -1 : size.ordinal();
+				for(Conduitable conduitable: conduit.getConduitables())
+					if(!dummies.contains(conduitable))
+						area[level] += conduitable.getInsulatedAreaIn2();
+			}
+			for(int level = ownLevel; level < LEVELS; level++)
+				if(sizes[level] >= 0 && sizes[ownLevel] >= 0)
+					upsize[level] = (double) (sizes[level] - sizes[ownLevel]) *
+							spec.getNumberOfSets();
+		}
+	}
+
+	/**
+	 A shared conduit under construction. It keeps the sums of the profiles
+	 of its circuits so its cost is known in constant time.
+	 */
+	private class Bin {
+		private final Type type;
+		private final List<Integer> members = new ArrayList<>();
+		private int currentCarrying;
+		private int conductorCount;
+		private final double[] area = new double[LEVELS];
+		private final double[] upsize = new double[LEVELS];
+		/**Number of circuits that cannot be sized, per range.*/
+		private final int[] unsized = new int[LEVELS];
+
+		Bin(Type type) {
+			this.type = type;
+		}
+
+		void add(int circuit, Profile p) {
+			members.add(circuit);
+			update(p, 1);
+		}
+
+		void remove(int circuit, Profile p) {
+			members.remove(Integer.valueOf(circuit));
+			update(p, -1);
+		}
+
+		private void update(Profile p, int sign) {
+			currentCarrying += sign * p.currentCarrying;
+			conductorCount += sign * p.conductorCount;
+			for(int level = 0; level < LEVELS; level++) {
+				area[level] += sign * p.area[level];
+				upsize[level] += sign * p.upsize[level];
+				if(p.sizes[level] < 0)
+					unsized[level] += sign;
+			}
+		}
+
+		/**
+		 @return The adjustment range of this conduit.
+		 */
+		int level() {
+			return levelOf(currentCarrying);
+		}
+
+		/**
+		 Returns the trade size for the given area of conductors, or null if
+		 it's too big for any trade size.
+		 */
+		Trade tradeFor(double conductorsArea, int conductors) {
+			int fill = conductors <= 1 ? 53 : conductors == 2 ? 31 : 40;
+			return ConduitProperties.getTradeSizeForFill(conductorsArea, fill,
+					type, MINIMUM_TRADE);
+		}
+
+		boolean isAllowed(Trade trade, int unsizedCount) {
+			return trade != null && trade.ordinal() <= maxTrade.ordinal() &&
+					unsizedCount == 0;
+		}
+
+		/**
+		 @return The current cost of this conduit.
+		 */
+		double cost() {
+			return cost(null, 0);
+		}
+
+		/**
+		 Returns the cost of this conduit after adding (sign 1) or removing
+		 (sign -1) the circuit with the given profile.
+		 */
+		double cost(Profile p, int sign) {
+			int circuits = members.size() + sign;
+			if(circuits == 0)
+				return 0;
+			int currentCarryingCount = currentCarrying;
+			int conductors = conductorCount;
+			if(p != null) {
+				currentCarryingCount += sign * p.currentCarrying;
+				conductors += sign * p.conductorCount;
+			}
+			int level = levelOf(currentCarryingCount);
+			double conductorsArea = area[level];
+			double upsizeSteps = upsize[level];
+			int unsizedCount = unsized[level];
+			if(p != null) {
+				conductorsArea += sign * p.area[level];
+				upsizeSteps += sign * p.upsize[level];
+				if(p.sizes[level] < 0)
+					unsizedCount += sign;
+			}
+			Trade trade = tradeFor(conductorsArea, conductors);
+			if(!isAllowed(trade, unsizedCount))
+				return INFEASIBLE * circuits;
+			return conduitCost + tradeCost * (trade.ordinal() - MINIMUM_TRADE.ordinal())
+					+ upsizeCost * upsizeSteps;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Conduit;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ The assignment of circuits to shared conduits found by a
+ {@link ConduitOptimizer}. Conduits are identified by an index from 0 to
+ {@link #getConduitCount()} - 1 and circuits by the index of their spec in
+ the optimizer.
+ <p>The trade sizes and the phase conductor sizes are the ones predicted
+ by the optimizer; {@link #build()} creates the actual circuits and
+ conduits.
+ */
+public final class ConduitPlan {
+	private final List<CircuitSpec> specs;
+	private final int[] conduitOfCircuit;
+	private final Type[] conduitTypes;
+	private final Trade[] tradeSizes;
+	private final Size[] phaseSizes;
+	private final double cost;
+
+	ConduitPlan(List<CircuitSpec> specs, int[] conduitOfCircuit,
+	            Type[] conduitTypes, Trade[] tradeSizes, Size[] phaseSizes,
+	            double cost) {
+		this.specs = specs;
+		this.conduitOfCircuit = conduitOfCircuit;
+		this.conduitTypes = conduitTypes;
+		this.tradeSizes = tradeSizes;
+		this.phaseSizes = phaseSizes;
+		this.cost = cost;
+	}
+
+	/**
+	 @return The number of conduits of this plan.
+	 */
+	public int getConduitCount() {
+		return conduitTypes.length;
+	}
+
+	/**
+	 @param circuit The index of the circuit.
+	 @return The index of the conduit the circuit is assigned to.
+	 */
+	public int getConduit(int circuit) {
+		return conduitOfCircuit[circuit];
+	}
+
+	/**
+	 @param conduit The index of the conduit.
+	 @return The indexes of the circuits assigned to the given conduit, in
+	 increasing order.
+	 */
+	public List<Integer> getCircuits(int conduit) {
+		List<Integer> circuits = new ArrayList<>();
+		for(int i = 0; i < conduitOfCircuit.length; i++)
+			if(conduitOfCircuit[i] == conduit)
+				circuits.add(i);
+		return circuits;
+	}
+
+	/**
+	 @param conduit The index of the conduit.
+	 @return The type of the given conduit.
+	 */
+	public Type getConduitType(int conduit) {
+		return conduitTypes[conduit];
+	}
+
+	/**
+	 @param conduit The index of the conduit.
+	 @return The trade size of the given conduit, or null if its conductors
+	 do not fit in any trade size allowed by the optimizer.
+	 */
+	public Trade getTradeSize(int conduit) {
+		return tradeSizes[conduit];
+	}
+
+	/**
+	 @param circuit The index of the circuit.
+	 @return The size of the phase conductors of the given circuit in its
+	 conduit, or null if it cannot be determined.
+	 */
+	public Size getPhaseSize(int circuit) {
+		return phaseSizes[circuit];
+	}
+
+	/**
+	 @return The cost of this plan, as defined by the weights of the
+	 optimizer. It's infinite if some conduit has no valid trade size or some
+	 circuit cannot be sized.
+	 */
+	public double getCost() {
+		return cost;
+	}
+
+	/**
+	 Creates the conduits of this plan and a new circuit for each spec, in
+	 the conduit it was assigned to.
+	 @return The circuits, in the same order as the specs of the optimizer.
+	 */
+	public List<Circuit> build() {
+		Conduit[] conduits = new Conduit[conduitTypes.length];
+		for(int i = 0; i < conduits.length; i++)
+			conduits[i] = new Conduit(conduitTypes[i], false);
+		List<Circuit> circuits = new ArrayList<>(specs.size());
+		for(int i = 0; i < specs.size(); i++) {
+			Circuit circuit = specs.get(i).toCircuit();
+			circuit.setConduitMode(conduits[conduitOfCircuit[i]]);
+			circuits.add(circuit);
+		}
+		return Collections.unmodifiableList(circuits);
+	}
+}
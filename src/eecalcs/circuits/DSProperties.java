@@ -1,10 +1,9 @@
 package eecalcs.circuits;
 
-import java.util.Arrays;
-import java.util.List;
+import tools.RatingIndex;
 
 public class DSProperties {
-	private static final List<Integer> standardRatings2 = Arrays.asList(30, 60
+	private static final RatingIndex standardRatings2 = new RatingIndex(30, 60
 			, 100, 200, 400, 600, 800, 1200);
 
 	/**
@@ -14,9 +13,8 @@ public class DSProperties {
 	 meaning there is no standard rating to that value of current.
 	 */
 	public static int getRating(double current){
-		double cur = Math.abs(current);
-		return standardRatings2.stream()
-				.filter((sr)-> sr >= cur)
-				.findFirst().orElse(0);
+		int index = standardRatings2.ceilingIndex(Math.abs(current));
+		return index == standardRatings2.size() ? 0 :
+				standardRatings2.get(index);
 	}
 }
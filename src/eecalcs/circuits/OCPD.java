@@ -2,7 +2,7 @@ package eecalcs.circuits;
 
 import eecalcs.conductors.Metal;
 import eecalcs.conductors.Size;
-import tools.ArrayTools;
+import tools.RatingIndex;
 
 import java.util.Arrays;
 import java.util.stream.IntStream;
@@ -34,6 +34,8 @@ public class OCPD {
 			50, 60, 70, 80, 90, 100, 110, 125, 150, 175, 200, 225, 250, 300,
 			350, 400, 450, 500, 600, 700, 800, 1000, 1200, 1600, 2000, 2500,
 			3000, 4000, 5000, 6000};
+	private static final RatingIndex ratingIndex =
+			new RatingIndex(standardRatings);
 
 	/**
 	 @return The list of all standard ratings recognized by the NEC.
@@ -63,23 +65,22 @@ public class OCPD {
 	 on the all articles of the NEC-2014.
 	 */
 	public static int getRatingFor(double ampacity, boolean NHSR_Rule) {
-		int nextHigher = standardRatings[standardRatings.length - 1]; //6000
-		for (int i = standardRatings.length - 1; i > 0; i--) {
-			if (standardRatings[i] == ampacity)
-				return standardRatings[i];
-			if (standardRatings[i] < ampacity) {
-				if (nextHigher > 800)
-					//the NHSR_rule is overridden by NEC 240.4(B)
-					return standardRatings[i];
-				//the NHSR rule is accounted for
-				if (NHSR_Rule)
-					return nextHigher;
-				else
-					return standardRatings[i];
-			}
-			nextHigher = standardRatings[i];
-		}
-		return standardRatings[0]; //15 Amps
+		if (!(ampacity > standardRatings[0]))
+			return standardRatings[0]; //15 Amps
+		int higher = ratingIndex.ceilingIndex(ampacity);
+		if (higher == standardRatings.length)
+			return standardRatings[higher - 1]; //6000
+		if (standardRatings[higher] == ampacity)
+			return standardRatings[higher];
+		if (higher == 1)
+			return standardRatings[0];
+		if (standardRatings[higher] > 800)
+			//the NHSR_rule is overridden by NEC 240.4(B)
+			return standardRatings[higher - 1];
+		//the NHSR rule is accounted for
+		if (NHSR_Rule)
+			return standardRatings[higher];
+		return standardRatings[higher - 1];
 	}
 
 	/**
@@ -107,10 +108,8 @@ public class OCPD {
 	 zero.
 	 */
 	private static int getLowRating(double current) {
-		for (int i = standardRatings.length - 1 ; i >= 0; i--)
-			if (standardRatings[i] <= current)
-				return standardRatings[i];
-		return 0;
+		int index = ratingIndex.floorIndex(current);
+		return index == -1 ? 0 : standardRatings[index];
 	}
 
 	/**
@@ -119,10 +118,8 @@ public class OCPD {
 	 value is zero.
 	 */
 	private static int getHighRating(double current) {
-		for (int standardRating : standardRatings)
-			if (standardRating >= current)
-				return standardRating;
-		return 0;
+		int index = ratingIndex.ceilingIndex(current);
+		return index == standardRatings.length ? 0 : standardRatings[index];
 	}
 
 	/**
@@ -130,7 +127,7 @@ public class OCPD {
 	 @param rating The rating for which the next higher rating is requested.
 	 */
 	public static int getNextHigherRating(int rating){
-		int index = ArrayTools.getIndexOf(standardRatings, rating);
+		int index = ratingIndex.indexOf(rating);
 		if(index != -1 && index != standardRatings.length - 1)
 			return standardRatings[index + 1];
 		return 0;
@@ -141,7 +138,7 @@ public class OCPD {
 	 @param rating The rating for which the next lower rating is requested.
 	 */
 	public static int getNextLowerRating(int rating){
-		int index = ArrayTools.getIndexOf(standardRatings, rating);
+		int index = ratingIndex.indexOf(rating);
 		if(index != -1 && index != 0)
 			return standardRatings[index - 1];
 		return 0;
@@ -0,0 +1,220 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.Size;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ Brings the circuits that share a conduit or a bundle to a consistent state.
+ <p>The size of the conductors or cables of a circuit depends on their
+ adjustment factor, which depends on the other circuits in the same conduit
+ or bundle: on their number of current-carrying conductors and, for
+ bundles, on the rules of NEC 310.15(B)(3)(a)(4) and (5), which look at the
+ type and size of all the cables. Resizing one circuit can therefore change
+ the adjustment factor of the others, and resizing those can change it
+ back.
+ <p>The solver keeps a worklist of the circuits whose inputs changed: the
+ ones that are out of date and the ones whose adjustment factor is not the
+ one they were last calculated with. It takes them one at a time,
+ recalculates them and compares the adjustment factor of every circuit in
+ the same conduit or bundle with the one that circuit was last calculated
+ with. The circuits whose factor changed are marked as out of date and
+ added to the worklist. A round is one pass over the circuits that were in
+ the worklist when it started.
+ <p>The solver stops when:
+ <ul>
+ <li>the worklist is empty: the circuits converged;</li>
+ <li>the sizes and adjustment factors of all the circuits and the worklist
+ at the end of a round are the same as at the end of a previous round: the
+ circuits oscillate and would never converge;</li>
+ <li>the maximum number of rounds was reached.</li>
+ </ul>
+ Circuits that are up to date are not recalculated, so calling
+ {@link #solve()} again after changing some circuits only recalculates
+ those circuits and the ones affected by them.
+ */
+public final class SharedRacewaySolver {
+	/**The possible outcomes of {@link #solve()}.*/
+	public enum Outcome {
+		/**No circuit needs to be recalculated.*/
+		CONVERGED,
+		/**The circuits went back to a state they already had.*/
+		OSCILLATING,
+		/**The maximum number of rounds was reached.*/
+		ROUND_LIMIT_REACHED
+	}
+
+	private final Circuit[] circuits;
+	/**Indexes of the circuits in the same container as each circuit,
+	 including the circuit itself.*/
+	private final int[][] neighbors;
+	private int maxRounds = 100;
+	private int roundCount;
+	private int evaluationCount;
+	private final int[] evaluationsPerCircuit;
+
+	/**
+	 Creates a solver for the given circuits. The circuits are usually all
+	 the circuits in one shared conduit or bundle, like the ones returned by
+	 {@link CircuitScheduler#getCircuits(int)}. Circuits in different
+	 containers are solved independently of each other.
+	 @param circuits The circuits. Cannot be null nor contain null elements.
+	 */
+	public SharedRacewaySolver(List<Circuit> circuits) {
+		if(circuits == null)
+			throw new IllegalArgumentException("Circuits parameter cannot be null.");
+		this.circuits = circuits.toArray(new Circuit[0]);
+		Map<Object, List<Integer>> members = new IdentityHashMap<>();
+		for(int i = 0; i < this.circuits.length; i++) {
+			Circuit circuit = this.circuits[i];
+			if(circuit == null)
+				throw new IllegalArgumentException("Circuits cannot contain null elements.");
+			Object container = circuit.getSharedContainer();
+			members.computeIfAbsent(container == null ? circuit : container,
+					key -> new ArrayList<>()).add(i);
+		}
+		neighbors = new int[this.circuits.length][];
+		for(List<Integer> group: members.values()) {
+			int[] indexes = group.stream().mapToInt(Integer::intValue).toArray();
+			for(int index: indexes)
+				neighbors[index] = indexes;
+		}
+		evaluationsPerCircuit = new int[this.circuits.length];
+	}
+
+	/**
+	 Sets the maximum number of rounds of a call to {@link #solve()}.
+	 @param maxRounds The maximum number of rounds, 100 by default. Must be
+	 greater than zero.
+	 @return This solver.
+	 */
+	public SharedRacewaySolver setMaxRounds(int maxRounds) {
+		if(maxRounds <= 0)
+			throw new IllegalArgumentException("The maximum number of rounds " +
+					"must be greater than zero.");
+		this.maxRounds = maxRounds;
+		return this;
+	}
+
+	/**
+	 @return The maximum number of rounds of a call to {@link #solve()}.
+	 */
+	public int getMaxRounds() {
+		return maxRounds;
+	}
+
+	/**
+	 Recalculates the circuits until they converge, oscillate or the maximum
+	 number of rounds is reached.
+	 @return The reason why the solver stopped.
+	 */
+	public Outcome solve() {
+		roundCount = 0;
+		evaluationCount = 0;
+		Arrays.fill(evaluationsPerCircuit, 0);
+		boolean[] queued = new boolean[circuits.length];
+		ArrayDeque<Integer> worklist = new ArrayDeque<>();
+		for(int i = 0; i < circuits.length; i++) {
+			Circuit circuit = circuits[i];
+			if(isFactorOutdated(circuit))
+				circuit.adjustmentFactorChanged();
+			if(circuit.needsRecalculation()) {
+				queued[i] = true;
+				worklist.add(i);
+			}
+		}
+		List<long[]> states = new ArrayList<>();
+		states.add(getState(worklist));
+		while(!worklist.isEmpty()) {
+			if(roundCount == maxRounds)
+				return Outcome.ROUND_LIMIT_REACHED;
+			roundCount++;
+			for(int count = worklist.size(); count > 0; count--) {
+				int index = worklist.poll();
+				queued[index] = false;
+				Circuit circuit = circuits[index];
+				circuit.recalculate();
+				evaluationCount++;
+				evaluationsPerCircuit[index]++;
+				for(int neighbor: neighbors[index]) {
+					if(queued[neighbor])
+						continue;
+					if(isFactorOutdated(circuits[neighbor])) {
+						circuits[neighbor].adjustmentFactorChanged();
+						queued[neighbor] = true;
+						worklist.add(neighbor);
+					}
+				}
+			}
+			if(worklist.isEmpty())
+				break;
+			long[] state = getState(worklist);
+			for(long[] previous: states)
+				if(Arrays.equals(previous, state))
+					return Outcome.OSCILLATING;
+			states.add(state);
+		}
+		return Outcome.CONVERGED;
+	}
+
+	/**
+	 @return True if the adjustment factor of the given circuit is not the
+	 one it was last calculated with.
+	 */
+	private static boolean isFactorOutdated(Circuit circuit) {
+		return circuit.getConduitableAdjustmentFactor() !=
+				circuit.getCalculatedAdjustmentFactor();
+	}
+
+	/**
+	 @return The state of the solver between two rounds: the size, the
+	 adjustment factor and the calculated adjustment factor of all the
+	 circuits, followed by the circuits in the worklist. The next rounds
+	 depend only on this state, so if it repeats, the solver is in a cycle.
+	 */
+	private long[] getState(ArrayDeque<Integer> worklist) {
+		long[] state = new long[3 * circuits.length + worklist.size()];
+		for(int i = 0; i < circuits.length; i++) {
+			Size size = circuits[i].getConduitableSize();
+			state[3 * i] = size == null ? -1 : size.ordinal();
+			state[3 * i + 1] = Double.doubleToLongBits(
+					circuits[i].getConduitableAdjustmentFactor());
+			state[3 * i + 2] = Double.doubleToLongBits(
+					circuits[i].getCalculatedAdjustmentFactor());
+		}
+		int position = 3 * circuits.length;
+		for(int index: worklist)
+			state[position++] = index;
+		return state;
+	}
+
+	/**
+	 @return The number of rounds of the last call to {@link #solve()}.
+	 */
+	public int getRoundCount() {
+		return roundCount;
+	}
+
+	/**
+	 @return The number of circuit calculations of the last call to
+	 {@link #solve()}.
+	 */
+	public int getEvaluationCount() {
+		return evaluationCount;
+	}
+
+	/**
+	 @param circuit The index of the circuit, in the list given to the
+	 constructor.
+	 @return The number of times the given circuit was calculated in the last
+	 call to {@link #solve()}.
+	 */
+	public int getEvaluationCount(int circuit) {
+		return evaluationsPerCircuit[circuit];
+	}
+}
@@ -0,0 +1,193 @@
+package eecalcs.circuits;
+
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+
+/**
+ Holds the results of a {@link CircuitSweep} in columnar form: one primitive
+ array per result, with one element per point of the sweep grid.
+ <p>The points are laid out with the length as the fastest changing axis,
+ followed by the load current, the ambient temperature, the number of sets
+ and the conduit type, that is, the index of a point is given by
+ {@link #indexOf(int, int, int, int, int)}.
+ <p>Sizes and trade sizes are stored as the ordinal of their enum constants;
+ a value of -1 means the size could not be determined (check the
+ {@link CircuitResult} of the same spec for the error messages) or, for the
+ neutral and the conduit, that there is none.
+ <p>The getters of the arrays return copies, so this object is immutable
+ once the sweep finishes and can be shared among threads.
+ */
+public final class SweepResult {
+	private final double[] lengths;
+	private final double[] currents;
+	private final int[] ambientTemperaturesF;
+	private final int[] numberOfSets;
+	private final Type[] conduitTypes;
+	final int[] phaseSizes;
+	final int[] neutralSizes;
+	final int[] groundingSizes;
+	final int[] sizesPerVoltageDrop;
+	final int[] ocpdRatings;
+	final int[] conduitTradeSizes;
+	final double[] voltageDropPercentages;
+	/**Number of points that were calculated by a circuit, the other ones
+	 were filled from their neighbors along the length axis.*/
+	int evaluatedCount;
+
+	SweepResult(double[] lengths, double[] currents, int[] ambientTemperaturesF,
+	            int[] numberOfSets, Type[] conduitTypes) {
+		this.lengths = lengths;
+		this.currents = currents;
+		this.ambientTemperaturesF = ambientTemperaturesF;
+		this.numberOfSets = numberOfSets;
+		this.conduitTypes = conduitTypes;
+		int size = lengths.length * currents.length * ambientTemperaturesF.length
+				* numberOfSets.length * conduitTypes.length;
+		phaseSizes = new int[size];
+		neutralSizes = new int[size];
+		groundingSizes = new int[size];
+		sizesPerVoltageDrop = new int[size];
+		ocpdRatings = new int[size];
+		conduitTradeSizes = new int[size];
+		voltageDropPercentages = new double[size];
+	}
+
+	/**
+	 @return The number of points in this result.
+	 */
+	public int size() {
+		return phaseSizes.length;
+	}
+
+	/**
+	 Returns the index of the point defined by the given indexes of each axis.
+	 @param conduitTypeIndex The index in {@link #getConduitTypes()}.
+	 @param setsIndex The index in {@link #getNumberOfSets()}.
+	 @param ambientIndex The index in {@link #getAmbientTemperaturesF()}.
+	 @param currentIndex The index in {@link #getCurrents()}.
+	 @param lengthIndex The index in {@link #getLengths()}.
+	 @return The index of the point in the result arrays.
+	 */
+	public int indexOf(int conduitTypeIndex, int setsIndex, int ambientIndex,
+	                   int currentIndex, int lengthIndex) {
+		return (((conduitTypeIndex * numberOfSets.length + setsIndex)
+				* ambientTemperaturesF.length + ambientIndex)
+				* currents.length + currentIndex)
+				* lengths.length + lengthIndex;
+	}
+
+	/**
+	 @return The lengths of the sweep, in feet.
+	 */
+	public double[] getLengths() {
+		return lengths.clone();
+	}
+
+	/**
+	 @return The load currents of the sweep, in amperes.
+	 */
+	public double[] getCurrents() {
+		return currents.clone();
+	}
+
+	/**
+	 @return The ambient temperatures of the sweep, in degrees Fahrenheits.
+	 */
+	public int[] getAmbientTemperaturesF() {
+		return ambientTemperaturesF.clone();
+	}
+
+	/**
+	 @return The number of sets of the sweep.
+	 */
+	public int[] getNumberOfSets() {
+		return numberOfSets.clone();
+	}
+
+	/**
+	 @return The conduit types of the sweep.
+	 */
+	public Type[] getConduitTypes() {
+		return conduitTypes.clone();
+	}
+
+	/**
+	 @return The ordinals of the phase conductor sizes.
+	 */
+	public int[] getPhaseSizes() {
+		return phaseSizes.clone();
+	}
+
+	/**
+	 @return The ordinals of the neutral conductor sizes.
+	 */
+	public int[] getNeutralSizes() {
+		return neutralSizes.clone();
+	}
+
+	/**
+	 @return The ordinals of the grounding conductor sizes.
+	 */
+	public int[] getGroundingSizes() {
+		return groundingSizes.clone();
+	}
+
+	/**
+	 @return The ordinals of the phase conductor sizes per voltage drop.
+	 */
+	public int[] getSizesPerVoltageDrop() {
+		return sizesPerVoltageDrop.clone();
+	}
+
+	/**
+	 @return The ratings of the overcurrent protection devices.
+	 */
+	public int[] getOCPDRatings() {
+		return ocpdRatings.clone();
+	}
+
+	/**
+	 @return The ordinals of the trade sizes of the conduits.
+	 */
+	public int[] getConduitTradeSizes() {
+		return conduitTradeSizes.clone();
+	}
+
+	/**
+	 @return The voltage drop percentages of the phase conductors.
+	 */
+	public double[] getVoltageDropPercentages() {
+		return voltageDropPercentages.clone();
+	}
+
+	/**
+	 @param index The index of the point.
+	 @return The size of the phase conductors at the given point, or null if
+	 it could not be determined.
+	 */
+	public Size getPhaseSize(int index) {
+		int ordinal = phaseSizes[index];
+		return Size.byOrdinal(ordinal);
+	}
+
+	/**
+	 @param index The index of the point.
+	 @return The trade size of the conduit at the given point, or null if
+	 there is no conduit or it could not be determined.
+	 */
+	public Trade getConduitTradeSize(int index) {
+		int ordinal = conduitTradeSizes[index];
+		return Trade.byOrdinal(ordinal);
+	}
+
+	/**
+	 @return The number of points that were calculated by a circuit. The
+	 other points were known to have the same sizes and ratings as their
+	 neighbors along the length axis and only their voltage drop was
+	 calculated.
+	 */
+	public int getEvaluatedCount() {
+		return evaluatedCount;
+	}
+}
@@ -0,0 +1,104 @@
+package eecalcs.conductors;
+
+import tools.NotifierDelegate;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ Keeps the last corrected and adjusted ampacity and compound factor
+ calculated for a conduitable, together with the state of the conduitable
+ and of its conduit or bundle at that moment.
+ <p>The state is given by the change counts of the notifier delegates of the
+ conduitable and of its container (see
+ {@link NotifierDelegate#getChangeCount()}), so the cached values are
+ invalidated by any change notified by the conduitable, its conduit or its
+ bundle, even while their notifiers are disabled or in a batch.
+ <p>The number of hits and misses of all the caches is counted, so the hit
+ rate can be read with {@link #getHitCount()} and {@link #getMissCount()}.
+ */
+public final class AmpacityCache {
+	private static final LongAdder hits = new LongAdder();
+	private static final LongAdder misses = new LongAdder();
+	private boolean valid = false;
+	private int changeCount;
+	private Object container;
+	private int containerChangeCount;
+	private double compoundFactor;
+	private double ampacity;
+
+	AmpacityCache() {
+	}
+
+	/**
+	 @return The number of times a cached value was used, for all the
+	 conduitables.
+	 */
+	public static long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 @return The number of times a value had to be calculated, for all the
+	 conduitables.
+	 */
+	public static long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 Resets the hit and miss counters.
+	 */
+	public static void resetCounters() {
+		hits.reset();
+		misses.reset();
+	}
+
+	/**
+	 Asks if the cached values correspond to the given state, and counts the
+	 answer as a hit or a miss.
+	 @param notifier The notifier of the conduitable.
+	 @param container The conduit or bundle of the conduitable, or null.
+	 @param containerNotifier The notifier of the container, or null.
+	 @return True if the cached values can be used.
+	 */
+	boolean isValid(NotifierDelegate notifier, Object container,
+	                NotifierDelegate containerNotifier) {
+		boolean result = valid && changeCount == notifier.getChangeCount() &&
+				this.container == container && (containerNotifier == null ||
+				containerChangeCount == containerNotifier.getChangeCount());
+		if(result)
+			hits.increment();
+		else
+			misses.increment();
+		return result;
+	}
+
+	/**
+	 Saves the given values for the given state.
+	 */
+	void store(NotifierDelegate notifier, Object container,
+	           NotifierDelegate containerNotifier, double compoundFactor,
+	           double ampacity) {
+		changeCount = notifier.getChangeCount();
+		this.container = container;
+		containerChangeCount = containerNotifier == null ? 0 :
+				containerNotifier.getChangeCount();
+		this.compoundFactor = compoundFactor;
+		this.ampacity = ampacity;
+		valid = true;
+	}
+
+	/**
+	 @return The cached compound factor.
+	 */
+	double getCompoundFactor() {
+		return compoundFactor;
+	}
+
+	/**
+	 @return The cached corrected and adjusted ampacity.
+	 */
+	double getAmpacity() {
+		return ampacity;
+	}
+}
@@ -3,7 +3,9 @@ package eecalcs.conductors;
 import tools.NotifierDelegate;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  This class represents a bundle. A bundle is a group of cables or
@@ -33,6 +35,12 @@ public class Bundle implements ROBundle {
 	cable/conductors)*/
 	private double bundlingLength = 0;
 	protected final NotifierDelegate notifier = new NotifierDelegate(this);
+	/*Number of current-carrying conductors in this bundle and the count of
+	each conduitable, maintained on add, remove and on changes reported by the
+	conduitables through conduitableChanged*/
+	private int currentCarryingCount = 0;
+	private final Map<Conduitable, Integer> currentCarryingPerConduitable =
+			new IdentityHashMap<>();
 
 	/**
 	 Constructs a cable bundle. The cable bundle will contain the given
@@ -97,6 +105,9 @@ public class Bundle implements ROBundle {
 
 		conduitables.add(conduitable);
 		conduitable.setBundle(this);
+		int count = conduitable.getCurrentCarryingCount();
+		currentCarryingPerConduitable.put(conduitable, count);
+		currentCarryingCount += count;
 
 		notifier.info.addFieldChange("conduitables", null, null);
 		notifier.notifyAllListeners();
@@ -110,8 +121,12 @@ public class Bundle implements ROBundle {
 		if (conduitable == null)
 			return;
 
-		if (conduitables.remove(conduitable))
+		if (conduitables.remove(conduitable)) {
+			Integer count = currentCarryingPerConduitable.remove(conduitable);
+			if (count != null)
+				currentCarryingCount -= count;
 			conduitable.leaveBundle();
+		}
 
 		notifier.info.addFieldChange("conduitables", null, null);
 		notifier.notifyAllListeners();
@@ -123,10 +138,47 @@ public class Bundle implements ROBundle {
 	 bundle will be empty.
 	 */
 	public void empty() {
+		//listeners are notified once, not once per removed conduitable
+		notifier.beginBatch();
 		Object[] c = conduitables.toArray();
 		for (Object o : c) ((Conduitable) o).leaveBundle();
 		notifier.info.addFieldChange("conduitables", null, null);
 		notifier.notifyAllListeners();
+		notifier.commit();
+	}
+
+	/**
+	 Notifies the listeners of this bundle that the ambient temperature of its
+	 conduitables changed, after a conduitable propagated a new temperature to
+	 all the conduitables in the bundle.
+	 */
+	void ambientTemperatureChanged() {
+		notifier.info.addFieldChange("ambientTemperatureF", null, null);
+		notifier.notifyAllListeners();
+	}
+
+	/**
+	 Updates the number of current-carrying conductors of this bundle after
+	 the given conduitable changed its own count (for instance, because of a
+	 change of role or voltage system) or another property used by the rules
+	 of 310.15(B)(3)(a) (like the type or the size of a cable). Nothing is
+	 done if the conduitable is not in this bundle.
+	 @param conduitable The conduitable that changed.
+	 */
+	void conduitableChanged(Conduitable conduitable) {
+		Integer oldCount = currentCarryingPerConduitable.get(conduitable);
+		if (oldCount == null)
+			return;
+		int count = conduitable.getCurrentCarryingCount();
+		//the adjustment factor of all the conduitables may change
+		if (count != oldCount) {
+			currentCarryingPerConduitable.put(conduitable, count);
+			currentCarryingCount += count - oldCount;
+			notifier.info.addFieldChange("conduitables", null, null);
+			notifier.notifyAllListeners();
+		}
+		else
+			notifier.countChange();
 	}
 
 	@Override
@@ -141,10 +193,7 @@ public class Bundle implements ROBundle {
 
 	@Override
 	public int getCurrentCarryingCount() {
-		int currentCarrying = 0;
-		for (Conduitable conduitable : conduitables)
-			currentCarrying += conduitable.getCurrentCarryingCount();
-		return currentCarrying;
+		return currentCarryingCount;
 	}
 
 	@Override
@@ -82,6 +82,7 @@ public class Cable implements Conduitable, ROCable {
 	private double outerDiameter = 0.5;
 	private boolean neutralCarryingConductor = false;
 	private final NotifierDelegate notifier = new NotifierDelegate(this);
+	private final AmpacityCache ampacityCache = new AmpacityCache();
 
 	/*TODO *************************
 	 *  URGENT: the outer diameter of a cable should adjust automatically to a
@@ -210,32 +211,26 @@ public class Cable implements Conduitable, ROCable {
 
 	@Override
 	public double getCompoundFactor() {
-		return getCorrectionFactor() * getAdjustmentFactor();
+		updateAmpacityCache();
+		return ampacityCache.getCompoundFactor();
 	}
 
 	@Override
 	public double getCompoundFactor(TempRating terminationTempRating) {
-		if (terminationTempRating == null)
-			return 1;
-		Insul temp_insul;
-		if (terminationTempRating == TempRating.T60)
-			temp_insul = Insul.TW;
-		else if (terminationTempRating == TempRating.T75)
-			temp_insul = Insul.THW;
-		else
-			temp_insul = Insul.THHW;
-
-		Insul old_insul = phaseAConductor.getInsulation();
-		boolean _enabled = phaseAConductor.getNotifier().isEnable();
-		phaseAConductor.getNotifier().enable(false);
-		phaseAConductor.setInsulation(temp_insul);
-
-		double compoundFactor = getCorrectionFactor() * getAdjustmentFactor();
-
-		phaseAConductor.setInsulation(old_insul);
-		phaseAConductor.getNotifier().enable(_enabled);
+		return getFactorContext().getCompoundFactor(terminationTempRating);
+	}
 
-		return compoundFactor;
+	@Override
+	public FactorContext getFactorContext() {
+		int roofTopTempAdjustment;
+		if (hasConduit())
+			roofTopTempAdjustment = Factors.getRoofTopTempAdjustment(conduit.getRoofTopDistance());
+		else
+			roofTopTempAdjustment = Factors.getRoofTopTempAdjustment(roofTopDistance);
+		double adjustmentFactor = getAdjustmentFactor();
+		return new FactorContext(phaseAConductor.getAmbientTemperatureF(),
+				roofTopTempAdjustment, adjustmentFactor,
+				getCorrectionFactor() * adjustmentFactor);
 	}
 
 	@Override
@@ -262,6 +257,7 @@ public class Cable implements Conduitable, ROCable {
 			this.jacketed = jacketed;
 		else
 			this.jacketed = false;
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
@@ -280,6 +276,7 @@ public class Cable implements Conduitable, ROCable {
 		if (outerDiameter < 0.5)
 			outerDiameter = 0.5;
 		this.outerDiameter = outerDiameter;
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
@@ -358,6 +355,7 @@ public class Cable implements Conduitable, ROCable {
 			} else //3 wires, no neutral
 				neutralConductor = null;
 		}
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
@@ -392,10 +390,29 @@ public class Cable implements Conduitable, ROCable {
 
 	@Override
 	public double getCorrectedAndAdjustedAmpacity() {
-		return ConductorProperties.getStandardAmpacity(phaseAConductor.getSize(),
-                phaseAConductor.getMetal(),
-                phaseAConductor.getTemperatureRating())
-				* getCorrectionFactor() * getAdjustmentFactor();
+		updateAmpacityCache();
+		return ampacityCache.getAmpacity();
+	}
+
+	/**
+	 Calculates the compound factor and the corrected and adjusted ampacity
+	 of this cable, unless this cable, its conduit or its bundle have not
+	 changed since they were cached.
+	 */
+	private void updateAmpacityCache() {
+		Object container = conduit != null ? conduit : bundle;
+		NotifierDelegate containerNotifier = conduit != null ?
+				conduit.getNotifier() : bundle != null ? bundle.getNotifier() : null;
+		if (ampacityCache.isValid(notifier, container, containerNotifier))
+			return;
+		double correctionFactor = getCorrectionFactor();
+		double adjustmentFactor = getAdjustmentFactor();
+		ampacityCache.store(notifier, container, containerNotifier,
+				correctionFactor * adjustmentFactor,
+				ConductorProperties.getStandardAmpacity(phaseAConductor.getSize(),
+						phaseAConductor.getMetal(),
+						phaseAConductor.getTemperatureRating())
+						* correctionFactor * adjustmentFactor);
 	}
 
 	@Override
@@ -426,6 +443,21 @@ public class Cable implements Conduitable, ROCable {
 		conduit = null;
 	}
 
+	/**
+	 Lets the conduit or bundle this cable is in update its aggregates
+	 (number of current-carrying conductors, areas, adjustment factor) after
+	 the outer diameter, the voltage system or any property used by the
+	 bundling rules (type, jacket, phase size, metal) of this cable changed.
+	 This is done directly, not through the notifier, because the notifier
+	 can be disabled.
+	 */
+	private void reportChangeToContainer() {
+		if (conduit != null)
+			conduit.conduitableChanged(this);
+		else if (bundle != null)
+			bundle.conduitableChanged(this);
+	}
+
 	@Override
 	public boolean hasBundle() {
 		return bundle != null;
@@ -475,6 +507,7 @@ public class Cable implements Conduitable, ROCable {
 			phaseCConductor.setSize(size);
 		if(voltageSystemAC.hasHotAndNeutralOnly())
 			neutralConductor.setSize(size);
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
@@ -530,6 +563,7 @@ public class Cable implements Conduitable, ROCable {
 		if (neutralConductor != null)
 			neutralConductor.setMetal(metal);
 		groundingConductor.setMetal(metal);
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
@@ -576,18 +610,26 @@ public class Cable implements Conduitable, ROCable {
 
 	@Override
 	public void setAmbientTemperatureF(int ambientTemperatureF) {
-		if (conduit != null)
+		//the conduitables of a conduit or bundle share the temperature
+		boolean changed = getAmbientTemperatureF() != ambientTemperatureF;
+		if (conduit != null) {
 			conduit.getConduitables().forEach(conduitable -> {
 				conduitable.notifierEnabled(false);
 				conduitable.setAmbientTemperatureWithoutPropagation(ambientTemperatureF);
 				conduitable.notifierEnabled(true);
 			});
-		else if (bundle != null)
+			if (changed)
+				conduit.ambientTemperatureChanged();
+		}
+		else if (bundle != null) {
 			bundle.getConduitables().forEach(conduitable -> {
 				conduitable.notifierEnabled(false);
 				conduitable.setAmbientTemperatureWithoutPropagation(ambientTemperatureF);
 				conduitable.notifierEnabled(true);
 			});
+			if (changed)
+				bundle.ambientTemperatureChanged();
+		}
 		else
 			setAmbientTemperatureWithoutPropagation(ambientTemperatureF);
 	}
@@ -704,6 +746,7 @@ public class Cable implements Conduitable, ROCable {
 		if ((this.cableType == eecalcs.conductors.CableType.AC | this.cableType == eecalcs.conductors.CableType.MC) & cableType != eecalcs.conductors.CableType.AC & cableType != eecalcs.conductors.CableType.MC)
 			jacketed = false;
 		this.cableType = cableType;
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
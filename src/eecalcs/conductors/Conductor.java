@@ -104,6 +104,7 @@ public class Conductor implements Conduitable, RoConductor {
 	private Conduit conduit;
 	private Bundle bundle;
 	private final NotifierDelegate notifier = new NotifierDelegate(this);
+	private final AmpacityCache ampacityCache = new AmpacityCache();
 
 	/**
 	 Constructs a conductor with the given characteristics. The other properties
@@ -163,6 +164,8 @@ public class Conductor implements Conduitable, RoConductor {
 		ambientTemperatureF = conductor.ambientTemperatureF;
 		copperCoated = conductor.copperCoated;
 		role = conductor.role;
+		reportChangeToContainer();
+		notifier.countChange();
 	}
 
 	/**
@@ -192,6 +195,7 @@ public class Conductor implements Conduitable, RoConductor {
 		if(this.size == size)
 			return this;
 		this.size = size;
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 		return this;
 	}
@@ -209,6 +213,7 @@ public class Conductor implements Conduitable, RoConductor {
 		if(this.metal == metal)
 			return;
 		this.metal = metal;
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
@@ -222,6 +227,7 @@ public class Conductor implements Conduitable, RoConductor {
 		if(this.insulation == insulation)
 			return;
 		this.insulation = insulation;
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 	}
 
@@ -246,8 +252,8 @@ public class Conductor implements Conduitable, RoConductor {
 
 	@Override
 	public double getCorrectedAndAdjustedAmpacity(){
-		return ConductorProperties.getStandardAmpacity(size, metal,
-				ConductorProperties.getTempRating(insulation)) * getCompoundFactor();
+		updateAmpacityCache();
+		return ampacityCache.getAmpacity();
 	}
 
 	@Override
@@ -273,32 +279,41 @@ public class Conductor implements Conduitable, RoConductor {
 
 	@Override
 	public double getCompoundFactor() {
-		return getCorrectionFactor() * getAdjustmentFactor();
+		updateAmpacityCache();
+		return ampacityCache.getCompoundFactor();
 	}
 
-	@Override
-	public double getCompoundFactor(TempRating tempRating) {
-		if(tempRating == null)
-			return 1;
-		Insul temp_insul;
-		if(tempRating == TempRating.T60)
-			temp_insul = Insul.TW;
-		else if(tempRating == TempRating.T75)
-			temp_insul = Insul.THW;
-		else
-			temp_insul = Insul.THHW;
-
-		Insul old_insul = insulation;
-		boolean _enabled = notifier.isEnable();
-		notifier.enable(false);
-		insulation = temp_insul;
-
+	/**
+	 Calculates the compound factor and the corrected and adjusted ampacity
+	 of this conductor, unless this conductor, its conduit or its bundle have
+	 not changed since they were cached.
+	 */
+	private void updateAmpacityCache() {
+		Object container = conduit != null ? conduit : bundle;
+		NotifierDelegate containerNotifier = conduit != null ?
+				conduit.getNotifier() : bundle != null ? bundle.getNotifier() : null;
+		if(ampacityCache.isValid(notifier, container, containerNotifier))
+			return;
 		double compoundFactor = getCorrectionFactor() * getAdjustmentFactor();
+		ampacityCache.store(notifier, container, containerNotifier,
+				compoundFactor, ConductorProperties.getStandardAmpacity(size,
+						metal, ConductorProperties.getTempRating(insulation)) *
+						compoundFactor);
+	}
 
-		insulation = old_insul;
-		notifier.enable(_enabled);
+	@Override
+	public double getCompoundFactor(TempRating tempRating) {
+		return getFactorContext().getCompoundFactor(tempRating);
+	}
 
-		return compoundFactor;
+	@Override
+	public FactorContext getFactorContext() {
+		int roofTopTempAdjustment = 0;
+		if(hasConduit())
+			roofTopTempAdjustment = Factors.getRoofTopTempAdjustment(conduit.getRoofTopDistance());
+		double adjustmentFactor = getAdjustmentFactor();
+		return new FactorContext(getAmbientTemperatureF(), roofTopTempAdjustment,
+				adjustmentFactor, getCorrectionFactor() * adjustmentFactor);
 	}
 
 	@Override
@@ -308,18 +323,26 @@ public class Conductor implements Conduitable, RoConductor {
 
 	@Override
 	public void setAmbientTemperatureF(int ambientTemperatureF) {
-		if(conduit != null)
+		//the conduitables of a conduit or bundle share the temperature
+		boolean changed = this.ambientTemperatureF != ambientTemperatureF;
+		if(conduit != null) {
 			conduit.getConduitables().forEach(conduitable -> {
 				conduitable.notifierEnabled(false);
 				conduitable.setAmbientTemperatureWithoutPropagation(ambientTemperatureF);
 				conduitable.notifierEnabled(true);
 			});
-		else if(bundle != null)
+			if(changed)
+				conduit.ambientTemperatureChanged();
+		}
+		else if(bundle != null) {
 			bundle.getConduitables().forEach(conduitable -> {
 				conduitable.notifierEnabled(false);
 				conduitable.setAmbientTemperatureWithoutPropagation(ambientTemperatureF);
 				conduitable.notifierEnabled(true);
 			});
+			if(changed)
+				bundle.ambientTemperatureChanged();
+		}
 		else
 			setAmbientTemperatureWithoutPropagation(ambientTemperatureF);
 	}
@@ -425,6 +448,7 @@ public class Conductor implements Conduitable, RoConductor {
 		if(this.role == role)
 			return this;
 		this.role = role;
+		reportChangeToContainer();
 		notifier.notifyAllListeners();
 		return this;
 	}
@@ -467,6 +491,20 @@ public class Conductor implements Conduitable, RoConductor {
 		bundle = null;
 	}
 
+	/**
+	 Lets the conduit or bundle this conductor is in update its aggregates
+	 (number of current-carrying conductors, areas, adjustment factor) after
+	 the size, insulation, metal or role of this conductor changed. This is
+	 done directly, not through the notifier, because the notifier can be
+	 disabled.
+	 */
+	private void reportChangeToContainer() {
+		if(conduit != null)
+			conduit.conduitableChanged(this);
+		else if(bundle != null)
+			bundle.conduitableChanged(this);
+	}
+
 	@Override
 	public Bundle getBundle() {
 		return bundle;
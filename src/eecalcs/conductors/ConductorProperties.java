@@ -46,7 +46,19 @@ public class ConductorProperties {
 	private static final Map<Size, Double> compactBareDimensions;
 	private static final Map<Insul, Map<Size, Double>> compactDimensions;
 	//Table 5A
-	private static final Map<TempRating, Insul[]> insulationTempMap;
+	/**Ampacities of NEC table 310.15(B)(16) laid out as
+	 [metal ordinal][temperature rating ordinal][size ordinal]. Each row is
+	 non-decreasing with the size, which allows a binary search of the
+	 minimum size for a given ampacity.*/
+	private static final double[][][] ampacity;
+	/**Areas of tables 5 and 5A laid out as [insulation ordinal][size
+	 ordinal]. Not defined areas are NaN.*/
+	private static final double[][] insulatedArea;
+	private static final double[][] compactArea;
+	/**Areas of bare compact conductors (table 5A) by size ordinal. Not
+	 defined areas are NaN.*/
+	private static final double[] compactBareArea;
+	private static final Size[] sizes = Size.values();
 
 	private static class Properties {
 		public Size size;
@@ -412,26 +424,6 @@ public class ConductorProperties {
 		EMPTY = new HashMap<>();
 		//endregion
 
-		//region temperature of insulators
-		// XHHW & THHW are duplicated in 75 and 90 degrees columns. It is
-		// assumed both are 90 by definition of their double Hs.
-		//However, I found in NEC table 310.104(A) that THHW is 75 when used
-		// in wet location, but 90 in dry locations.
-		//XHHW is 90 for dry and damp but 75  for wet.
-		//This information should be part of the enum and also the
-		// "application provisions" of the conductor as described in this
-		// table.
-		insulationTempMap = new HashMap<>();
-		insulationTempMap.put(TempRating.T60, new Insul[]{Insul.TW});
-		insulationTempMap.put(TempRating.T75, new Insul[]{Insul.RHW, Insul.THW
-				, Insul.THWN, Insul.USE, Insul.ZW});
-		insulationTempMap.put(TempRating.T90, new Insul[]{Insul.TBS, Insul.SA,
-				Insul.SIS, Insul.FEP, Insul.FEPB, Insul.MI, Insul.RHH,
-				Insul.RHW2, Insul.THHN,
-				Insul.THHW, Insul.THW2, Insul.THWN2, Insul.USE2, Insul.XHH,
-				Insul.XHHW, Insul.XHHW2, Insul.ZW2});
-		//endregion
-
 		//region dimensions of insulated conductors
 		insulatedDimensions = new HashMap<>();
 		insulatedDimensions.put(Insul.TW, TW);
@@ -595,6 +587,50 @@ public class ConductorProperties {
 		compactBareDimensions.put(Size.KCMIL_900, 0.7838);
 		compactBareDimensions.put(Size.KCMIL_1000, 0.8825);
 		//endregion
+
+		//region flat ampacity table
+		ampacity = new double[Metal.values().length][TempRating.values().length][table.length];
+		for (int i = 0; i < table.length; i++) {
+			Properties p = table[i];
+			ampacity[Metal.COPPER.ordinal()][TempRating.T60.ordinal()][i] = p.CuAmp60;
+			ampacity[Metal.COPPER.ordinal()][TempRating.T75.ordinal()][i] = p.CuAmp75;
+			ampacity[Metal.COPPER.ordinal()][TempRating.T90.ordinal()][i] = p.CuAmp90;
+			ampacity[Metal.ALUMINUM.ordinal()][TempRating.T60.ordinal()][i] = p.AlAmp60;
+			ampacity[Metal.ALUMINUM.ordinal()][TempRating.T75.ordinal()][i] = p.AlAmp75;
+			ampacity[Metal.ALUMINUM.ordinal()][TempRating.T90.ordinal()][i] = p.AlAmp90;
+		}
+		//endregion
+
+		//region flat area tables
+		insulatedArea = toArrayPerInsul(insulatedDimensions);
+		compactArea = toArrayPerInsul(compactDimensions);
+		compactBareArea = toArray(compactBareDimensions);
+		//endregion
+	}
+
+	/**
+	 Converts the given map of areas into an array indexed by the size
+	 ordinal. Not defined areas are set as NaN.
+	 */
+	private static double[] toArray(Map<Size, Double> areas) {
+		double[] result = new double[sizes.length];
+		for (Size size : sizes) {
+			Double area = areas.get(size);
+			result[size.ordinal()] = area == null ? Double.NaN : area;
+		}
+		return result;
+	}
+
+	/**
+	 Converts the given map of areas per insulation into an array indexed by
+	 the insulation ordinal and the size ordinal. Not defined areas are set as
+	 NaN.
+	 */
+	private static double[][] toArrayPerInsul(Map<Insul, Map<Size, Double>> areas) {
+		double[][] result = new double[Insul.values().length][];
+		for (Insul insul : Insul.values())
+			result[insul.ordinal()] = toArray(areas.getOrDefault(insul, EMPTY));
+		return result;
 	}
 
 	//private ConductorProperties() {
@@ -623,9 +659,10 @@ public class ConductorProperties {
 	 */
 	public static double getInsulatedAreaIn2(Size conductorSize,
 	                                         Insul insulation) {
-		if (hasInsulatedArea(conductorSize, insulation))
-			return insulatedDimensions.get(insulation).get(conductorSize);
-		return 0;
+		if (conductorSize == null || insulation == null)
+			return 0;
+		double area = insulatedArea[insulation.ordinal()][conductorSize.ordinal()];
+		return Double.isNaN(area) ? 0 : area;
 	}
 
 	/**
@@ -641,9 +678,10 @@ public class ConductorProperties {
 	 */
 	public static double getCompactAreaIn2(Size conductorSize,
 	                                       Insul insulation) {
-		if (hasCompactArea(conductorSize, insulation))
-			return compactDimensions.get(insulation).get(conductorSize);
-		return 0;
+		if (conductorSize == null || insulation == null)
+			return 0;
+		double area = compactArea[insulation.ordinal()][conductorSize.ordinal()];
+		return Double.isNaN(area) ? 0 : area;
 	}
 
 	/**
@@ -654,9 +692,10 @@ public class ConductorProperties {
 	 defined in table 5A.
 	 */
 	public static double getCompactBareAreaIn2(Size conductorSize) {
-		if (hasCompactBareArea(conductorSize))
-			return compactBareDimensions.get(conductorSize);
-		return 0;
+		if (conductorSize == null)
+			return 0;
+		double area = compactBareArea[conductorSize.ordinal()];
+		return Double.isNaN(area) ? 0 : area;
 	}
 
 	/**
@@ -672,7 +711,8 @@ public class ConductorProperties {
 	 */
 	public static boolean hasInsulatedArea(Size conductorSize,
 	                                       Insul insulation) {
-		return insulatedDimensions.containsKey(insulation) && insulatedDimensions.get(insulation).containsKey(conductorSize);
+		return conductorSize != null && insulation != null
+				&& !Double.isNaN(insulatedArea[insulation.ordinal()][conductorSize.ordinal()]);
 	}
 
 	/**
@@ -686,7 +726,8 @@ public class ConductorProperties {
 	 */
 	public static boolean hasCompactArea(Size conductorSize,
 	                                     Insul insulation) {
-		return compactDimensions.containsKey(insulation) && compactDimensions.get(insulation).containsKey(conductorSize);
+		return conductorSize != null && insulation != null
+				&& !Double.isNaN(compactArea[insulation.ordinal()][conductorSize.ordinal()]);
 	}
 
 	/**
@@ -697,27 +738,20 @@ public class ConductorProperties {
 	 parameter is null.
 	 */
 	public static boolean hasCompactBareArea(Size conductorSize) {
-		return compactBareDimensions.containsKey(conductorSize);
+		return conductorSize != null && !Double.isNaN(compactBareArea[conductorSize.ordinal()]);
 	}
 
 	/**
 	 Asks for the temperature rating of the given insulation.
 	 @param insulation The requested insulation.
-	 @return The temperature rating of this insulation in degrees Celsius.
+	 @return The temperature rating of this insulation in degrees Celsius,
+	 or null if the insulation is null.
+	 @see Insul#getTempRating()
 	 */
 	public static TempRating getTempRating(Insul insulation) {
-		TempRating result = null;
-		for (TempRating tempRating : TempRating.values()) {
-			for (Insul insul : insulationTempMap.get(tempRating)) {
-				if (insul == insulation) {
-					result = tempRating;
-					break;
-				}
-			}
-			if (result != null)
-				break;
-		}
-		return result;
+		if (insulation == null)
+			return null;
+		return insulation.getTempRating();
 	}
 
 	/**
@@ -890,24 +924,9 @@ public class ConductorProperties {
 	 */
 	public static double getStandardAmpacity(Size conductorSize, Metal metal,
 	                                         TempRating temperatureRating) {
-		if(conductorSize != null) {
-			if (metal == Metal.COPPER) {
-				if (temperatureRating == TempRating.T60)
-					return bySize(conductorSize).CuAmp60;
-				else if (temperatureRating == TempRating.T75)
-					return bySize(conductorSize).CuAmp75;
-				else if (temperatureRating == TempRating.T90)
-					return bySize(conductorSize).CuAmp90;
-			} else if (metal == Metal.ALUMINUM) {
-				if (temperatureRating == TempRating.T60)
-					return bySize(conductorSize).AlAmp60;
-				else if (temperatureRating == TempRating.T75)
-					return bySize(conductorSize).AlAmp75;
-				else if (temperatureRating == TempRating.T90)
-					return bySize(conductorSize).AlAmp90;
-			}
-		}
-		return 0;
+		if(conductorSize == null || metal == null || temperatureRating == null)
+			return 0;
+		return ampacity[metal.ordinal()][temperatureRating.ordinal()][conductorSize.ordinal()];
 	}
 
 	/**
@@ -933,38 +952,20 @@ public class ConductorProperties {
 	                                                    TempRating tempRating) {
 		if (allowedAmpacity <= 0 || metal == null || tempRating == null)
 			return null;
-		if (metal == Metal.COPPER) {
-			if (tempRating == TempRating.T60) {
-				for (Properties properties : table)
-					if (properties.CuAmp60 >= allowedAmpacity)
-						return properties.size;
-			} else if (tempRating == TempRating.T75) {
-				for (Properties properties : table)
-					if (properties.CuAmp75 >= allowedAmpacity)
-						return properties.size;
-			} else {
-				for (Properties properties : table)
-					if (properties.CuAmp90 >= allowedAmpacity)
-						return properties.size;
-			}
-		} else if (metal == Metal.ALUMINUM) {
-			if (tempRating == TempRating.T60) {
-				for (Properties properties : table)
-					if (properties.AlAmp60 >= allowedAmpacity)
-						return properties.size;
-			} else if (tempRating == TempRating.T75) {
-				for (Properties properties : table)
-					if (properties.AlAmp75 >= allowedAmpacity)
-						return properties.size;
-			} else {
-				for (Properties properties : table)
-					if (properties.AlAmp90 >= allowedAmpacity)
-						return properties.size;
-			}
+		double[] column = ampacity[metal.ordinal()][tempRating.ordinal()];
+		//binary search of the first ampacity >= allowedAmpacity
+		int low = 0;
+		int high = column.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (column[middle] < allowedAmpacity)
+				low = middle + 1;
+			else
+				high = middle;
 		}
-		//this will only happen when the allowed ampacity is higher than any of
+		//low == column.length only when the allowed ampacity is higher than
 		//the ampacity of a 2000 KCMIL conductor.
-		return null;
+		return low < column.length ? sizes[low] : null;
 	}
 
 	/**
@@ -984,7 +985,7 @@ public class ConductorProperties {
 	 */
 	public static Size getSizeByStringFullName(String fullName) {
 		fullName = fullName.trim();
-		for (Size size : Size.values()) {
+		for (Size size : sizes) {
 			if (size.getName().equals(fullName))
 				return size;
 		}
@@ -1,5 +1,7 @@
 package eecalcs.conductors;
 
+import tools.RatingIndex;
+
 public class EGC {
 	/**Table 250.122, rating of OCPD for sizing EGC*/
 	private static final int[] ocpdEGC = {
@@ -9,6 +11,7 @@ public class EGC {
 			2500, 3000, 4000, 5000,
 			6000
 	};
+	private static final RatingIndex ocpdEGCIndex = new RatingIndex(ocpdEGC);
 	/**Table 250.122 sizing of the copper EGC. It omits 300, 600 and 750.*/
 	private static final Size[] copperEGC = {
 			Size.AWG_14, Size.AWG_12, Size.AWG_10, Size.AWG_8, Size.AWG_6,
@@ -41,15 +44,8 @@ public class EGC {
 		ocpdRating = Math.abs(ocpdRating);
 		if(ocpdRating <= 15)
 			return 0;
-		for(int index = 0; index < ocpdEGC.length - 1; index++){
-			int prev = ocpdEGC[index];
-			int next = ocpdEGC[index + 1];
-			if(ocpdRating == prev)
-				return index;
-			if(ocpdRating > prev && ocpdRating <= next)
-				return index + 1;
-		}
-		return -1;
+		int index = ocpdEGCIndex.ceilingIndex(ocpdRating);
+		return index == ocpdEGC.length ? -1 : index;
 	}
 
 	/**
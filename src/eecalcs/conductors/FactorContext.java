@@ -0,0 +1,89 @@
+package eecalcs.conductors;
+
+import eecalcs.systems.TempRating;
+
+/**
+ This class is an immutable snapshot of the installation conditions of a
+ {@link Conduitable} that affect its ampacity: the ambient temperature, the
+ temperature adjustment for rooftop exposition and the adjustment factor for
+ the number of current-carrying conductors in its conduit or bundle (which
+ already accounts for nipples and for the bundling length).
+ <p>It is obtained from {@link ROConduitable#getFactorContext()} and it is
+ meant to be used when the compound factor is needed for several temperature
+ ratings: the conditions are read once and the compound factor for any
+ temperature rating is calculated without changing the state of the
+ conduitable.
+ <p>The snapshot does not follow later changes to the conduitable, its
+ conduit or its bundle; a new one must be requested after such changes.
+ */
+public final class FactorContext {
+	private final int ambientTemperatureF;
+	private final int roofTopTempAdjustment;
+	private final double adjustmentFactor;
+	private final double compoundFactor;
+
+	/**
+	 Constructs a factor context. It's called by the conduitables.
+	 @param ambientTemperatureF The ambient temperature in degrees
+	 Fahrenheits.
+	 @param roofTopTempAdjustment The temperature adder for rooftop condition,
+	 in degrees Fahrenheits.
+	 @param adjustmentFactor The adjustment factor of the conduitable.
+	 @param compoundFactor The compound factor of the conduitable for its own
+	 insulation.
+	 */
+	FactorContext(int ambientTemperatureF, int roofTopTempAdjustment,
+	              double adjustmentFactor, double compoundFactor) {
+		this.ambientTemperatureF = ambientTemperatureF;
+		this.roofTopTempAdjustment = roofTopTempAdjustment;
+		this.adjustmentFactor = adjustmentFactor;
+		this.compoundFactor = compoundFactor;
+	}
+
+	/**
+	 @return The ambient temperature of the conduitable in degrees
+	 Fahrenheits.
+	 */
+	public int getAmbientTemperatureF() {
+		return ambientTemperatureF;
+	}
+
+	/**
+	 @return The temperature adder for rooftop condition, in degrees
+	 Fahrenheits, as per NEC table 310.15(B)(3)(c). It's zero if the
+	 conduitable is not exposed to sunlight on or above rooftops.
+	 */
+	public int getRoofTopTempAdjustment() {
+		return roofTopTempAdjustment;
+	}
+
+	/**
+	 @return The adjustment factor of the conduitable, as returned by
+	 {@link ROConduitable#getAdjustmentFactor()}.
+	 */
+	public double getAdjustmentFactor() {
+		return adjustmentFactor;
+	}
+
+	/**
+	 @return The compound factor of the conduitable for the temperature
+	 rating of its own insulation, as returned by
+	 {@link ROConduitable#getCompoundFactor()}.
+	 */
+	public double getCompoundFactor() {
+		return compoundFactor;
+	}
+
+	/**
+	 @param tempRating The temperature rating for which the correction factor
+	 is calculated.
+	 @return The product of the correction and adjustment factors for the
+	 given temperature rating. If tempRating is null the returned value is 1.
+	 */
+	public double getCompoundFactor(TempRating tempRating) {
+		if (tempRating == null)
+			return 1;
+		return Factors.getTemperatureCorrectionF(ambientTemperatureF
+				+ roofTopTempAdjustment, tempRating) * adjustmentFactor;
+	}
+}
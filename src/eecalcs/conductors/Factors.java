@@ -17,6 +17,14 @@ public class Factors {
 	private final double correctionFactor90;
 
 	private final static Factors[] tempCorrectionFactors;
+	/**Lowest and highest ambient temperatures, in degrees Fahrenheits,
+	 covered by table 310.15(B)(2)(a).*/
+	private final static int MIN_AMBIENT_F = 5;
+	private final static int MAX_AMBIENT_F = 185;
+	/**Correction factors of table 310.15(B)(2)(a) laid out as
+	 [temperature rating ordinal][ambient temperature - MIN_AMBIENT_F], so a
+	 lookup is a single array read.*/
+	private final static double[][] correctionTable;
 
 	/**
 	 Constructs a row for the table 310.15(B)(2)(a). It's called internally
@@ -42,14 +50,6 @@ public class Factors {
 		return 0;
 	}
 
-	/**
-	 Returns true if the given ambient temperature is within the minimum and
-	 maximum values corresponding to this class's temperature range.
-	 */
-	private boolean inRangeF(int ambientTempF) {
-		return ambientTempF >= minTF & ambientTempF <= maxTF;
-	}
-
 	/**
 	 Returns the temperature correction factor that applies to conductors'
 	 ampacities specified in table 310.15(B)(16) and corresponding to the given
@@ -65,11 +65,36 @@ public class Factors {
 	 */
 	public static double getTemperatureCorrectionF(int ambientTemperatureF,
                                                    TempRating temperatureRating) {
-		for (Factors tcf : tempCorrectionFactors) {
-			if (tcf.inRangeF(ambientTemperatureF))
-				return tcf.getCorrectionFactor(temperatureRating.getValue());
-		}
-		return 0;
+		if (ambientTemperatureF < MIN_AMBIENT_F | ambientTemperatureF > MAX_AMBIENT_F)
+			return 0;
+		return correctionTable[temperatureRating.ordinal()][ambientTemperatureF - MIN_AMBIENT_F];
+	}
+
+	/**
+	 Applies the temperature correction factor to a group of ampacities, all
+	 of them for the same ambient temperature and temperature rating. This
+	 is the same as multiplying each ampacity by
+	 {@link #getTemperatureCorrectionF(int, TempRating)}, but the factor is
+	 looked up once.
+	 @param ampacities The ampacities to be corrected.
+	 @param ambientTemperatureF The ambient temperature in degrees Fahrenheits.
+	 @param temperatureRating The temperature rating of the conductors for
+	 which the ampacities are being corrected.
+	 @param corrected The array where the corrected ampacities are stored. It
+	 can be the same array as ampacities and it must be at least as long.
+	 */
+	public static void correctAmpacitiesF(double[] ampacities,
+	                                      int ambientTemperatureF,
+	                                      TempRating temperatureRating,
+	                                      double[] corrected) {
+		if (ampacities == null || corrected == null || temperatureRating == null)
+			throw new IllegalArgumentException("Parameters cannot be null.");
+		if (corrected.length < ampacities.length)
+			throw new IllegalArgumentException("The corrected array is shorter " +
+					"than the ampacities array.");
+		double factor = getTemperatureCorrectionF(ambientTemperatureF, temperatureRating);
+		for (int i = 0; i < ampacities.length; i++)
+			corrected[i] = ampacities[i] * factor;
 	}
 
 	/**
@@ -163,5 +188,12 @@ public class Factors {
 				new Factors(168, 176, 0, 0, 0.41),
 				new Factors(177, 185, 0, 0, 0.29),
 		};
+
+		correctionTable = new double[TempRating.values().length][MAX_AMBIENT_F - MIN_AMBIENT_F + 1];
+		for (Factors tcf : tempCorrectionFactors)
+			for (TempRating tempRating : TempRating.values())
+				for (int t = tcf.minTF; t <= tcf.maxTF; t++)
+					correctionTable[tempRating.ordinal()][t - MIN_AMBIENT_F] =
+							tcf.getCorrectionFactor(tempRating.getValue());
 	}
 }
@@ -1,5 +1,7 @@
 package eecalcs.conductors;
 
+import eecalcs.systems.TempRating;
+
 /**
  Contains only static strings with the insulation valid types.
  <br>
@@ -30,30 +32,37 @@ package eecalcs.conductors;
  </ul>
  */
 public enum Insul{
-	TW("TW"),
-	RHW("RHW"),
-	THW("THW"),
-	THWN("THWN"),
-	USE("USE"),
-	ZW("ZW"),
-	TBS("TBS"),
-	SA("SA"),
-	SIS("SIS"),
-	FEP("FEP"),
-	FEPB("FEPB"),
-	MI("MI"),
-	RHH("RHH"),
-	RHW2("RHW-2"),
-	THHN("THHN"),
-	THHW("THHW"),
-	THW2("THW-2"),
-	THWN2("THWN-2"),
-	USE2("USE-2"),
-	XHH("XHH"),
-	XHHW("XHHW"),
-	XHHW2("XHHW-2"),
-	ZW2("ZW-2");
+	TW("TW", TempRating.T60),
+	RHW("RHW", TempRating.T75),
+	THW("THW", TempRating.T75),
+	THWN("THWN", TempRating.T75),
+	USE("USE", TempRating.T75),
+	ZW("ZW", TempRating.T75),
+	TBS("TBS", TempRating.T90),
+	SA("SA", TempRating.T90),
+	SIS("SIS", TempRating.T90),
+	FEP("FEP", TempRating.T90),
+	FEPB("FEPB", TempRating.T90),
+	MI("MI", TempRating.T90),
+	RHH("RHH", TempRating.T90),
+	RHW2("RHW-2", TempRating.T90),
+	THHN("THHN", TempRating.T90),
+	THHW("THHW", TempRating.T90),
+	THW2("THW-2", TempRating.T90),
+	THWN2("THWN-2", TempRating.T90),
+	USE2("USE-2", TempRating.T90),
+	XHH("XHH", TempRating.T90),
+	XHHW("XHHW", TempRating.T90),
+	XHHW2("XHHW-2", TempRating.T90),
+	ZW2("ZW-2", TempRating.T90);
 	private final String name;
+	/*XHHW & THHW are duplicated in the 75 and 90 degrees columns of NEC table
+	310.16. It is assumed both are 90 by definition of their double Hs.
+	However, NEC table 310.104(A) shows that THHW is 75 when used in wet
+	locations but 90 in dry locations, and XHHW is 90 for dry and damp
+	locations but 75 for wet ones. This should also be part of the
+	"application provisions" of the conductor as described in that table.*/
+	private final TempRating tempRating;
 	private static final String[] names;
 
 	static{
@@ -62,8 +71,9 @@ public enum Insul{
 			names[i] = values()[i].getName();
 	}
 
-	Insul(String name){
+	Insul(String name, TempRating tempRating){
 		this.name = name;
+		this.tempRating = tempRating;
 	}
 
 	/**
@@ -75,6 +85,15 @@ public enum Insul{
 		return name;
 	}
 
+	/**
+	 Returns the temperature rating of this insulation.
+
+	 @return The temperature rating as defined in {@link TempRating}.
+	 */
+	public TempRating getTempRating() {
+		return tempRating;
+	}
+
 	/**
 	 Returns an array of the string names that the enum values represent.
 
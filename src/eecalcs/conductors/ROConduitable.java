@@ -169,6 +169,15 @@ public interface ROConduitable {
 	 */
 	double getCompoundFactor(TempRating tempRating);
 
+	/**
+	 @return A snapshot of the conditions of this conduitable that determine
+	 its correction and adjustment factors, from which the compound factor for
+	 any temperature rating can be obtained without changing the state of
+	 this conduitable.
+	 @see FactorContext
+	 */
+	FactorContext getFactorContext();
+
 	/**
 	 @return The temperature rating of this conduitable per its insulator, as
 	 defined in {@link TempRating}
@@ -63,13 +63,22 @@ public enum Size {
 	KCMIL_1500("1500 KCMIL"),
 	KCMIL_1750("1750 KCMIL"),
 	KCMIL_2000("2000 KCMIL");
+	/**
+	 All the conductor sizes, in ordinal order. It's never exposed, so it is
+	 not cloned on every access as with values().
+	 */
+	private static final Size[] VALUES = values();
+	/**
+	 The number of conductor sizes.
+	 */
+	public static final int COUNT = VALUES.length;
 	private final String name;
 	private static final String[] names;
 
 	static{
-		names = new String[values().length];
-		for(int i=0; i<values().length; i++)
-			names[i] = values()[i].getName();
+		names = new String[COUNT];
+		for(int i=0; i<COUNT; i++)
+			names[i] = VALUES[i].getName();
 	}
 
 	Size(String name){
@@ -98,8 +107,37 @@ public enum Size {
 	 @return The next bigger conductor size than this conductor size.
 	 */
 	public Size getNextSizeUp() {
-		if(this.ordinal() + 1 >= values().length)
-			return this;
-		return Size.values()[this.ordinal() + 1];
+		Size next = next();
+		return next == null ? this : next;
+	}
+
+	/**
+	 Returns the conductor size with the given ordinal, without the array
+	 allocation of values(). To iterate over a range, loop over the
+	 ordinals and call this method.
+	 @param ordinal The ordinal of the conductor size.
+	 @return The conductor size with the given ordinal or null if there is
+	 none.
+	 */
+	public static Size byOrdinal(int ordinal) {
+		if(ordinal < 0 || ordinal >= COUNT)
+			return null;
+		return VALUES[ordinal];
+	}
+
+	/**
+	 @return The conductor size that follows this one in ordinal order, or
+	 null if this is the last one.
+	 */
+	public Size next() {
+		return byOrdinal(ordinal() + 1);
+	}
+
+	/**
+	 @return The conductor size that precedes this one in ordinal order, or
+	 null if this is the first one.
+	 */
+	public Size previous() {
+		return byOrdinal(ordinal() - 1);
 	}
-}
\ No newline at end of file
+}
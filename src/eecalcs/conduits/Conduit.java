@@ -22,7 +22,13 @@ import java.util.*;
  properties and that property affects the conduit size (like the size and number
  of the conductors or the outer diameter of the cable) the size of the
  conduit is
- updated accordingly. */
+ updated accordingly.
+
+ <p>The aggregates over the conduitables (number of current-carrying
+ conductors, total area, area without EGC and biggest EGC) are kept by this
+ conduit instead of being recalculated on every query. They are updated when
+ conduitables are added or removed and when a conduitable in this conduit
+ reports a change through {@link #conduitableChanged(Conduitable)}. */
 public class Conduit implements ROConduit {
 	private Trade minimumTrade = Trade.T1$2;
 	/**Indicates if a conduit is a nipple or not  (nipple: length < 24").
@@ -39,6 +45,22 @@ public class Conduit implements ROConduit {
 	private static final ResultMessage ERROR120 = new ResultMessage(
 	"The type of this conduit is not valid.", -120);
 	protected final NotifierDelegate notifier = new NotifierDelegate(this);
+	//region aggregates
+	/**Number of current-carrying conductors in this conduit, maintained
+	 incrementally.*/
+	private int currentCarryingCount = 0;
+	/**Current-carrying count of each conduitable, as it was when the
+	 conduitable was added or last reported a change.*/
+	private final Map<Conduitable, Integer> currentCarryingPerConduitable =
+			new IdentityHashMap<>();
+	/*The areas and the biggest EGC are recalculated on the first query after
+	a change, always in the order of the conduitables list, so their values
+	are exactly the same as if they were calculated on every query.*/
+	private boolean areasValid = false;
+	private double conduitablesArea;
+	private double areaWithoutEGC;
+	private Conductor biggestEGC;
+	//endregion
 
 	/**Check that the input data is valid (minimum size, conduit type and nipple
 	condition.*/
@@ -127,6 +149,10 @@ public class Conduit implements ROConduit {
 		overflow will occur*/
 		conduitables.add(conduitable);
 		conduitable.setConduit(this);
+		int count = conduitable.getCurrentCarryingCount();
+		currentCarryingPerConduitable.put(conduitable, count);
+		currentCarryingCount += count;
+		areasValid = false;
 
 		notifier.info.addFieldChange("conduitables", null, null);
 		notifier.notifyAllListeners();
@@ -141,8 +167,13 @@ public class Conduit implements ROConduit {
 		if (conduitable == null)
 			return;
 
-		if (conduitables.remove(conduitable))
+		if (conduitables.remove(conduitable)) {
+			Integer count = currentCarryingPerConduitable.remove(conduitable);
+			if (count != null)
+				currentCarryingCount -= count;
+			areasValid = false;
 			conduitable.leaveConduit();
+		}
 
 		notifier.info.addFieldChange("conduitables", null, null);
 		notifier.notifyAllListeners();
@@ -153,10 +184,76 @@ public class Conduit implements ROConduit {
 	 this conduit will be empty.
 	 */
 	public void empty() {
+		//listeners are notified once, not once per removed conduitable
+		notifier.beginBatch();
 		Object[] c = conduitables.toArray();
 		for (Object o : c) ((Conduitable) o).leaveConduit();
 		notifier.info.addFieldChange("conduitables", null, null);
 		notifier.notifyAllListeners();
+		notifier.commit();
+	}
+
+	/**
+	 Notifies the listeners of this conduit that the ambient temperature of
+	 its conduitables changed. Conduitables call this method after
+	 propagating a new temperature to all the conduitables in the conduit; it
+	 does not need to be called by any other object.
+	 */
+	public void ambientTemperatureChanged() {
+		notifier.info.addFieldChange("ambientTemperatureF", null, null);
+		notifier.notifyAllListeners();
+	}
+
+	/**
+	 Updates the aggregates of this conduit after a property of the given
+	 conduitable that affects them (like its size, insulation, role or outer
+	 diameter) has changed. Conduitables call this method on the conduit they
+	 are in; it does not need to be called by any other object.
+	 @param conduitable The conduitable that changed. Nothing is done if it is
+	 not in this conduit.
+	 */
+	public void conduitableChanged(Conduitable conduitable) {
+		Integer oldCount = currentCarryingPerConduitable.get(conduitable);
+		if (oldCount == null)
+			return;
+		int count = conduitable.getCurrentCarryingCount();
+		areasValid = false;
+		if (count != oldCount) {
+			currentCarryingPerConduitable.put(conduitable, count);
+			currentCarryingCount += count - oldCount;
+			//the adjustment factor of all the conduitables may change
+			notifier.info.addFieldChange("conduitables", null, null);
+			notifier.notifyAllListeners();
+		}
+	}
+
+	/**
+	 Recalculates the total area, the area without EGC and the biggest EGC,
+	 if any conduitable changed since the last time.
+	 */
+	private void updateAreas() {
+		if (areasValid)
+			return;
+		conduitablesArea = 0;
+		areaWithoutEGC = 0;
+		biggestEGC = null;
+		Size biggestEGCSize = Size.AWG_14;
+		for (Conduitable conduitable : conduitables) {
+			double area = conduitable.getInsulatedAreaIn2();
+			conduitablesArea += area;
+			if (conduitable instanceof Conductor) {
+				Conductor conductor = (Conductor) conduitable;
+				if (conductor.getRole() != Conductor.Role.GND)
+					areaWithoutEGC += area;
+				else if (conductor.getSize().ordinal() > biggestEGCSize.ordinal()) {
+					biggestEGCSize = conductor.getSize();
+					biggestEGC = conductor;
+				}
+			}
+			if (conduitable instanceof Cable)
+				areaWithoutEGC += area;
+		}
+		areasValid = true;
 	}
 
 	@Override
@@ -195,17 +292,12 @@ public class Conduit implements ROConduit {
 
 	@Override
 	public int getCurrentCarryingCount() {
-		int currentCarrying = 0;
-		for (Conduitable conduitable : conduitables)
-			currentCarrying += conduitable.getCurrentCarryingCount();
-		return currentCarrying;
+		return currentCarryingCount;
 	}
 
 	@Override
 	public double getConduitablesArea() {
-		double conduitablesArea = 0;
-		for (Conduitable conduitable : conduitables)
-			conduitablesArea += conduitable.getInsulatedAreaIn2();
+		updateAreas();
 		return conduitablesArea;
 	}
 
@@ -213,9 +305,8 @@ public class Conduit implements ROConduit {
 	public Trade getTradeSize() {
 		if (!checkInput())
 			return null;
-		double conduitableAreas = getConduitablesArea() / (getMaxAllowedFillPercentage() * 0.01);
-		Trade result = ConduitProperties.getTradeSizeForArea(conduitableAreas,
-				type, minimumTrade);
+		Trade result = ConduitProperties.getTradeSizeForFill(getConduitablesArea(),
+				getMaxAllowedFillPercentage(), type, minimumTrade);
 		if(result == null)
 			resultMessages.add(ERROR100);
 		return result;
@@ -248,7 +339,7 @@ public class Conduit implements ROConduit {
 	public double getFillPercentage() {
 		double a = getArea();
 		if(a != 0)
-			return 100*getConduitablesArea()/getArea();
+			return 100*getConduitablesArea()/a;
 		return 0;
 	}
 
@@ -261,31 +352,21 @@ public class Conduit implements ROConduit {
 			return null;
 		double totalConduitableAreaWithoutEGC = getTotalConduitableAreaWithoutEGC();
 
-		double requiredArea = (EGCArea + totalConduitableAreaWithoutEGC) /
-				(getMaxAllowedFillPercentage() * 0.01);
-
-		Trade result = ConduitProperties.getTradeSizeForArea(requiredArea,
-				type, minimumTrade);
+		Trade result = ConduitProperties.getTradeSizeForFill(
+				EGCArea + totalConduitableAreaWithoutEGC,
+				getMaxAllowedFillPercentage(), type, minimumTrade);
 		if(result == null)
 			resultMessages.add(ERROR100);
 		return result;
 	}
 
 	/**
-	 Returns the total area of all the conduitables inside this conduit.
+	 Returns the total area of all the conduitables inside this conduit,
+	 except the EGCs.
 	 */
 	private double getTotalConduitableAreaWithoutEGC(){
-		double totalConduitableAreaWithoutEGC = 0;
-		for(Conduitable conduitable: conduitables){
-			if(conduitable instanceof Conductor) {
-				if (((Conductor)conduitable).getRole() != Conductor.Role.GND)
-					totalConduitableAreaWithoutEGC += conduitable.getInsulatedAreaIn2();
-			}
-			if(conduitable instanceof Cable) {
-				totalConduitableAreaWithoutEGC += conduitable.getInsulatedAreaIn2();
-			}
-		}
-		return totalConduitableAreaWithoutEGC;
+		updateAreas();
+		return areaWithoutEGC;
 	}
 	/**
 	 Returns the area of the biggest EGC in this conduit.
@@ -300,18 +381,7 @@ public class Conduit implements ROConduit {
 
 	@Override
 	public RoConductor getBiggestEGC() {
-		Conductor biggestEGC = null;
-		Size biggestEGCSize = Size.AWG_14;
-		for(Conduitable conduitable: conduitables){
-			if(conduitable instanceof Conductor) {
-				Conductor conductor = (Conductor) conduitable;
-				if (conductor.getRole() == Conductor.Role.GND)
-					if (conductor.getSize().ordinal() > biggestEGCSize.ordinal()) {
-						biggestEGCSize = conductor.getSize();
-						biggestEGC = conductor;
-					}
-			}
-		}
+		updateAreas();
 		return biggestEGC;
 	}
 
@@ -26,6 +26,30 @@ public class ConduitProperties {
 	private static final Map<Trade, Double> areaPVCEB;
 	private static Map<Trade, Double> areaINVALID;
 	private static final Map<Type, Map<Trade, Double>> dimensions;
+	/**
+	 The fill percentages of NEC chapter 9 table 1 (including nipples), for
+	 which the fill-limited areas are precomputed.
+	 */
+	private static final int[] FILL_PERCENTAGES = {31, 40, 53, 60};
+	/**
+	 Per conduit type (by ordinal), the trade sizes that have an area in
+	 table 4, in increasing order.
+	 */
+	private static final Trade[][] tradesPerType;
+	/**Per conduit type, the areas of the trade sizes in tradesPerType.*/
+	private static final double[][] areasPerType;
+	/**
+	 Per conduit type and fill percentage index, the biggest conductor area
+	 that fits in each of the trade sizes in tradesPerType.
+	 */
+	private static final double[][][] fillAreasPerType;
+	/**
+	 Per conduit type and trade size ordinal, the index in tradesPerType of
+	 the first trade size that is not smaller than that trade size.
+	 */
+	private static final int[][] firstIndexPerType;
+	/**Per conduit type and trade size ordinal, the area or zero.*/
+	private static final double[][] areaTable;
 	private static final ResultMessage ERROR40 = new ResultMessage("Invalid conduit type" +
 			".", -40);
 	private static final ResultMessage ERROR41 = new ResultMessage("Trade size not " +
@@ -232,6 +256,76 @@ public class ConduitProperties {
 		dimensions.put(Type.PVCA,   areaPVCA);
 		dimensions.put(Type.PVCEB,  areaPVCEB);
 		//endregion
+
+		//region sorted areas
+		int types = Type.values().length;
+		tradesPerType = new Trade[types][];
+		areasPerType = new double[types][];
+		fillAreasPerType = new double[types][FILL_PERCENTAGES.length][];
+		firstIndexPerType = new int[types][Trade.COUNT + 1];
+		areaTable = new double[types][Trade.COUNT];
+		for (Type type : Type.values()) {
+			int t = type.ordinal();
+			Map<Trade, Double> areas = dimensions.get(type);
+			Trade[] trades = new Trade[areas.size()];
+			double[] sorted = new double[areas.size()];
+			int count = 0;
+			for (int i = 0; i < Trade.COUNT; i++) {
+				Trade trade = Trade.byOrdinal(i);
+				firstIndexPerType[t][trade.ordinal()] = count;
+				Double area = areas.get(trade);
+				if (area != null) {
+					trades[count] = trade;
+					sorted[count++] = area;
+					areaTable[t][trade.ordinal()] = area;
+				}
+			}
+			firstIndexPerType[t][Trade.COUNT] = count;
+			tradesPerType[t] = trades;
+			areasPerType[t] = sorted;
+			for (int f = 0; f < FILL_PERCENTAGES.length; f++) {
+				double fill = FILL_PERCENTAGES[f] * 0.01;
+				fillAreasPerType[t][f] = new double[count];
+				for (int i = 0; i < count; i++)
+					fillAreasPerType[t][f][i] = maxAreaForFill(sorted[i], fill);
+			}
+		}
+		//endregion
+	}
+
+	/**
+	 Returns the biggest conductor area x for which x / fill &#60;= area,
+	 so comparing against it gives exactly the same result as dividing the
+	 conductor area by the fill.
+	 */
+	private static double maxAreaForFill(double area, double fill) {
+		double x = area * fill;
+		while (Math.nextUp(x) / fill <= area)
+			x = Math.nextUp(x);
+		while (x / fill > area)
+			x = Math.nextDown(x);
+		return x;
+	}
+
+	/**
+	 Returns the index of the first element of the given sorted array, from
+	 the given index, that is equal or bigger than the given value, or -1 if
+	 there is none.
+	 */
+	private static int firstAtLeast(double[] sorted, int from, double value) {
+		int high = sorted.length - 1;
+		//also rejects NaN
+		if (from > high || !(value <= sorted[high]))
+			return -1;
+		int low = from;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (sorted[middle] < value)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
 	}
 
 	/**
@@ -286,7 +380,7 @@ public class ConduitProperties {
 	public static boolean hasArea(Type conduitType, Trade tradeSize){
 		if(conduitType == null || tradeSize == null)
 			return false;
-		return dimensions.get(conduitType).containsKey(tradeSize);
+		return areaTable[conduitType.ordinal()][tradeSize.ordinal()] != 0;
 	}
 
 	/**
@@ -298,9 +392,9 @@ public class ConduitProperties {
 	 table 4.
 	 */
 	public static double getArea(Type conduitType, Trade tradeSize){
-		if(hasArea(conduitType, tradeSize))
-			return dimensions.get(conduitType).get(tradeSize);
-		return 0;
+		if(conduitType == null || tradeSize == null)
+			return 0;
+		return areaTable[conduitType.ordinal()][tradeSize.ordinal()];
 	}
 
 	/**
@@ -337,7 +431,8 @@ public class ConduitProperties {
 	 */
 	public static Trade getTradeSizeByString(String tradeSizeS){
 		tradeSizeS = tradeSizeS.trim();
-		for(Trade trade: Trade.values()){
+		for(int i = 0; i < Trade.COUNT; i++){
+			Trade trade = Trade.byOrdinal(i);
 			if(trade.getName().equals(tradeSizeS))
 				return trade;
 		}
@@ -390,14 +485,44 @@ public class ConduitProperties {
 	 */
 	public static Trade  getTradeSizeForArea(double area, Type type,
 	                                         Trade minimumTradeSize){
-		Map<Trade, Double> areasForType =
-				ConduitProperties.getAreasForType(type);
-		int bound = minimumTradeSize == null? 0: minimumTradeSize.ordinal();
-		for (int i = bound; i < Trade.values().length; i++)
-			if (ConduitProperties.hasArea(type, Trade.values()[i])) {
-				if (areasForType.get(Trade.values()[i]) >= area)
-					return Trade.values()[i];
-			}
-		return null;
+		if(type == null)
+			return null;
+		int t = type.ordinal();
+		int from = firstIndexPerType[t][minimumTradeSize == null ? 0 :
+				minimumTradeSize.ordinal()];
+		int index = firstAtLeast(areasPerType[t], from, area);
+		return index < 0 ? null : tradesPerType[t][index];
+	}
+
+	/**
+	 Returns the smaller trade size that can contain the given conductor area
+	 without exceeding the given fill percentage, and that is equal or bigger
+	 than the given minimum trade size. The result is the same as
+	 {@link #getTradeSizeForArea(double, Type, Trade)
+	 getTradeSizeForArea(area / (fillPercentage * 0.01), type, minimumTradeSize)},
+	 but for the fill percentages of NEC chapter 9 table 1 (31, 40, 53 and
+	 60%) the fill-limited areas are precomputed.
+	 @param area The area of the conductors.
+	 @param fillPercentage The maximum allowed fill percentage.
+	 @param type The type of the conduit.
+	 @param minimumTradeSize The minimum trade size desired. If this value is
+	 null, the minimum trade size is the smallest trade size (T3$8).
+	 @return The trade size or null if the given area is too big for the
+	 specified type.
+	 */
+	public static Trade getTradeSizeForFill(double area, int fillPercentage,
+	                                        Type type, Trade minimumTradeSize){
+		int fill = -1;
+		for(int f = 0; f < FILL_PERCENTAGES.length; f++)
+			if(FILL_PERCENTAGES[f] == fillPercentage)
+				fill = f;
+		if(fill < 0 || type == null)
+			return getTradeSizeForArea(area / (fillPercentage * 0.01), type,
+					minimumTradeSize);
+		int t = type.ordinal();
+		int from = firstIndexPerType[t][minimumTradeSize == null ? 0 :
+				minimumTradeSize.ordinal()];
+		int index = firstAtLeast(fillAreasPerType[t][fill], from, area);
+		return index < 0 ? null : tradesPerType[t][index];
 	}
 }
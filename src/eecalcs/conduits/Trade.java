@@ -34,13 +34,19 @@ public enum Trade {
     T5("5\""),
     T6("6\"");
 
+    /**All the trade sizes, in ordinal order.*/
+    private static final Trade[] VALUES = values();
+    /**
+     The number of trade sizes.
+     */
+    public static final int COUNT = VALUES.length;
     private final String name;
     private static final String[] names;
 
     static{
-        names = new String[values().length];
-        for(int i=0; i<values().length; i++)
-            names[i] = values()[i].getName();
+        names = new String[COUNT];
+        for(int i=0; i<COUNT; i++)
+            names[i] = VALUES[i].getName();
     }
 
     Trade(String name){
@@ -64,4 +70,34 @@ public enum Trade {
     public static String[] getNames(){
         return names;
     }
+
+    /**
+     Returns the trade size with the given ordinal, without the array
+     allocation of values(). To iterate over a range, loop over the
+     ordinals and call this method.
+     @param ordinal The ordinal of the trade size.
+     @return The trade size with the given ordinal or null if there is
+     none.
+     */
+    public static Trade byOrdinal(int ordinal) {
+        if(ordinal < 0 || ordinal >= COUNT)
+            return null;
+        return VALUES[ordinal];
+    }
+
+    /**
+     @return The trade size that follows this one in ordinal order, or
+     null if this is the last one.
+     */
+    public Trade next() {
+        return byOrdinal(ordinal() + 1);
+    }
+
+    /**
+     @return The trade size that precedes this one in ordinal order, or
+     null if this is the first one.
+     */
+    public Trade previous() {
+        return byOrdinal(ordinal() - 1);
+    }
 }
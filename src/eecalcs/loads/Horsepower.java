@@ -65,13 +65,19 @@ public enum Horsepower {
 		HP_400("400"),
 		HP_450("450"),
 		HP_500("500");
+		/**All the horsepower ratings, in ordinal order.*/
+		private static final Horsepower[] VALUES = values();
+		/**
+		 The number of horsepower ratings.
+		 */
+		public static final int COUNT = VALUES.length;
 		private final String name;
 		private static final String[] names;
 
 		static{
-			names = new String[values().length];
-			for(int i=0; i<values().length; i++)
-				names[i] = values()[i].getName();
+			names = new String[COUNT];
+			for(int i=0; i<COUNT; i++)
+				names[i] = VALUES[i].getName();
 		}
 
 	Horsepower(String name){
@@ -95,4 +101,34 @@ public enum Horsepower {
 		public static String[] getNames(){
 			return names;
 		}
+
+		/**
+		 Returns the horsepower rating with the given ordinal, without the array
+		 allocation of values(). To iterate over a range, loop over the
+		 ordinals and call this method.
+		 @param ordinal The ordinal of the horsepower rating.
+		 @return The horsepower rating with the given ordinal or null if there is
+		 none.
+		 */
+		public static Horsepower byOrdinal(int ordinal) {
+			if(ordinal < 0 || ordinal >= COUNT)
+				return null;
+			return VALUES[ordinal];
+		}
+
+		/**
+		 @return The horsepower rating that follows this one in ordinal order, or
+		 null if this is the last one.
+		 */
+		public Horsepower next() {
+			return byOrdinal(ordinal() + 1);
+		}
+
+		/**
+		 @return The horsepower rating that precedes this one in ordinal order, or
+		 null if this is the first one.
+		 */
+		public Horsepower previous() {
+			return byOrdinal(ordinal() - 1);
+		}
 }
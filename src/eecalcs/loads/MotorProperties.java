@@ -2,518 +2,463 @@ package eecalcs.loads;
 
 import eecalcs.circuits.OCPD;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import static eecalcs.loads.Horsepower.*;
 import static eecalcs.loads.Horsepower.HP_200;
 
 public class MotorProperties {
-	/**FLC in amperes for DC motors, NEC-430.247*/
-	private static final Map<Horsepower, Double> VDC90;
-	private static final Map<Horsepower, Double> VDC120;
-	private static final Map<Horsepower, Double> VDC180;
-	private static final Map<Horsepower, Double> VDC240;
-	private static final Map<Horsepower, Double> VDC500;
-	private static final Map<Horsepower, Double> VDC550;
-	private static final Map<Integer, Map<Horsepower, Double>> DCMotor;
-	/**FLC in amperes for single-phase AC motors, NEC-430.248*/
-	private static final Map<Horsepower, Double> VAC_1p_115;
-	private static final Map<Horsepower, Double> VAC_1p_200;
-	private static final Map<Horsepower, Double> VAC_1p_208;
-	private static final Map<Horsepower, Double> VAC_1p_230;
-	private static final Map<Integer, Map<Horsepower, Double>> AC1PMotor;
-	/**FLC in amperes for two-phase AC motors (4-wire), NEC 430.249*/
-	private static final Map<Horsepower, Double> VAC_2p_115;
-	private static final Map<Horsepower, Double> VAC_2p_230;
-	private static final Map<Horsepower, Double> VAC_2p_460;
-	private static final Map<Horsepower, Double> VAC_2p_575;
-	private static final Map<Horsepower, Double> VAC_2p_2300;
-	private static final Map<Integer, Map<Horsepower, Double>> AC2PMotor;
-	/**FLC in amperes for three-phase AC motors, NEC 430.250*/
-	private static final Map<Horsepower, Double> VAC_3p_115;
-	private static final Map<Horsepower, Double> VAC_3p_200;
-	private static final Map<Horsepower, Double> VAC_3p_208;
-	private static final Map<Horsepower, Double> VAC_3p_230;
-	private static final Map<Horsepower, Double> VAC_3p_460;
-	private static final Map<Horsepower, Double> VAC_3p_575;
-	private static final Map<Horsepower, Double> VAC_3p_2300;
-	private static final Map<Integer, Map<Horsepower, Double>> AC3PMotor;
-	/**FLC in amperes for three-phase synchronous AC motors, NEC 430.250*/
-	private static final Map<Horsepower, Double> VAC_S_230;
-	private static final Map<Horsepower, Double> VAC_S_460;
-	private static final Map<Horsepower, Double> VAC_S_575;
-	private static final Map<Horsepower, Double> VAC_S_2300;
-	private static final Map<Integer, Map<Horsepower, Double>> AC3PSMotor;
+	/**Voltages of the columns of the DC table, NEC-430.247*/
+	private static final int[] DC_VOLTAGES = {90, 120, 180, 240, 500, 550};
+	/**Voltages of the columns of the AC tables, NEC-430.248 to 430.250*/
+	private static final int[] AC_VOLTAGES = {115, 200, 208, 230, 460, 575,
+			2300};
+	/**Highest voltage that has a column in the tables.*/
+	private static final int MAX_VOLTAGE = 2300;
+	/**Column of the DC table for each voltage from 0 to MAX_VOLTAGE, or -1.*/
+	private static final byte[] DC_COLUMN = new byte[MAX_VOLTAGE + 1];
+	/**Column of the AC tables for each voltage from 0 to MAX_VOLTAGE, or -1.
+	 It includes the voltages that normalize to the column voltage.*/
+	private static final byte[] AC_COLUMN = new byte[MAX_VOLTAGE + 1];
+	/**FLC in amperes, indexed by motor type ordinal, voltage column and
+	 horsepower ordinal. NaN means there is no value in the NEC table.*/
+	private static final double[][][] FLC =
+			new double[Type.values().length][AC_VOLTAGES.length][Horsepower.COUNT];
 
 	static {
+		Arrays.fill(DC_COLUMN, (byte) -1);
+		Arrays.fill(AC_COLUMN, (byte) -1);
+		for(int i = 0; i < DC_VOLTAGES.length; i++)
+			DC_COLUMN[DC_VOLTAGES[i]] = (byte) i;
+		setACColumn(110, 120, 115);
+		setACColumn(200, 200, 200);
+		setACColumn(208, 208, 208);
+		setACColumn(220, 240, 230);
+		setACColumn(440, 480, 460);
+		setACColumn(550, 1000, 575);
+		setACColumn(2300, 2300, 2300);
+		for(double[][] type : FLC)
+			for(double[] column : type)
+				Arrays.fill(column, Double.NaN);
+
 		//region DC NEC-430.247
-		VDC90 = new HashMap<>();
-		VDC90.put(HP_1$4, 4.0);
-		VDC90.put(HP_1$3, 5.2);
-		VDC90.put(HP_1$2, 6.8);
-		VDC90.put(HP_3$4, 9.6);
-		VDC90.put(HP_1, 12.2);
-
-		VDC120 = new HashMap<>();
-		VDC120.put(HP_1$4, 3.1);
-		VDC120.put(HP_1$3, 4.1);
-		VDC120.put(HP_1$2, 5.4);
-		VDC120.put(HP_3$4, 7.6);
-		VDC120.put(HP_1, 9.5);
-		VDC120.put(HP_1_1$2, 13.2);
-		VDC120.put(HP_2, 17.0);
-		VDC120.put(HP_3, 25.0);
-		VDC120.put(HP_5, 40.0);
-		VDC120.put(HP_7_1$2, 58.0);
-		VDC120.put(HP_10, 76.0);
-
-		VDC180 = new HashMap<>();
-		VDC180.put(HP_1$4, 2.0);
-		VDC180.put(HP_1$3, 2.6);
-		VDC180.put(HP_1$2, 3.4);
-		VDC180.put(HP_3$4, 4.8);
-		VDC180.put(HP_1, 6.1);
-		VDC180.put(HP_1_1$2, 8.3);
-		VDC180.put(HP_2, 10.8);
-		VDC180.put(HP_3, 16.0);
-		VDC180.put(HP_5, 27.0);
-
-		VDC240 = new HashMap<>();
-		VDC240.put(HP_1$4, 1.6);
-		VDC240.put(HP_1$3, 2.0);
-		VDC240.put(HP_1$2, 2.7);
-		VDC240.put(HP_3$4, 3.8);
-		VDC240.put(HP_1, 4.7);
-		VDC240.put(HP_1_1$2, 6.6);
-		VDC240.put(HP_2, 8.5);
-		VDC240.put(HP_3, 12.2);
-		VDC240.put(HP_5, 20.0);
-		VDC240.put(HP_7_1$2, 29.0);
-		VDC240.put(HP_10, 38.0);
-		VDC240.put(HP_15, 55.0);
-		VDC240.put(HP_20, 72.0);
-		VDC240.put(HP_25, 89.0);
-		VDC240.put(HP_30, 106.0);
-		VDC240.put(HP_40, 140.0);
-		VDC240.put(HP_50, 173.0);
-		VDC240.put(HP_60, 206.0);
-		VDC240.put(HP_75, 255.0);
-		VDC240.put(HP_100, 341.0);
-		VDC240.put(HP_125, 425.0);
-		VDC240.put(HP_150, 506.0);
-		VDC240.put(HP_200, 675.0);
-
-		VDC500 = new HashMap<>();
-		VDC500.put(HP_7_1$2, 13.6);
-		VDC500.put(HP_10, 18.0);
-		VDC500.put(HP_15, 27.0);
-		VDC500.put(HP_20, 34.0);
-		VDC500.put(HP_25, 43.0);
-		VDC500.put(HP_30, 51.0);
-		VDC500.put(HP_40, 67.0);
-		VDC500.put(HP_50, 83.0);
-		VDC500.put(HP_60, 99.0);
-		VDC500.put(HP_75, 123.0);
-		VDC500.put(HP_100, 164.0);
-		VDC500.put(HP_125, 205.0);
-		VDC500.put(HP_150, 246.0);
-		VDC500.put(HP_200, 330.0);
-
-		VDC550 = new HashMap<>();
-		VDC550.put(HP_7_1$2, 12.2);
-		VDC550.put(HP_10, 16.0);
-		VDC550.put(HP_15, 24.0);
-		VDC550.put(HP_20, 31.0);
-		VDC550.put(HP_25, 38.0);
-		VDC550.put(HP_30, 46.0);
-		VDC550.put(HP_40, 61.0);
-		VDC550.put(HP_50, 75.0);
-		VDC550.put(HP_60, 90.0);
-		VDC550.put(HP_75, 111.0);
-		VDC550.put(HP_100, 148.0);
-		VDC550.put(HP_125, 185.0);
-		VDC550.put(HP_150, 222.0);
-		VDC550.put(HP_200, 294.0);
-
-		DCMotor = new HashMap<>();
-		DCMotor.put(90, VDC90);
-		DCMotor.put(120, VDC120);
-		DCMotor.put(180, VDC180);
-		DCMotor.put(240, VDC240);
-		DCMotor.put(500, VDC500);
-		DCMotor.put(550, VDC550);
+		put(Type.DC, 90, HP_1$4, 4.0);
+		put(Type.DC, 90, HP_1$3, 5.2);
+		put(Type.DC, 90, HP_1$2, 6.8);
+		put(Type.DC, 90, HP_3$4, 9.6);
+		put(Type.DC, 90, HP_1, 12.2);
+
+		put(Type.DC, 120, HP_1$4, 3.1);
+		put(Type.DC, 120, HP_1$3, 4.1);
+		put(Type.DC, 120, HP_1$2, 5.4);
+		put(Type.DC, 120, HP_3$4, 7.6);
+		put(Type.DC, 120, HP_1, 9.5);
+		put(Type.DC, 120, HP_1_1$2, 13.2);
+		put(Type.DC, 120, HP_2, 17.0);
+		put(Type.DC, 120, HP_3, 25.0);
+		put(Type.DC, 120, HP_5, 40.0);
+		put(Type.DC, 120, HP_7_1$2, 58.0);
+		put(Type.DC, 120, HP_10, 76.0);
+
+		put(Type.DC, 180, HP_1$4, 2.0);
+		put(Type.DC, 180, HP_1$3, 2.6);
+		put(Type.DC, 180, HP_1$2, 3.4);
+		put(Type.DC, 180, HP_3$4, 4.8);
+		put(Type.DC, 180, HP_1, 6.1);
+		put(Type.DC, 180, HP_1_1$2, 8.3);
+		put(Type.DC, 180, HP_2, 10.8);
+		put(Type.DC, 180, HP_3, 16.0);
+		put(Type.DC, 180, HP_5, 27.0);
+
+		put(Type.DC, 240, HP_1$4, 1.6);
+		put(Type.DC, 240, HP_1$3, 2.0);
+		put(Type.DC, 240, HP_1$2, 2.7);
+		put(Type.DC, 240, HP_3$4, 3.8);
+		put(Type.DC, 240, HP_1, 4.7);
+		put(Type.DC, 240, HP_1_1$2, 6.6);
+		put(Type.DC, 240, HP_2, 8.5);
+		put(Type.DC, 240, HP_3, 12.2);
+		put(Type.DC, 240, HP_5, 20.0);
+		put(Type.DC, 240, HP_7_1$2, 29.0);
+		put(Type.DC, 240, HP_10, 38.0);
+		put(Type.DC, 240, HP_15, 55.0);
+		put(Type.DC, 240, HP_20, 72.0);
+		put(Type.DC, 240, HP_25, 89.0);
+		put(Type.DC, 240, HP_30, 106.0);
+		put(Type.DC, 240, HP_40, 140.0);
+		put(Type.DC, 240, HP_50, 173.0);
+		put(Type.DC, 240, HP_60, 206.0);
+		put(Type.DC, 240, HP_75, 255.0);
+		put(Type.DC, 240, HP_100, 341.0);
+		put(Type.DC, 240, HP_125, 425.0);
+		put(Type.DC, 240, HP_150, 506.0);
+		put(Type.DC, 240, HP_200, 675.0);
+
+		put(Type.DC, 500, HP_7_1$2, 13.6);
+		put(Type.DC, 500, HP_10, 18.0);
+		put(Type.DC, 500, HP_15, 27.0);
+		put(Type.DC, 500, HP_20, 34.0);
+		put(Type.DC, 500, HP_25, 43.0);
+		put(Type.DC, 500, HP_30, 51.0);
+		put(Type.DC, 500, HP_40, 67.0);
+		put(Type.DC, 500, HP_50, 83.0);
+		put(Type.DC, 500, HP_60, 99.0);
+		put(Type.DC, 500, HP_75, 123.0);
+		put(Type.DC, 500, HP_100, 164.0);
+		put(Type.DC, 500, HP_125, 205.0);
+		put(Type.DC, 500, HP_150, 246.0);
+		put(Type.DC, 500, HP_200, 330.0);
+
+		put(Type.DC, 550, HP_7_1$2, 12.2);
+		put(Type.DC, 550, HP_10, 16.0);
+		put(Type.DC, 550, HP_15, 24.0);
+		put(Type.DC, 550, HP_20, 31.0);
+		put(Type.DC, 550, HP_25, 38.0);
+		put(Type.DC, 550, HP_30, 46.0);
+		put(Type.DC, 550, HP_40, 61.0);
+		put(Type.DC, 550, HP_50, 75.0);
+		put(Type.DC, 550, HP_60, 90.0);
+		put(Type.DC, 550, HP_75, 111.0);
+		put(Type.DC, 550, HP_100, 148.0);
+		put(Type.DC, 550, HP_125, 185.0);
+		put(Type.DC, 550, HP_150, 222.0);
+		put(Type.DC, 550, HP_200, 294.0);
 		//endregion
 
 		//region AC 1φ NEC 430.248
-		VAC_1p_115 = new HashMap<>();
-		VAC_1p_115.put(HP_1$6, 4.4);
-		VAC_1p_115.put(HP_1$4, 5.8);
-		VAC_1p_115.put(HP_1$3, 7.2);
-		VAC_1p_115.put(HP_1$2, 9.8);
-		VAC_1p_115.put(HP_3$4, 13.8);
-		VAC_1p_115.put(HP_1, 16.0);
-		VAC_1p_115.put(HP_1_1$2, 20.0);
-		VAC_1p_115.put(HP_2, 24.0);
-		VAC_1p_115.put(HP_3, 34.0);
-		VAC_1p_115.put(HP_5, 56.0);
-		VAC_1p_115.put(HP_7_1$2, 80.0);
-		VAC_1p_115.put(HP_10, 100.0);
-
-		VAC_1p_200 = new HashMap<>();
-		VAC_1p_200.put(HP_1$6, 2.5);
-		VAC_1p_200.put(HP_1$4, 3.3);
-		VAC_1p_200.put(HP_1$3, 4.1);
-		VAC_1p_200.put(HP_1$2, 5.6);
-		VAC_1p_200.put(HP_3$4, 7.9);
-		VAC_1p_200.put(HP_1, 9.2);
-		VAC_1p_200.put(HP_1_1$2, 11.5);
-		VAC_1p_200.put(HP_2, 13.8);
-		VAC_1p_200.put(HP_3, 19.6);
-		VAC_1p_200.put(HP_5, 32.2);
-		VAC_1p_200.put(HP_7_1$2, 46.0);
-		VAC_1p_200.put(HP_10, 57.5);
-
-		VAC_1p_208 = new HashMap<>();
-		VAC_1p_208.put(HP_1$6, 2.4);
-		VAC_1p_208.put(HP_1$4, 3.2);
-		VAC_1p_208.put(HP_1$3, 4.0);
-		VAC_1p_208.put(HP_1$2, 5.4);
-		VAC_1p_208.put(HP_3$4, 7.6);
-		VAC_1p_208.put(HP_1, 8.8);
-		VAC_1p_208.put(HP_1_1$2, 11.0);
-		VAC_1p_208.put(HP_2, 13.2);
-		VAC_1p_208.put(HP_3, 18.7);
-		VAC_1p_208.put(HP_5, 30.8);
-		VAC_1p_208.put(HP_7_1$2, 44.0);
-		VAC_1p_208.put(HP_10, 55.0);
-
-		VAC_1p_230 = new HashMap<>();
-		VAC_1p_230.put(HP_1$6, 2.2);
-		VAC_1p_230.put(HP_1$4, 2.9);
-		VAC_1p_230.put(HP_1$3, 3.6);
-		VAC_1p_230.put(HP_1$2, 4.9);
-		VAC_1p_230.put(HP_3$4, 6.9);
-		VAC_1p_230.put(HP_1, 8.0);
-		VAC_1p_230.put(HP_1_1$2, 10.0);
-		VAC_1p_230.put(HP_2, 12.0);
-		VAC_1p_230.put(HP_3, 17.0);
-		VAC_1p_230.put(HP_5, 28.0);
-		VAC_1p_230.put(HP_7_1$2, 40.0);
-		VAC_1p_230.put(HP_10, 50.0);
-
-		AC1PMotor = new HashMap<>();
-		AC1PMotor.put(115, VAC_1p_115);
-		AC1PMotor.put(200, VAC_1p_200);
-		AC1PMotor.put(208, VAC_1p_208);
-		AC1PMotor.put(230, VAC_1p_230);
+		put(Type.AC1P, 115, HP_1$6, 4.4);
+		put(Type.AC1P, 115, HP_1$4, 5.8);
+		put(Type.AC1P, 115, HP_1$3, 7.2);
+		put(Type.AC1P, 115, HP_1$2, 9.8);
+		put(Type.AC1P, 115, HP_3$4, 13.8);
+		put(Type.AC1P, 115, HP_1, 16.0);
+		put(Type.AC1P, 115, HP_1_1$2, 20.0);
+		put(Type.AC1P, 115, HP_2, 24.0);
+		put(Type.AC1P, 115, HP_3, 34.0);
+		put(Type.AC1P, 115, HP_5, 56.0);
+		put(Type.AC1P, 115, HP_7_1$2, 80.0);
+		put(Type.AC1P, 115, HP_10, 100.0);
+
+		put(Type.AC1P, 200, HP_1$6, 2.5);
+		put(Type.AC1P, 200, HP_1$4, 3.3);
+		put(Type.AC1P, 200, HP_1$3, 4.1);
+		put(Type.AC1P, 200, HP_1$2, 5.6);
+		put(Type.AC1P, 200, HP_3$4, 7.9);
+		put(Type.AC1P, 200, HP_1, 9.2);
+		put(Type.AC1P, 200, HP_1_1$2, 11.5);
+		put(Type.AC1P, 200, HP_2, 13.8);
+		put(Type.AC1P, 200, HP_3, 19.6);
+		put(Type.AC1P, 200, HP_5, 32.2);
+		put(Type.AC1P, 200, HP_7_1$2, 46.0);
+		put(Type.AC1P, 200, HP_10, 57.5);
+
+		put(Type.AC1P, 208, HP_1$6, 2.4);
+		put(Type.AC1P, 208, HP_1$4, 3.2);
+		put(Type.AC1P, 208, HP_1$3, 4.0);
+		put(Type.AC1P, 208, HP_1$2, 5.4);
+		put(Type.AC1P, 208, HP_3$4, 7.6);
+		put(Type.AC1P, 208, HP_1, 8.8);
+		put(Type.AC1P, 208, HP_1_1$2, 11.0);
+		put(Type.AC1P, 208, HP_2, 13.2);
+		put(Type.AC1P, 208, HP_3, 18.7);
+		put(Type.AC1P, 208, HP_5, 30.8);
+		put(Type.AC1P, 208, HP_7_1$2, 44.0);
+		put(Type.AC1P, 208, HP_10, 55.0);
+
+		put(Type.AC1P, 230, HP_1$6, 2.2);
+		put(Type.AC1P, 230, HP_1$4, 2.9);
+		put(Type.AC1P, 230, HP_1$3, 3.6);
+		put(Type.AC1P, 230, HP_1$2, 4.9);
+		put(Type.AC1P, 230, HP_3$4, 6.9);
+		put(Type.AC1P, 230, HP_1, 8.0);
+		put(Type.AC1P, 230, HP_1_1$2, 10.0);
+		put(Type.AC1P, 230, HP_2, 12.0);
+		put(Type.AC1P, 230, HP_3, 17.0);
+		put(Type.AC1P, 230, HP_5, 28.0);
+		put(Type.AC1P, 230, HP_7_1$2, 40.0);
+		put(Type.AC1P, 230, HP_10, 50.0);
 		//endregion
 
 		//region AC 2φ NEC 430.249
-		VAC_2p_115 = new HashMap<>();
-		VAC_2p_115.put(HP_1$2, 4.0);
-		VAC_2p_115.put(HP_3$4, 4.8);
-		VAC_2p_115.put(HP_1, 6.4);
-		VAC_2p_115.put(HP_1_1$2, 9.0);
-		VAC_2p_115.put(HP_2, 11.8);
-
-		VAC_2p_230 = new HashMap<>();
-		VAC_2p_230.put(HP_1$2, 2.0);
-		VAC_2p_230.put(HP_3$4, 2.4);
-		VAC_2p_230.put(HP_1, 3.2);
-		VAC_2p_230.put(HP_1_1$2, 4.5);
-		VAC_2p_230.put(HP_2, 5.9);
-		VAC_2p_230.put(HP_3, 8.3);
-		VAC_2p_230.put(HP_5, 13.2);
-		VAC_2p_230.put(HP_7_1$2, 19.0);
-		VAC_2p_230.put(HP_10, 24.0);
-		VAC_2p_230.put(HP_15, 36.0);
-		VAC_2p_230.put(HP_20, 47.0);
-		VAC_2p_230.put(HP_25, 59.0);
-		VAC_2p_230.put(HP_30, 69.0);
-		VAC_2p_230.put(HP_40, 90.0);
-		VAC_2p_230.put(HP_50, 113.0);
-		VAC_2p_230.put(HP_60, 133.0);
-		VAC_2p_230.put(HP_75, 166.0);
-		VAC_2p_230.put(HP_100, 218.0);
-		VAC_2p_230.put(HP_125, 270.0);
-		VAC_2p_230.put(HP_150, 312.0);
-		VAC_2p_230.put(HP_200, 416.0);
-
-		VAC_2p_460 = new HashMap<>();
-		VAC_2p_460.put(HP_1$2, 1.0);
-		VAC_2p_460.put(HP_3$4, 1.2);
-		VAC_2p_460.put(HP_1, 1.6);
-		VAC_2p_460.put(HP_1_1$2, 2.3);
-		VAC_2p_460.put(HP_2, 3.0);
-		VAC_2p_460.put(HP_3, 4.2);
-		VAC_2p_460.put(HP_5, 6.6);
-		VAC_2p_460.put(HP_7_1$2, 9.0);
-		VAC_2p_460.put(HP_10, 12.0);
-		VAC_2p_460.put(HP_15, 18.0);
-		VAC_2p_460.put(HP_20, 23.0);
-		VAC_2p_460.put(HP_25, 29.0);
-		VAC_2p_460.put(HP_30, 35.0);
-		VAC_2p_460.put(HP_40, 45.0);
-		VAC_2p_460.put(HP_50, 56.0);
-		VAC_2p_460.put(HP_60, 67.0);
-		VAC_2p_460.put(HP_75, 83.0);
-		VAC_2p_460.put(HP_100, 109.0);
-		VAC_2p_460.put(HP_125, 135.0);
-		VAC_2p_460.put(HP_150, 156.0);
-		VAC_2p_460.put(HP_200, 208.0);
-
-		VAC_2p_575 = new HashMap<>();
-		VAC_2p_575.put(HP_1$2, .8);
-		VAC_2p_575.put(HP_3$4, 1.0);
-		VAC_2p_575.put(HP_1, 1.3);
-		VAC_2p_575.put(HP_1_1$2, 1.8);
-		VAC_2p_575.put(HP_2, 2.4);
-		VAC_2p_575.put(HP_3, 3.3);
-		VAC_2p_575.put(HP_5, 5.3);
-		VAC_2p_575.put(HP_7_1$2, 8.0);
-		VAC_2p_575.put(HP_10, 10.0);
-		VAC_2p_575.put(HP_15, 14.0);
-		VAC_2p_575.put(HP_20, 19.0);
-		VAC_2p_575.put(HP_25, 24.0);
-		VAC_2p_575.put(HP_30, 28.0);
-		VAC_2p_575.put(HP_40, 36.0);
-		VAC_2p_575.put(HP_50, 45.0);
-		VAC_2p_575.put(HP_60, 53.0);
-		VAC_2p_575.put(HP_75, 66.0);
-		VAC_2p_575.put(HP_100, 87.0);
-		VAC_2p_575.put(HP_125, 108.0);
-		VAC_2p_575.put(HP_150, 125.0);
-		VAC_2p_575.put(HP_200, 167.0);
-
-		VAC_2p_2300 = new HashMap<>();
-		VAC_2p_2300.put(HP_60, 14.0);
-		VAC_2p_2300.put(HP_75, 18.0);
-		VAC_2p_2300.put(HP_100, 23.0);
-		VAC_2p_2300.put(HP_125, 28.0);
-		VAC_2p_2300.put(HP_150, 32.0);
-		VAC_2p_2300.put(HP_200, 43.0);
-
-		AC2PMotor = new HashMap<>();
-		AC2PMotor.put(115, VAC_2p_115);
-		AC2PMotor.put(230, VAC_2p_230);
-		AC2PMotor.put(460, VAC_2p_460);
-		AC2PMotor.put(575, VAC_2p_575);
-		AC2PMotor.put(2300, VAC_2p_2300);
+		put(Type.AC2P, 115, HP_1$2, 4.0);
+		put(Type.AC2P, 115, HP_3$4, 4.8);
+		put(Type.AC2P, 115, HP_1, 6.4);
+		put(Type.AC2P, 115, HP_1_1$2, 9.0);
+		put(Type.AC2P, 115, HP_2, 11.8);
+
+		put(Type.AC2P, 230, HP_1$2, 2.0);
+		put(Type.AC2P, 230, HP_3$4, 2.4);
+		put(Type.AC2P, 230, HP_1, 3.2);
+		put(Type.AC2P, 230, HP_1_1$2, 4.5);
+		put(Type.AC2P, 230, HP_2, 5.9);
+		put(Type.AC2P, 230, HP_3, 8.3);
+		put(Type.AC2P, 230, HP_5, 13.2);
+		put(Type.AC2P, 230, HP_7_1$2, 19.0);
+		put(Type.AC2P, 230, HP_10, 24.0);
+		put(Type.AC2P, 230, HP_15, 36.0);
+		put(Type.AC2P, 230, HP_20, 47.0);
+		put(Type.AC2P, 230, HP_25, 59.0);
+		put(Type.AC2P, 230, HP_30, 69.0);
+		put(Type.AC2P, 230, HP_40, 90.0);
+		put(Type.AC2P, 230, HP_50, 113.0);
+		put(Type.AC2P, 230, HP_60, 133.0);
+		put(Type.AC2P, 230, HP_75, 166.0);
+		put(Type.AC2P, 230, HP_100, 218.0);
+		put(Type.AC2P, 230, HP_125, 270.0);
+		put(Type.AC2P, 230, HP_150, 312.0);
+		put(Type.AC2P, 230, HP_200, 416.0);
+
+		put(Type.AC2P, 460, HP_1$2, 1.0);
+		put(Type.AC2P, 460, HP_3$4, 1.2);
+		put(Type.AC2P, 460, HP_1, 1.6);
+		put(Type.AC2P, 460, HP_1_1$2, 2.3);
+		put(Type.AC2P, 460, HP_2, 3.0);
+		put(Type.AC2P, 460, HP_3, 4.2);
+		put(Type.AC2P, 460, HP_5, 6.6);
+		put(Type.AC2P, 460, HP_7_1$2, 9.0);
+		put(Type.AC2P, 460, HP_10, 12.0);
+		put(Type.AC2P, 460, HP_15, 18.0);
+		put(Type.AC2P, 460, HP_20, 23.0);
+		put(Type.AC2P, 460, HP_25, 29.0);
+		put(Type.AC2P, 460, HP_30, 35.0);
+		put(Type.AC2P, 460, HP_40, 45.0);
+		put(Type.AC2P, 460, HP_50, 56.0);
+		put(Type.AC2P, 460, HP_60, 67.0);
+		put(Type.AC2P, 460, HP_75, 83.0);
+		put(Type.AC2P, 460, HP_100, 109.0);
+		put(Type.AC2P, 460, HP_125, 135.0);
+		put(Type.AC2P, 460, HP_150, 156.0);
+		put(Type.AC2P, 460, HP_200, 208.0);
+
+		put(Type.AC2P, 575, HP_1$2, .8);
+		put(Type.AC2P, 575, HP_3$4, 1.0);
+		put(Type.AC2P, 575, HP_1, 1.3);
+		put(Type.AC2P, 575, HP_1_1$2, 1.8);
+		put(Type.AC2P, 575, HP_2, 2.4);
+		put(Type.AC2P, 575, HP_3, 3.3);
+		put(Type.AC2P, 575, HP_5, 5.3);
+		put(Type.AC2P, 575, HP_7_1$2, 8.0);
+		put(Type.AC2P, 575, HP_10, 10.0);
+		put(Type.AC2P, 575, HP_15, 14.0);
+		put(Type.AC2P, 575, HP_20, 19.0);
+		put(Type.AC2P, 575, HP_25, 24.0);
+		put(Type.AC2P, 575, HP_30, 28.0);
+		put(Type.AC2P, 575, HP_40, 36.0);
+		put(Type.AC2P, 575, HP_50, 45.0);
+		put(Type.AC2P, 575, HP_60, 53.0);
+		put(Type.AC2P, 575, HP_75, 66.0);
+		put(Type.AC2P, 575, HP_100, 87.0);
+		put(Type.AC2P, 575, HP_125, 108.0);
+		put(Type.AC2P, 575, HP_150, 125.0);
+		put(Type.AC2P, 575, HP_200, 167.0);
+
+		put(Type.AC2P, 2300, HP_60, 14.0);
+		put(Type.AC2P, 2300, HP_75, 18.0);
+		put(Type.AC2P, 2300, HP_100, 23.0);
+		put(Type.AC2P, 2300, HP_125, 28.0);
+		put(Type.AC2P, 2300, HP_150, 32.0);
+		put(Type.AC2P, 2300, HP_200, 43.0);
 		//endregion
 
 		//region AC 3φ NEC 430.250
-		VAC_3p_115 = new HashMap<>();
-		VAC_3p_115.put(HP_1$2, 4.4);
-		VAC_3p_115.put(HP_3$4, 6.4);
-		VAC_3p_115.put(HP_1, 8.4);
-		VAC_3p_115.put(HP_1_1$2, 12.0);
-		VAC_3p_115.put(HP_2, 13.6);
-
-		VAC_3p_200 = new HashMap<>();
-		VAC_3p_200.put(HP_1$2, 2.5);
-		VAC_3p_200.put(HP_3$4, 3.7);
-		VAC_3p_200.put(HP_1, 4.8);
-		VAC_3p_200.put(HP_1_1$2, 6.9);
-		VAC_3p_200.put(HP_2, 7.8);
-		VAC_3p_200.put(HP_3, 11.0);
-		VAC_3p_200.put(HP_5, 17.5);
-		VAC_3p_200.put(HP_7_1$2, 25.3);
-		VAC_3p_200.put(HP_10, 32.2);
-		VAC_3p_200.put(HP_15, 48.3);
-		VAC_3p_200.put(HP_20, 62.1);
-		VAC_3p_200.put(HP_25, 78.2);
-		VAC_3p_200.put(HP_30, 92.0);
-		VAC_3p_200.put(HP_40, 120.0);
-		VAC_3p_200.put(HP_50, 150.0);
-		VAC_3p_200.put(HP_60, 177.0);
-		VAC_3p_200.put(HP_75, 221.0);
-		VAC_3p_200.put(HP_100, 285.0);
-		VAC_3p_200.put(HP_125, 359.0);
-		VAC_3p_200.put(HP_150, 414.0);
-		VAC_3p_200.put(HP_200, 552.0);
-
-		VAC_3p_208 = new HashMap<>();
-		VAC_3p_208.put(HP_1$2, 2.4);
-		VAC_3p_208.put(HP_3$4, 3.5);
-		VAC_3p_208.put(HP_1, 4.6);
-		VAC_3p_208.put(HP_1_1$2, 6.6);
-		VAC_3p_208.put(HP_2, 7.5);
-		VAC_3p_208.put(HP_3, 10.6);
-		VAC_3p_208.put(HP_5, 16.7);
-		VAC_3p_208.put(HP_7_1$2, 24.2);
-		VAC_3p_208.put(HP_10, 30.8);
-		VAC_3p_208.put(HP_15, 46.2);
-		VAC_3p_208.put(HP_20, 59.4);
-		VAC_3p_208.put(HP_25, 74.8);
-		VAC_3p_208.put(HP_30, 88.0);
-		VAC_3p_208.put(HP_40, 114.0);
-		VAC_3p_208.put(HP_50, 143.0);
-		VAC_3p_208.put(HP_60, 169.0);
-		VAC_3p_208.put(HP_75, 211.0);
-		VAC_3p_208.put(HP_100, 273.0);
-		VAC_3p_208.put(HP_125, 343.0);
-		VAC_3p_208.put(HP_150, 396.0);
-		VAC_3p_208.put(HP_200, 528.0);
-
-		VAC_3p_230 = new HashMap<>();
-		VAC_3p_230.put(HP_1$2, 2.2);
-		VAC_3p_230.put(HP_3$4, 3.2);
-		VAC_3p_230.put(HP_1, 4.2);
-		VAC_3p_230.put(HP_1_1$2, 6.0);
-		VAC_3p_230.put(HP_2, 6.8);
-		VAC_3p_230.put(HP_3, 9.6);
-		VAC_3p_230.put(HP_5, 15.2);
-		VAC_3p_230.put(HP_7_1$2, 22.0);
-		VAC_3p_230.put(HP_10, 28.0);
-		VAC_3p_230.put(HP_15, 42.0);
-		VAC_3p_230.put(HP_20, 54.0);
-		VAC_3p_230.put(HP_25, 68.0);
-		VAC_3p_230.put(HP_30, 80.0);
-		VAC_3p_230.put(HP_40, 104.0);
-		VAC_3p_230.put(HP_50, 130.0);
-		VAC_3p_230.put(HP_60, 154.0);
-		VAC_3p_230.put(HP_75, 192.0);
-		VAC_3p_230.put(HP_100, 248.0);
-		VAC_3p_230.put(HP_125, 312.0);
-		VAC_3p_230.put(HP_150, 360.0);
-		VAC_3p_230.put(HP_200, 480.0);
-
-		VAC_3p_460 = new HashMap<>();
-		VAC_3p_460.put(HP_1$2, 1.1);
-		VAC_3p_460.put(HP_3$4, 1.6);
-		VAC_3p_460.put(HP_1, 2.1);
-		VAC_3p_460.put(HP_1_1$2, 3.0);
-		VAC_3p_460.put(HP_2, 3.4);
-		VAC_3p_460.put(HP_3, 4.8);
-		VAC_3p_460.put(HP_5, 7.6);
-		VAC_3p_460.put(HP_7_1$2, 11.0);
-		VAC_3p_460.put(HP_10, 14.0);
-		VAC_3p_460.put(HP_15, 21.0);
-		VAC_3p_460.put(HP_20, 27.0);
-		VAC_3p_460.put(HP_25, 34.0);
-		VAC_3p_460.put(HP_30, 40.0);
-		VAC_3p_460.put(HP_40, 52.0);
-		VAC_3p_460.put(HP_50, 65.0);
-		VAC_3p_460.put(HP_60, 77.0);
-		VAC_3p_460.put(HP_75, 96.0);
-		VAC_3p_460.put(HP_100, 124.0);
-		VAC_3p_460.put(HP_125, 156.0);
-		VAC_3p_460.put(HP_150, 180.0);
-		VAC_3p_460.put(HP_200, 240.0);
-		VAC_3p_460.put(HP_250, 302.0);
-		VAC_3p_460.put(HP_300, 361.0);
-		VAC_3p_460.put(HP_350, 414.0);
-		VAC_3p_460.put(HP_400, 477.0);
-		VAC_3p_460.put(HP_450, 515.0);
-		VAC_3p_460.put(HP_500, 590.0);
-
-		VAC_3p_575 = new HashMap<>();
-		VAC_3p_575.put(HP_1$2, .9);
-		VAC_3p_575.put(HP_3$4, 1.3);
-		VAC_3p_575.put(HP_1, 1.7);
-		VAC_3p_575.put(HP_1_1$2, 2.4);
-		VAC_3p_575.put(HP_2, 2.7);
-		VAC_3p_575.put(HP_3, 3.9);
-		VAC_3p_575.put(HP_5, 6.1);
-		VAC_3p_575.put(HP_7_1$2, 9.0);
-		VAC_3p_575.put(HP_10, 11.0);
-		VAC_3p_575.put(HP_15, 17.0);
-		VAC_3p_575.put(HP_20, 22.0);
-		VAC_3p_575.put(HP_25, 27.0);
-		VAC_3p_575.put(HP_30, 32.0);
-		VAC_3p_575.put(HP_40, 41.0);
-		VAC_3p_575.put(HP_50, 52.0);
-		VAC_3p_575.put(HP_60, 62.0);
-		VAC_3p_575.put(HP_75, 77.0);
-		VAC_3p_575.put(HP_100, 99.0);
-		VAC_3p_575.put(HP_125, 125.0);
-		VAC_3p_575.put(HP_150, 144.0);
-		VAC_3p_575.put(HP_200, 192.0);
-		VAC_3p_575.put(HP_250, 242.0);
-		VAC_3p_575.put(HP_300, 289.0);
-		VAC_3p_575.put(HP_350, 336.0);
-		VAC_3p_575.put(HP_400, 382.0);
-		VAC_3p_575.put(HP_450, 412.0);
-		VAC_3p_575.put(HP_500, 472.0);
-
-		VAC_3p_2300 = new HashMap<>();
-		VAC_3p_2300.put(HP_60, 16.0);
-		VAC_3p_2300.put(HP_75, 20.0);
-		VAC_3p_2300.put(HP_100, 26.0);
-		VAC_3p_2300.put(HP_125, 31.0);
-		VAC_3p_2300.put(HP_150, 37.0);
-		VAC_3p_2300.put(HP_200, 49.0);
-		VAC_3p_2300.put(HP_250, 60.0);
-		VAC_3p_2300.put(HP_300, 72.0);
-		VAC_3p_2300.put(HP_350, 83.0);
-		VAC_3p_2300.put(HP_400, 95.0);
-		VAC_3p_2300.put(HP_450, 103.0);
-		VAC_3p_2300.put(HP_500, 118.0);
-
-		AC3PMotor = new HashMap<>();
-		AC3PMotor.put(115, VAC_3p_115);
-		AC3PMotor.put(200, VAC_3p_200);
-		AC3PMotor.put(208, VAC_3p_208);
-		AC3PMotor.put(230, VAC_3p_230);
-		AC3PMotor.put(460, VAC_3p_460);
-		AC3PMotor.put(575, VAC_3p_575);
-		AC3PMotor.put(2300, VAC_3p_2300);
+		put(Type.AC3P, 115, HP_1$2, 4.4);
+		put(Type.AC3P, 115, HP_3$4, 6.4);
+		put(Type.AC3P, 115, HP_1, 8.4);
+		put(Type.AC3P, 115, HP_1_1$2, 12.0);
+		put(Type.AC3P, 115, HP_2, 13.6);
+
+		put(Type.AC3P, 200, HP_1$2, 2.5);
+		put(Type.AC3P, 200, HP_3$4, 3.7);
+		put(Type.AC3P, 200, HP_1, 4.8);
+		put(Type.AC3P, 200, HP_1_1$2, 6.9);
+		put(Type.AC3P, 200, HP_2, 7.8);
+		put(Type.AC3P, 200, HP_3, 11.0);
+		put(Type.AC3P, 200, HP_5, 17.5);
+		put(Type.AC3P, 200, HP_7_1$2, 25.3);
+		put(Type.AC3P, 200, HP_10, 32.2);
+		put(Type.AC3P, 200, HP_15, 48.3);
+		put(Type.AC3P, 200, HP_20, 62.1);
+		put(Type.AC3P, 200, HP_25, 78.2);
+		put(Type.AC3P, 200, HP_30, 92.0);
+		put(Type.AC3P, 200, HP_40, 120.0);
+		put(Type.AC3P, 200, HP_50, 150.0);
+		put(Type.AC3P, 200, HP_60, 177.0);
+		put(Type.AC3P, 200, HP_75, 221.0);
+		put(Type.AC3P, 200, HP_100, 285.0);
+		put(Type.AC3P, 200, HP_125, 359.0);
+		put(Type.AC3P, 200, HP_150, 414.0);
+		put(Type.AC3P, 200, HP_200, 552.0);
+
+		put(Type.AC3P, 208, HP_1$2, 2.4);
+		put(Type.AC3P, 208, HP_3$4, 3.5);
+		put(Type.AC3P, 208, HP_1, 4.6);
+		put(Type.AC3P, 208, HP_1_1$2, 6.6);
+		put(Type.AC3P, 208, HP_2, 7.5);
+		put(Type.AC3P, 208, HP_3, 10.6);
+		put(Type.AC3P, 208, HP_5, 16.7);
+		put(Type.AC3P, 208, HP_7_1$2, 24.2);
+		put(Type.AC3P, 208, HP_10, 30.8);
+		put(Type.AC3P, 208, HP_15, 46.2);
+		put(Type.AC3P, 208, HP_20, 59.4);
+		put(Type.AC3P, 208, HP_25, 74.8);
+		put(Type.AC3P, 208, HP_30, 88.0);
+		put(Type.AC3P, 208, HP_40, 114.0);
+		put(Type.AC3P, 208, HP_50, 143.0);
+		put(Type.AC3P, 208, HP_60, 169.0);
+		put(Type.AC3P, 208, HP_75, 211.0);
+		put(Type.AC3P, 208, HP_100, 273.0);
+		put(Type.AC3P, 208, HP_125, 343.0);
+		put(Type.AC3P, 208, HP_150, 396.0);
+		put(Type.AC3P, 208, HP_200, 528.0);
+
+		put(Type.AC3P, 230, HP_1$2, 2.2);
+		put(Type.AC3P, 230, HP_3$4, 3.2);
+		put(Type.AC3P, 230, HP_1, 4.2);
+		put(Type.AC3P, 230, HP_1_1$2, 6.0);
+		put(Type.AC3P, 230, HP_2, 6.8);
+		put(Type.AC3P, 230, HP_3, 9.6);
+		put(Type.AC3P, 230, HP_5, 15.2);
+		put(Type.AC3P, 230, HP_7_1$2, 22.0);
+		put(Type.AC3P, 230, HP_10, 28.0);
+		put(Type.AC3P, 230, HP_15, 42.0);
+		put(Type.AC3P, 230, HP_20, 54.0);
+		put(Type.AC3P, 230, HP_25, 68.0);
+		put(Type.AC3P, 230, HP_30, 80.0);
+		put(Type.AC3P, 230, HP_40, 104.0);
+		put(Type.AC3P, 230, HP_50, 130.0);
+		put(Type.AC3P, 230, HP_60, 154.0);
+		put(Type.AC3P, 230, HP_75, 192.0);
+		put(Type.AC3P, 230, HP_100, 248.0);
+		put(Type.AC3P, 230, HP_125, 312.0);
+		put(Type.AC3P, 230, HP_150, 360.0);
+		put(Type.AC3P, 230, HP_200, 480.0);
+
+		put(Type.AC3P, 460, HP_1$2, 1.1);
+		put(Type.AC3P, 460, HP_3$4, 1.6);
+		put(Type.AC3P, 460, HP_1, 2.1);
+		put(Type.AC3P, 460, HP_1_1$2, 3.0);
+		put(Type.AC3P, 460, HP_2, 3.4);
+		put(Type.AC3P, 460, HP_3, 4.8);
+		put(Type.AC3P, 460, HP_5, 7.6);
+		put(Type.AC3P, 460, HP_7_1$2, 11.0);
+		put(Type.AC3P, 460, HP_10, 14.0);
+		put(Type.AC3P, 460, HP_15, 21.0);
+		put(Type.AC3P, 460, HP_20, 27.0);
+		put(Type.AC3P, 460, HP_25, 34.0);
+		put(Type.AC3P, 460, HP_30, 40.0);
+		put(Type.AC3P, 460, HP_40, 52.0);
+		put(Type.AC3P, 460, HP_50, 65.0);
+		put(Type.AC3P, 460, HP_60, 77.0);
+		put(Type.AC3P, 460, HP_75, 96.0);
+		put(Type.AC3P, 460, HP_100, 124.0);
+		put(Type.AC3P, 460, HP_125, 156.0);
+		put(Type.AC3P, 460, HP_150, 180.0);
+		put(Type.AC3P, 460, HP_200, 240.0);
+		put(Type.AC3P, 460, HP_250, 302.0);
+		put(Type.AC3P, 460, HP_300, 361.0);
+		put(Type.AC3P, 460, HP_350, 414.0);
+		put(Type.AC3P, 460, HP_400, 477.0);
+		put(Type.AC3P, 460, HP_450, 515.0);
+		put(Type.AC3P, 460, HP_500, 590.0);
+
+		put(Type.AC3P, 575, HP_1$2, .9);
+		put(Type.AC3P, 575, HP_3$4, 1.3);
+		put(Type.AC3P, 575, HP_1, 1.7);
+		put(Type.AC3P, 575, HP_1_1$2, 2.4);
+		put(Type.AC3P, 575, HP_2, 2.7);
+		put(Type.AC3P, 575, HP_3, 3.9);
+		put(Type.AC3P, 575, HP_5, 6.1);
+		put(Type.AC3P, 575, HP_7_1$2, 9.0);
+		put(Type.AC3P, 575, HP_10, 11.0);
+		put(Type.AC3P, 575, HP_15, 17.0);
+		put(Type.AC3P, 575, HP_20, 22.0);
+		put(Type.AC3P, 575, HP_25, 27.0);
+		put(Type.AC3P, 575, HP_30, 32.0);
+		put(Type.AC3P, 575, HP_40, 41.0);
+		put(Type.AC3P, 575, HP_50, 52.0);
+		put(Type.AC3P, 575, HP_60, 62.0);
+		put(Type.AC3P, 575, HP_75, 77.0);
+		put(Type.AC3P, 575, HP_100, 99.0);
+		put(Type.AC3P, 575, HP_125, 125.0);
+		put(Type.AC3P, 575, HP_150, 144.0);
+		put(Type.AC3P, 575, HP_200, 192.0);
+		put(Type.AC3P, 575, HP_250, 242.0);
+		put(Type.AC3P, 575, HP_300, 289.0);
+		put(Type.AC3P, 575, HP_350, 336.0);
+		put(Type.AC3P, 575, HP_400, 382.0);
+		put(Type.AC3P, 575, HP_450, 412.0);
+		put(Type.AC3P, 575, HP_500, 472.0);
+
+		put(Type.AC3P, 2300, HP_60, 16.0);
+		put(Type.AC3P, 2300, HP_75, 20.0);
+		put(Type.AC3P, 2300, HP_100, 26.0);
+		put(Type.AC3P, 2300, HP_125, 31.0);
+		put(Type.AC3P, 2300, HP_150, 37.0);
+		put(Type.AC3P, 2300, HP_200, 49.0);
+		put(Type.AC3P, 2300, HP_250, 60.0);
+		put(Type.AC3P, 2300, HP_300, 72.0);
+		put(Type.AC3P, 2300, HP_350, 83.0);
+		put(Type.AC3P, 2300, HP_400, 95.0);
+		put(Type.AC3P, 2300, HP_450, 103.0);
+		put(Type.AC3P, 2300, HP_500, 118.0);
 		//endregion
 
 		//region AC 3φ synchronous NEC 430.250
-		VAC_S_230 = new HashMap<>();
-		VAC_S_230.put(HP_25, 53.0);
-		VAC_S_230.put(HP_30, 63.0);
-		VAC_S_230.put(HP_40, 83.0);
-		VAC_S_230.put(HP_50, 104.0);
-		VAC_S_230.put(HP_60, 123.0);
-		VAC_S_230.put(HP_75, 155.0);
-		VAC_S_230.put(HP_100, 202.0);
-		VAC_S_230.put(HP_125, 253.0);
-		VAC_S_230.put(HP_150, 302.0);
-		VAC_S_230.put(HP_200, 400.0);
-
-		VAC_S_460 = new HashMap<>();
-		VAC_S_460.put(HP_25, 26.0);
-		VAC_S_460.put(HP_30, 32.0);
-		VAC_S_460.put(HP_40, 41.0);
-		VAC_S_460.put(HP_50, 52.0);
-		VAC_S_460.put(HP_60, 61.0);
-		VAC_S_460.put(HP_75, 78.0);
-		VAC_S_460.put(HP_100, 101.0);
-		VAC_S_460.put(HP_125, 126.0);
-		VAC_S_460.put(HP_150, 151.0);
-		VAC_S_460.put(HP_200, 201.0);
-
-		VAC_S_575 = new HashMap<>();
-		VAC_S_575.put(HP_25, 21.0);
-		VAC_S_575.put(HP_30, 26.0);
-		VAC_S_575.put(HP_40, 33.0);
-		VAC_S_575.put(HP_50, 42.0);
-		VAC_S_575.put(HP_60, 49.0);
-		VAC_S_575.put(HP_75, 62.0);
-		VAC_S_575.put(HP_100, 81.0);
-		VAC_S_575.put(HP_125, 101.0);
-		VAC_S_575.put(HP_150, 121.0);
-		VAC_S_575.put(HP_200, 161.0);
-
-		VAC_S_2300 = new HashMap<>();
-		VAC_S_2300.put(HP_60, 12.0);
-		VAC_S_2300.put(HP_75, 15.0);
-		VAC_S_2300.put(HP_100, 20.0);
-		VAC_S_2300.put(HP_125, 25.0);
-		VAC_S_2300.put(HP_150, 30.0);
-		VAC_S_2300.put(HP_200, 40.0);
-
-		AC3PSMotor = new HashMap<>();
-		AC3PSMotor.put(230, VAC_S_230);
-		AC3PSMotor.put(460, VAC_S_460);
-		AC3PSMotor.put(575, VAC_S_575);
-		AC3PSMotor.put(2300, VAC_S_2300);
+		put(Type.AC3PS, 230, HP_25, 53.0);
+		put(Type.AC3PS, 230, HP_30, 63.0);
+		put(Type.AC3PS, 230, HP_40, 83.0);
+		put(Type.AC3PS, 230, HP_50, 104.0);
+		put(Type.AC3PS, 230, HP_60, 123.0);
+		put(Type.AC3PS, 230, HP_75, 155.0);
+		put(Type.AC3PS, 230, HP_100, 202.0);
+		put(Type.AC3PS, 230, HP_125, 253.0);
+		put(Type.AC3PS, 230, HP_150, 302.0);
+		put(Type.AC3PS, 230, HP_200, 400.0);
+
+		put(Type.AC3PS, 460, HP_25, 26.0);
+		put(Type.AC3PS, 460, HP_30, 32.0);
+		put(Type.AC3PS, 460, HP_40, 41.0);
+		put(Type.AC3PS, 460, HP_50, 52.0);
+		put(Type.AC3PS, 460, HP_60, 61.0);
+		put(Type.AC3PS, 460, HP_75, 78.0);
+		put(Type.AC3PS, 460, HP_100, 101.0);
+		put(Type.AC3PS, 460, HP_125, 126.0);
+		put(Type.AC3PS, 460, HP_150, 151.0);
+		put(Type.AC3PS, 460, HP_200, 201.0);
+
+		put(Type.AC3PS, 575, HP_25, 21.0);
+		put(Type.AC3PS, 575, HP_30, 26.0);
+		put(Type.AC3PS, 575, HP_40, 33.0);
+		put(Type.AC3PS, 575, HP_50, 42.0);
+		put(Type.AC3PS, 575, HP_60, 49.0);
+		put(Type.AC3PS, 575, HP_75, 62.0);
+		put(Type.AC3PS, 575, HP_100, 81.0);
+		put(Type.AC3PS, 575, HP_125, 101.0);
+		put(Type.AC3PS, 575, HP_150, 121.0);
+		put(Type.AC3PS, 575, HP_200, 161.0);
+
+		put(Type.AC3PS, 2300, HP_60, 12.0);
+		put(Type.AC3PS, 2300, HP_75, 15.0);
+		put(Type.AC3PS, 2300, HP_100, 20.0);
+		put(Type.AC3PS, 2300, HP_125, 25.0);
+		put(Type.AC3PS, 2300, HP_150, 30.0);
+		put(Type.AC3PS, 2300, HP_200, 40.0);
 		//endregion
 	}
 
+	private static void setACColumn(int fromVoltage, int toVoltage,
+	                                int columnVoltage) {
+		byte column = (byte) Arrays.binarySearch(AC_VOLTAGES, columnVoltage);
+		for(int voltage = fromVoltage; voltage <= toVoltage; voltage++)
+			AC_COLUMN[voltage] = column;
+	}
+
+	private static void put(Type type, int voltage, Horsepower horsepower,
+	                        double flc) {
+		byte column = type == Type.DC ? DC_COLUMN[voltage] : AC_COLUMN[voltage];
+		FLC[type.ordinal()][column][horsepower.ordinal()] = flc;
+	}
+
 	/**
 	 Enum type for motor as described in NEC table 430.247 to 430.250.
 	 Notice, a wound rotor motor is different from a squirrel cage type motor
@@ -548,32 +493,77 @@ public class MotorProperties {
 		DESIGN_D
 	};
 
+	/**
+	 @return The row of the FLC table for the given motor type and voltage,
+	 indexed by horsepower ordinal, or null if the tables have no column for
+	 the given voltage. The voltage of DC motors must match a column of the
+	 DC table, while the voltage of AC motors is normalized first.
+	 */
+	private static double[] getFlcRow(Type type, int voltage) {
+		if(type == null)
+			return null;
+		int column;
+		if(type == Type.DC)
+			column = voltage >= 0 && voltage <= MAX_VOLTAGE ?
+					DC_COLUMN[voltage] : -1;
+		else
+			column = getACColumn(voltage);
+		return column < 0 ? null : FLC[type.ordinal()][column];
+	}
+
+	/**
+	 @return The column of the AC tables for the given voltage, or -1.
+	 */
+	private static int getACColumn(int voltage) {
+		voltage = Math.abs(voltage);
+		if(voltage < 0 || voltage > MAX_VOLTAGE)
+			return -1;
+		return AC_COLUMN[voltage];
+	}
+
+	/**
+	 @return The full load current in amperes of the given motor, as defined
+	 in NEC tables 430.247 to 430.250, or zero if the tables have no value
+	 for the given motor.
+	 @param type The type of motor.
+	 @param voltage The voltage rating of the motor.
+	 @param horsepower The horsepower rating of the motor.
+	 */
 	public static double getFlc(MotorProperties.Type type, int voltage,
 	                            Horsepower horsepower) {
-		Map<Integer, Map<Horsepower, Double>> motorColumn;
-		if(type == Type.DC)
-			motorColumn = DCMotor;
-		else {
-			if (type == Type.AC1P)
-				motorColumn = AC1PMotor;
-			else if (type == Type.AC2P)
-				motorColumn = AC2PMotor;
-			else if (type == Type.AC3P)
-				motorColumn = AC3PMotor;
-			else if (type == Type.AC3PS)
-				motorColumn = AC3PSMotor;
-			else
-				return 0;
-			voltage = getNormalizedVoltage(voltage);
-			if(voltage == 0)
-				return 0;
-		}
-		if(motorColumn.containsKey(voltage)){
-			Map<Horsepower, Double> flcMap = motorColumn.get(voltage);
-			if(flcMap.containsKey(horsepower))
-				return flcMap.get(horsepower);
+		double[] row = getFlcRow(type, voltage);
+		if(row == null || horsepower == null)
+			return 0;
+		double flc = row[horsepower.ordinal()];
+		return Double.isNaN(flc) ? 0 : flc;
+	}
+
+	/**
+	 Fills the full load currents of a list of motors of the same type and
+	 voltage, as returned by {@link #getFlc(Type, int, Horsepower)} for each
+	 one of them. No objects are created.
+	 @param type The type of the motors.
+	 @param voltage The voltage rating of the motors.
+	 @param horsepowers The horsepower ratings of the motors.
+	 @param flcs The array where the full load currents are stored, in the
+	 same order as the horsepower ratings. It must be at least as long as the
+	 array of horsepower ratings.
+	 */
+	public static void getFlc(MotorProperties.Type type, int voltage,
+	                          Horsepower[] horsepowers, double[] flcs) {
+		if(horsepowers == null || flcs == null)
+			throw new IllegalArgumentException("The arrays of horsepower " +
+					"ratings and full load currents cannot be null.");
+		if(flcs.length < horsepowers.length)
+			throw new IllegalArgumentException("The array of full load " +
+					"currents is shorter than the array of horsepower ratings.");
+		double[] row = getFlcRow(type, voltage);
+		for(int i = 0; i < horsepowers.length; i++) {
+			Horsepower horsepower = horsepowers[i];
+			double flc = row == null || horsepower == null ? 0 :
+					row[horsepower.ordinal()];
+			flcs[i] = Double.isNaN(flc) ? 0 : flc;
 		}
-		return 0;
 	}
 
 	/**
@@ -585,18 +575,8 @@ public class MotorProperties {
 	 @param voltage A voltage value corresponding to a motor nameplate voltage.
 	 */
 	public static int getNormalizedVoltage(int voltage) {
-		voltage = Math.abs(voltage);
-		if(voltage >= 110 && voltage <= 120)
-			return 115;
-		if(voltage == 200 || voltage == 208 || voltage == 2300)
-			return voltage;
-		else if(voltage >= 220 && voltage <= 240)
-			return 230;
-		else if(voltage >= 440 && voltage <= 480)
-			return 460;
-		else if(voltage >= 550 && voltage <= 1000)
-			return 575;
-		return 0;
+		int column = getACColumn(voltage);
+		return column < 0 ? 0 : AC_VOLTAGES[column];
 	}
 
 
@@ -0,0 +1,405 @@
+package eecalcs.loads;
+
+import eecalcs.systems.VoltageSystemAC;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ A three-phase, four-wire wye panel (or switchboard) and the loads connected
+ to it, with the phase or phases each load is connected to.
+ <p>Loads with only one hot and a neutral at the line-to-neutral voltage of
+ the panel (120 V for a 208 V panel, 277 V for a 480 V panel) are connected
+ to one phase: A, B or C. Single-phase loads with two hots and no neutral at
+ the line-to-line voltage of the panel are connected to two phases: AB, BC
+ or CA. Three-phase loads at the voltage of the panel are connected to the
+ three phases. Loads with any other voltage system, including single-phase
+ three-wire loads, whose neutral current depends on how the load is split
+ between its two hots, cannot be connected to the panel.
+ <p>The panel keeps the volt-amperes of the loads per connection, and
+ updates them when a load is added, when it is connected to other phases and
+ when it notifies a change, so the currents of the phases and of the neutral
+ are always available in constant time. The currents are calculated as
+ phasors, assuming all the loads have the same power factor: a line-to-line
+ load draws its current in phase with its line-to-line voltage, so a 10 A
+ load on AB adds 10 A to the currents of A and B, and three equal
+ line-to-line loads on AB, BC and CA draw √3 times their current from each
+ phase.
+ <p>If a load changes to a voltage system that cannot be connected to the
+ panel, it stays in the panel but it is disconnected: its connection is null
+ and it does not add to the totals. If it changes to a voltage system that
+ is connected in a different way (from line-to-neutral to line-to-line for
+ example), it is connected to the least loaded phase or phases that are
+ allowed for it.
+ */
+public class Panel {
+	/**The phases a load can be connected to.*/
+	public enum Connection {
+		A, B, C, AB, BC, CA, ABC;
+		/**Indexes of the phases of each connection.*/
+		private static final int[][] PHASES = {{0}, {1}, {2}, {0, 1}, {1, 2},
+				{2, 0}, {0, 1, 2}};
+		/**The connections of line-to-neutral, line-to-line and three-phase
+		 loads.*/
+		private static final List<List<Connection>> BY_KIND = Arrays.asList(
+				Collections.unmodifiableList(Arrays.asList(A, B, C)),
+				Collections.unmodifiableList(Arrays.asList(AB, BC, CA)),
+				Collections.singletonList(ABC));
+
+		/**
+		 @return True if this connection is a single phase (A, B or C).
+		 */
+		public boolean isPhase() {
+			return ordinal() < 3;
+		}
+
+		int[] getPhases() {
+			return PHASES[ordinal()];
+		}
+
+		/**
+		 @return 0 for a connection to one phase, 1 for a connection to two
+		 phases and 2 for a connection to the three phases.
+		 */
+		int getKind() {
+			return ordinal() / 3;
+		}
+
+		/**
+		 @return The connection of the given kind with the given index (0 to 2)
+		 in that kind.
+		 */
+		static Connection of(int kind, int index) {
+			return values()[3 * kind + index];
+		}
+	}
+
+	private static final double SQRT3 = Math.sqrt(3);
+	private static final double HALF_SQRT3 = SQRT3 / 2;
+	private final VoltageSystemAC voltageSystem;
+	private final double lineToNeutralVoltage;
+	private final List<Entry> entries = new ArrayList<>();
+	/**Volt-amperes of the loads, per connection ordinal.*/
+	private final double[] voltAmperes = new double[7];
+	private final double[] currents = new double[3];
+
+	/**
+	 A load in this panel, its connection and the values it adds to the
+	 totals.
+	 */
+	private static class Entry {
+		private final Load load;
+		private Connection connection;
+		private double voltAmperes;
+
+		Entry(Load load) {
+			this.load = load;
+		}
+	}
+
+	/**
+	 Creates an empty panel.
+	 @param voltageSystem The voltage system of the panel. Must be a
+	 three-phase, four-wire wye system: {@link VoltageSystemAC#v208_3ph_4w} or
+	 {@link VoltageSystemAC#v480_3ph_4w}.
+	 */
+	public Panel(VoltageSystemAC voltageSystem) {
+		if(voltageSystem == null)
+			throw new IllegalArgumentException("Voltage system parameter cannot be null.");
+		if(voltageSystem == VoltageSystemAC.v208_3ph_4w)
+			lineToNeutralVoltage = VoltageSystemAC.v120_1ph_2w.getVoltage();
+		else if(voltageSystem == VoltageSystemAC.v480_3ph_4w)
+			lineToNeutralVoltage = VoltageSystemAC.v277_1ph_2w.getVoltage();
+		else
+			throw new IllegalArgumentException("The voltage system of a panel " +
+					"must be a three-phase, four-wire wye system.");
+		this.voltageSystem = voltageSystem;
+	}
+
+	/**
+	 @return The voltage system of this panel.
+	 */
+	public VoltageSystemAC getVoltageSystem() {
+		return voltageSystem;
+	}
+
+	/**
+	 @return The line-to-neutral voltage of this panel.
+	 */
+	public double getLineToNeutralVoltage() {
+		return lineToNeutralVoltage;
+	}
+
+	/**
+	 @param voltageSystem The voltage system of a load.
+	 @return 0 if a load with the given voltage system is connected to one
+	 phase, 1 if it is connected to two phases, 2 if it is connected to the
+	 three phases or -1 if it cannot be connected to this panel.
+	 */
+	private int kindOf(VoltageSystemAC voltageSystem) {
+		if(voltageSystem == null)
+			return -1;
+		if(voltageSystem.hasHotAndNeutralOnly() &&
+				voltageSystem.getVoltage() == lineToNeutralVoltage)
+			return 0;
+		if(voltageSystem.getVoltage() != this.voltageSystem.getVoltage())
+			return -1;
+		if(voltageSystem.getPhases() == 3)
+			return 2;
+		if(voltageSystem.has2HotsOnly())
+			return 1;
+		return -1;
+	}
+
+	/**
+	 @param load The load.
+	 @return An unmodifiable list with the connections that are allowed for
+	 the given load in this panel. The list is empty if the load cannot be
+	 connected to this panel.
+	 */
+	public List<Connection> getAllowedConnections(Load load) {
+		if(load == null)
+			throw new IllegalArgumentException("Load parameter cannot be null.");
+		int kind = kindOf(load.getVoltageSystem());
+		if(kind == -1)
+			return Collections.emptyList();
+		return Connection.BY_KIND.get(kind);
+	}
+
+	/**
+	 Adds a load to this panel, connected to the least loaded phase or phases
+	 allowed for it.
+	 @param load The load. Its voltage system must be compatible with this
+	 panel.
+	 @return The index of the load in this panel.
+	 */
+	public int add(Load load) {
+		return add(load, null);
+	}
+
+	/**
+	 Adds a load to this panel, connected to the given phase or phases.
+	 @param load The load. Its voltage system must be compatible with this
+	 panel.
+	 @param connection The phase or phases the load is connected to. It must
+	 be one of the {@link #getAllowedConnections(Load) allowed connections}
+	 for the load. If null, the load is connected to the least loaded phase or
+	 phases allowed for it.
+	 @return The index of the load in this panel.
+	 */
+	public int add(Load load, Connection connection) {
+		List<Connection> allowed = getAllowedConnections(load);
+		if(allowed.isEmpty())
+			throw new IllegalArgumentException("The voltage system of the " +
+					"load is not compatible with the panel.");
+		if(connection != null && !allowed.contains(connection))
+			throw new IllegalArgumentException("The connection is not " +
+					"allowed for the voltage system of the load.");
+		Entry entry = new Entry(load);
+		entry.voltAmperes = load.getVoltAmperes();
+		connect(entry, connection == null ? leastLoaded(allowed) : connection);
+		entries.add(entry);
+		load.getNotifier().addListener(sender -> notifyLoadChanged(entry));
+		return entries.size() - 1;
+	}
+
+	/**
+	 @return The connection among the given ones whose phases have the least
+	 volt-amperes.
+	 */
+	private Connection leastLoaded(List<Connection> connections) {
+		Connection best = null;
+		double bestTotal = Double.POSITIVE_INFINITY;
+		for(Connection connection: connections) {
+			double total = 0;
+			for(int phase: connection.getPhases())
+				total += phaseVoltAmperes(phase);
+			if(total < bestTotal) {
+				bestTotal = total;
+				best = connection;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 Adds the values of the given entry to the totals of the given
+	 connection.
+	 */
+	private void connect(Entry entry, Connection connection) {
+		entry.connection = connection;
+		if(connection != null)
+			voltAmperes[connection.ordinal()] += entry.voltAmperes;
+	}
+
+	/**
+	 Subtracts the values of the given entry from the totals of its
+	 connection.
+	 */
+	private void disconnect(Entry entry) {
+		Connection connection = entry.connection;
+		if(connection == null)
+			return;
+		voltAmperes[connection.ordinal()] -= entry.voltAmperes;
+		entry.connection = null;
+	}
+
+	/**
+	 Updates the totals after a change in the load of the given entry.
+	 */
+	private void notifyLoadChanged(Entry entry) {
+		Connection old = entry.connection;
+		disconnect(entry);
+		entry.voltAmperes = entry.load.getVoltAmperes();
+		int kind = kindOf(entry.load.getVoltageSystem());
+		if(kind == -1)
+			return;
+		if(old != null && old.getKind() == kind)
+			connect(entry, old);
+		else
+			connect(entry, leastLoaded(Connection.BY_KIND.get(kind)));
+	}
+
+	/**
+	 @return The number of loads in this panel.
+	 */
+	public int getLoadCount() {
+		return entries.size();
+	}
+
+	/**
+	 @param index The index of the load.
+	 @return The load with the given index.
+	 */
+	public Load getLoad(int index) {
+		return entries.get(index).load;
+	}
+
+	/**
+	 @param index The index of the load.
+	 @return The phase or phases the given load is connected to, or null if it
+	 is disconnected because its voltage system is not compatible with this
+	 panel anymore.
+	 */
+	public Connection getConnection(int index) {
+		return entries.get(index).connection;
+	}
+
+	/**
+	 Connects a load to other phases. The totals are updated in constant time.
+	 @param index The index of the load.
+	 @param connection The phase or phases the load is connected to. It must
+	 be one of the {@link #getAllowedConnections(Load) allowed connections}
+	 for the load.
+	 */
+	public void setConnection(int index, Connection connection) {
+		Entry entry = entries.get(index);
+		if(connection == null)
+			throw new IllegalArgumentException("Connection parameter cannot be null.");
+		if(!getAllowedConnections(entry.load).contains(connection))
+			throw new IllegalArgumentException("The connection is not " +
+					"allowed for the voltage system of the load.");
+		if(entry.connection == connection)
+			return;
+		disconnect(entry);
+		connect(entry, connection);
+	}
+
+	/**
+	 @param phase The phase: A, B or C.
+	 @return The volt-amperes of all the loads on the given phase. The
+	 volt-amperes of the loads connected to two or three phases are split
+	 evenly between them, as in a panel schedule.
+	 */
+	public double getVoltAmperes(Connection phase) {
+		return phaseVoltAmperes(phaseIndex(phase));
+	}
+
+	private double phaseVoltAmperes(int phase) {
+		return voltAmperes[phase] + (voltAmperes[3 + phase] +
+				voltAmperes[3 + (phase + 2) % 3]) / 2 + voltAmperes[6] / 3;
+	}
+
+	/**
+	 @param phase The phase: A, B or C.
+	 @return The current of the given phase, in amperes, calculated as the
+	 sum of the phasors of the currents of its loads.
+	 */
+	public double getCurrent(Connection phase) {
+		int index = phaseIndex(phase);
+		lineCurrents(voltAmperes, lineToNeutralVoltage,
+				voltageSystem.getVoltage(), currents);
+		return currents[index];
+	}
+
+	private static int phaseIndex(Connection phase) {
+		if(phase == null || !phase.isPhase())
+			throw new IllegalArgumentException("Phase parameter must be A, B or C.");
+		return phase.ordinal();
+	}
+
+	/**
+	 Returns the current of the neutral, in amperes. The line-to-line and
+	 three-phase loads do not use the neutral; the currents of the
+	 line-to-neutral loads of each phase are added as phasors 120° apart,
+	 assuming all the loads have the same power factor. The triplen harmonics
+	 of nonlinear loads, which add up in the neutral, are not accounted for.
+	 @return The current of the neutral, in amperes.
+	 */
+	public double getNeutralCurrent() {
+		return neutralCurrent(voltAmperes[0], voltAmperes[1], voltAmperes[2]) /
+				lineToNeutralVoltage;
+	}
+
+	/**
+	 @return The difference between the highest and the lowest current of the
+	 phases, in amperes.
+	 */
+	public double getImbalance() {
+		lineCurrents(voltAmperes, lineToNeutralVoltage,
+				voltageSystem.getVoltage(), currents);
+		return imbalance(currents[0], currents[1], currents[2]);
+	}
+
+	/**
+	 Calculates the currents of the three phases of a panel.
+	 @param voltAmperes The volt-amperes of the loads, per connection
+	 ordinal.
+	 @param lineToNeutralVoltage The line-to-neutral voltage of the panel.
+	 @param lineToLineVoltage The line-to-line voltage of the panel.
+	 @param currents The array where the currents of the phases A, B and C are
+	 stored, in amperes.
+	 */
+	static void lineCurrents(double[] voltAmperes, double lineToNeutralVoltage,
+	                         double lineToLineVoltage, double[] currents) {
+		double threePhase = voltAmperes[6] / (SQRT3 * lineToLineVoltage);
+		double a = voltAmperes[0] / lineToNeutralVoltage + threePhase;
+		double b = voltAmperes[1] / lineToNeutralVoltage + threePhase;
+		double c = voltAmperes[2] / lineToNeutralVoltage + threePhase;
+		//currents of the line-to-line loads, at 30°, -90° and 150°
+		double ab = voltAmperes[3] / lineToLineVoltage;
+		double bc = voltAmperes[4] / lineToLineVoltage;
+		double ca = voltAmperes[5] / lineToLineVoltage;
+		currents[0] = Math.hypot(a + HALF_SQRT3 * (ab + ca), (ab - ca) / 2);
+		currents[1] = Math.hypot(b / 2 + HALF_SQRT3 * ab, HALF_SQRT3 * b + bc + ab / 2);
+		currents[2] = Math.hypot(c / 2 + HALF_SQRT3 * ca, HALF_SQRT3 * c + bc + ca / 2);
+	}
+
+	/**
+	 @return The magnitude of the sum of three phasors 120° apart with the
+	 given magnitudes.
+	 */
+	static double neutralCurrent(double a, double b, double c) {
+		return Math.sqrt(Math.max(0, a * a + b * b + c * c - a * b - b * c - c * a));
+	}
+
+	/**
+	 @return The difference between the highest and the lowest of the given
+	 values.
+	 */
+	static double imbalance(double a, double b, double c) {
+		return Math.max(a, Math.max(b, c)) - Math.min(a, Math.min(b, c));
+	}
+}
@@ -0,0 +1,382 @@
+package eecalcs.loads;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ Connects the loads of a {@link Panel} to the phases that keep the panel as
+ balanced as possible.
+ <p>The cost of an assignment is the difference between the highest and the
+ lowest current of the phases plus {@link #setNeutralWeight(double)
+ neutralWeight} times the current of the neutral, all in amperes. Only the
+ loads connected to one or two phases can be moved; three-phase loads, and
+ loads disconnected from the panel, keep their connection. A load is only
+ moved to the phases of the same kind (a line-to-neutral load to another
+ phase, a line-to-line load to another pair of phases).
+ <p>The cost depends only on the volt-amperes per connection, so moving a
+ load, or swapping two loads of the same kind, changes the cost in constant
+ time. The currents are calculated as phasors, as in {@link Panel}. Each
+ start of the search builds an assignment and improves it with a local
+ search that moves single loads and swaps pairs of loads while the cost
+ decreases. The first start uses the current assignment of the panel,
+ the second one a longest processing time heuristic (the loads, from the
+ biggest to the smallest, go to the phases where they add the least cost)
+ and the others the same heuristic over a slightly shuffled order. The
+ starts run in parallel in the workers of a {@link ForkJoinPool}, and the
+ best assignment is applied to the panel; ties are resolved in favor of the
+ earliest start, so the result does not depend on the number of workers.
+ */
+public class PhaseBalancer {
+	private static final double EPSILON = 1e-9;
+	/**Maximum number of passes of the local search.*/
+	private static final int MAX_PASSES = 50;
+	/**Maximum relative change of the volt-amperes used to sort the loads in
+	 the shuffled starts.*/
+	private static final double JITTER = 0.15;
+	private static final long SEED = 0x5EEDL;
+	private int starts = 8;
+	private double neutralWeight = 1.0;
+
+	/**
+	 @param starts The number of assignments built and improved. The first
+	 one is the current assignment of the panel. Default is 8. Must be
+	 greater than zero.
+	 @return This balancer.
+	 */
+	public PhaseBalancer setStarts(int starts) {
+		if(starts <= 0)
+			throw new IllegalArgumentException("Starts parameter must be greater than zero.");
+		this.starts = starts;
+		return this;
+	}
+
+	/**
+	 @return The number of assignments built and improved.
+	 */
+	public int getStarts() {
+		return starts;
+	}
+
+	/**
+	 @param neutralWeight The cost of each ampere of the neutral, relative to
+	 the cost of each ampere of difference between the phases. Default is 1.
+	 @return This balancer.
+	 */
+	public PhaseBalancer setNeutralWeight(double neutralWeight) {
+		if(neutralWeight < 0)
+			throw new IllegalArgumentException("Neutral weight parameter cannot be negative.");
+		this.neutralWeight = neutralWeight;
+		return this;
+	}
+
+	/**
+	 @return The cost of each ampere of the neutral, relative to the cost of
+	 each ampere of difference between the phases.
+	 */
+	public double getNeutralWeight() {
+		return neutralWeight;
+	}
+
+	/**
+	 @return The cost of the current assignment of the given panel.
+	 */
+	public double getCost(Panel panel) {
+		if(panel == null)
+			throw new IllegalArgumentException("Panel parameter cannot be null.");
+		return panel.getImbalance() + neutralWeight * panel.getNeutralCurrent();
+	}
+
+	/**
+	 Connects the loads of the given panel to the phases with the least cost,
+	 using the common fork/join pool.
+	 @param panel The panel.
+	 @return The cost of the new assignment.
+	 */
+	public double balance(Panel panel) {
+		return balance(panel, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 Connects the loads of the given panel to the phases with the least cost,
+	 using the given fork/join pool.
+	 @param panel The panel.
+	 @param pool The pool whose workers will perform the calculations.
+	 @return The cost of the new assignment.
+	 */
+	public double balance(Panel panel, ForkJoinPool pool) {
+		if(panel == null)
+			throw new IllegalArgumentException("Panel parameter cannot be null.");
+		if(pool == null)
+			throw new IllegalArgumentException("Pool parameter cannot be null.");
+		Problem problem = new Problem(panel);
+		Search[] searches = new Search[starts];
+		pool.invoke(new StartTask(problem, searches, 0, starts));
+		Search best = searches[0];
+		for(Search search: searches)
+			if(search.cost < best.cost - EPSILON)
+				best = search;
+		for(int m = 0; m < problem.loads.length; m++) {
+			Panel.Connection connection = Panel.Connection.of(problem.kinds[m],
+					best.connections[m]);
+			panel.setConnection(problem.loads[m], connection);
+		}
+		return getCost(panel);
+	}
+
+	/**
+	 The loads of a panel that can be moved and the totals of the ones that
+	 cannot. It is not modified by the searches.
+	 */
+	private static class Problem {
+		/**Index in the panel of each load that can be moved.*/
+		private final int[] loads;
+		/**0 for line-to-neutral loads, 1 for line-to-line loads.*/
+		private final int[] kinds;
+		/**Volt-amperes of each load.*/
+		private final double[] voltAmperes;
+		/**Connection of each load in the panel, as an index in its kind.*/
+		private final int[] connections;
+		/**Indexes of the loads of each kind, in {@link #loads}.*/
+		private final int[][] byKind = new int[2][];
+		/**Volt-amperes of the loads that cannot be moved.*/
+		private double threePhase;
+		private final double voltage;
+		private final double lineToLineVoltage;
+
+		Problem(Panel panel) {
+			voltage = panel.getLineToNeutralVoltage();
+			lineToLineVoltage = panel.getVoltageSystem().getVoltage();
+			int n = panel.getLoadCount();
+			int[] movable = new int[n];
+			int count = 0;
+			int[] kindCount = new int[2];
+			for(int i = 0; i < n; i++) {
+				Panel.Connection connection = panel.getConnection(i);
+				if(connection == null)
+					continue;
+				int kind = connection.getKind();
+				if(kind < 2) {
+					movable[count++] = i;
+					kindCount[kind]++;
+				}
+				else
+					threePhase += panel.getLoad(i).getVoltAmperes();
+			}
+			loads = Arrays.copyOf(movable, count);
+			kinds = new int[count];
+			voltAmperes = new double[count];
+			connections = new int[count];
+			byKind[0] = new int[kindCount[0]];
+			byKind[1] = new int[kindCount[1]];
+			int[] next = new int[2];
+			for(int m = 0; m < count; m++) {
+				Panel.Connection connection = panel.getConnection(loads[m]);
+				int kind = connection.getKind();
+				kinds[m] = kind;
+				voltAmperes[m] = panel.getLoad(loads[m]).getVoltAmperes();
+				connections[m] = connection.ordinal() % 3;
+				byKind[kind][next[kind]++] = m;
+			}
+		}
+	}
+
+	/**
+	 One start of the search: an assignment of the loads of a problem and the
+	 totals per connection of that assignment.
+	 */
+	private class Search {
+		private final Problem problem;
+		private final int[] connections;
+		/**Volt-amperes of the loads, per connection ordinal.*/
+		private final double[] totals = new double[7];
+		private final double[] tempTotals = new double[7];
+		private final double[] currents = new double[3];
+		private double cost;
+
+		Search(Problem problem) {
+			this.problem = problem;
+			connections = new int[problem.loads.length];
+			totals[6] = problem.threePhase;
+		}
+
+		/**
+		 Builds the assignment of the given start and improves it.
+		 */
+		void run(int start) {
+			if(start == 0) {
+				for(int m = 0; m < connections.length; m++) {
+					connections[m] = problem.connections[m];
+					move(totals, problem.kinds[m], -1, connections[m],
+							problem.voltAmperes[m]);
+				}
+				cost = cost(totals);
+			}
+			else
+				seed(start);
+			improve();
+		}
+
+		/**
+		 Assigns the loads from the biggest to the smallest, each one to the
+		 connection where it adds the least cost. After the second start, the
+		 volt-amperes used to sort the loads are shuffled a little.
+		 */
+		private void seed(int start) {
+			int count = connections.length;
+			double[] keys = new double[count];
+			SplittableRandom random = new SplittableRandom(SEED + start);
+			for(int m = 0; m < count; m++) {
+				double va = problem.voltAmperes[m];
+				keys[m] = start == 1 ? va :
+						va * (1 + JITTER * (2 * random.nextDouble() - 1));
+			}
+			Integer[] order = new Integer[count];
+			for(int m = 0; m < count; m++)
+				order[m] = m;
+			Arrays.sort(order, Comparator.comparingDouble((Integer m) -> -keys[m])
+					.thenComparingInt(m -> m));
+			for(int m: order) {
+				int kind = problem.kinds[m];
+				int best = 0;
+				double bestCost = Double.POSITIVE_INFINITY;
+				for(int to = 0; to < 3; to++) {
+					double c = costOfMove(kind, -1, to, problem.voltAmperes[m]);
+					if(c < bestCost - EPSILON) {
+						bestCost = c;
+						best = to;
+					}
+				}
+				connections[m] = best;
+				move(totals, kind, -1, best, problem.voltAmperes[m]);
+			}
+			cost = cost(totals);
+		}
+
+		/**
+		 Moves single loads and swaps pairs of loads of the same kind while
+		 the cost decreases.
+		 */
+		private void improve() {
+			for(int pass = 0; pass < MAX_PASSES; pass++) {
+				boolean improved = false;
+				for(int m = 0; m < connections.length; m++) {
+					int kind = problem.kinds[m];
+					int from = connections[m];
+					for(int to = 0; to < 3; to++) {
+						if(to == from)
+							continue;
+						double c = costOfMove(kind, from, to, problem.voltAmperes[m]);
+						if(c < cost - EPSILON) {
+							move(totals, kind, from, to, problem.voltAmperes[m]);
+							connections[m] = to;
+							from = to;
+							cost = c;
+							improved = true;
+						}
+					}
+				}
+				for(int kind = 0; kind < 2; kind++) {
+					int[] members = problem.byKind[kind];
+					for(int x = 0; x < members.length; x++) {
+						int m = members[x];
+						for(int y = x + 1; y < members.length; y++) {
+							int k = members[y];
+							int from = connections[m];
+							int to = connections[k];
+							double amount = problem.voltAmperes[m] - problem.voltAmperes[k];
+							if(from == to || amount == 0)
+								continue;
+							//swapping m and k moves the difference from m to k
+							double c = costOfMove(kind, from, to, amount);
+							if(c < cost - EPSILON) {
+								move(totals, kind, from, to, amount);
+								connections[m] = to;
+								connections[k] = from;
+								cost = c;
+								improved = true;
+							}
+						}
+					}
+				}
+				if(!improved)
+					break;
+			}
+			//the totals are recalculated to discard the rounding errors
+			Arrays.fill(totals, 0);
+			totals[6] = problem.threePhase;
+			for(int m = 0; m < connections.length; m++)
+				move(totals, problem.kinds[m], -1, connections[m],
+						problem.voltAmperes[m]);
+			cost = cost(totals);
+		}
+
+		/**
+		 @return The cost after moving the given volt-amperes of the given kind
+		 of load between the given connections.
+		 */
+		private double costOfMove(int kind, int from, int to, double amount) {
+			System.arraycopy(totals, 0, tempTotals, 0, 7);
+			move(tempTotals, kind, from, to, amount);
+			return cost(tempTotals);
+		}
+
+		/**
+		 @return The cost of the given totals, in amperes.
+		 */
+		private double cost(double[] totals) {
+			Panel.lineCurrents(totals, problem.voltage, problem.lineToLineVoltage,
+					currents);
+			return Panel.imbalance(currents[0], currents[1], currents[2]) +
+					neutralWeight * Panel.neutralCurrent(totals[0], totals[1],
+					totals[2]) / problem.voltage;
+		}
+	}
+
+	/**
+	 Moves the given volt-amperes of the given kind of load from one
+	 connection to another in the given totals.
+	 @param from The index of the connection in its kind, or -1 to add the
+	 volt-amperes without removing them from any connection.
+	 */
+	private static void move(double[] totals, int kind, int from, int to,
+	                         double amount) {
+		if(from != -1)
+			totals[3 * kind + from] -= amount;
+		totals[3 * kind + to] += amount;
+	}
+
+	/**
+	 Task that runs the starts in the range [from, to), splitting itself in
+	 halves until the range has one start.
+	 */
+	private class StartTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Problem problem;
+		private final Search[] searches;
+		private final int from;
+		private final int to;
+
+		StartTask(Problem problem, Search[] searches, int from, int to) {
+			this.problem = problem;
+			this.searches = searches;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(to - from == 1) {
+				Search search = new Search(problem);
+				search.run(from);
+				searches[from] = search;
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new StartTask(problem, searches, from, middle),
+					new StartTask(problem, searches, middle, to));
+		}
+	}
+}
@@ -37,6 +37,12 @@ public enum VoltageSystemAC{									   //neutral is CCC
 	v575_3ph_3w("575v 3Ø 3W",575, 3, 3),//4w:no, but if load>50% harmonic:yes
 	v_other("", 120,1,2);
 
+	/**All the voltage systems, in ordinal order.*/
+	private static final VoltageSystemAC[] VALUES = values();
+	/**
+	 The number of voltage systems.
+	 */
+	public static final int COUNT = VALUES.length;
 	private String name;
 	private int voltage;
 	private int phases;
@@ -44,9 +50,9 @@ public enum VoltageSystemAC{									   //neutral is CCC
 	private int wires;
 
 	static{
-		names = new String[values().length];
-		for(int i=0; i<values().length; i++)
-			names[i] = values()[i].getName();
+		names = new String[COUNT];
+		for(int i=0; i<COUNT; i++)
+			names[i] = VALUES[i].getName();
 	}
 
 	VoltageSystemAC(String name, int voltage, int phases, int wires){
@@ -171,4 +177,34 @@ public enum VoltageSystemAC{									   //neutral is CCC
 		this.name = String.format("%dv %dØ %dW", voltage, phases, wires);
 		return this;
 	}
+
+	/**
+	 Returns the voltage system with the given ordinal, without the array
+	 allocation of values(). To iterate over a range, loop over the
+	 ordinals and call this method.
+	 @param ordinal The ordinal of the voltage system.
+	 @return The voltage system with the given ordinal or null if there is
+	 none.
+	 */
+	public static VoltageSystemAC byOrdinal(int ordinal) {
+		if(ordinal < 0 || ordinal >= COUNT)
+			return null;
+		return VALUES[ordinal];
+	}
+
+	/**
+	 @return The voltage system that follows this one in ordinal order, or
+	 null if this is the last one.
+	 */
+	public VoltageSystemAC next() {
+		return byOrdinal(ordinal() + 1);
+	}
+
+	/**
+	 @return The voltage system that precedes this one in ordinal order, or
+	 null if this is the first one.
+	 */
+	public VoltageSystemAC previous() {
+		return byOrdinal(ordinal() - 1);
+	}
 }
@@ -32,6 +32,16 @@ public interface ROVoltDrop {
 	 */
 	double getACVoltageAtLoad();
 
+	/**
+	 Tells if the AC voltage drop percentage of the preset conductor grows
+	 with its length, for every length up to the preset one. That is not the
+	 case when the drop is so big compared to the source voltage that the
+	 voltage at the load "wraps around".
+	 @return True if the drop percentage increases with the length. False if
+	 it does not or if the result messages contain errors.
+	 */
+	boolean isACVoltageDropIncreasing();
+
 	/**
 	 Calculates and returns the AC voltage drop in volts across the set of
 	 conductors under the preset conditions.
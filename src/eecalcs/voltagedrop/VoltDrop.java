@@ -2,12 +2,13 @@ package eecalcs.voltagedrop;
 
 import eecalcs.conductors.Conductor;
 import eecalcs.conductors.ConductorProperties;
+import eecalcs.conductors.Metal;
 import eecalcs.conductors.RoConductor;
 import eecalcs.conductors.Size;
 import eecalcs.conduits.ConduitProperties;
 import eecalcs.conduits.Material;
+import eecalcs.systems.TempRating;
 import eecalcs.systems.VoltageSystemAC;
-import org.apache.commons.math3.complex.Complex;
 import tools.ResultMessage;
 import tools.ROResultMessages;
 import tools.ResultMessages;
@@ -68,6 +69,47 @@ public class VoltDrop implements ROVoltDrop {
 	private double actualVoltageDropPercentageDC; //actual DC voltage drop percentage for the calculated conductor size.
 	//endregion
 
+	private static final Size[] sizes = Size.values();
+	/**AC resistance in ohms per 1000 feet of each conductor size, laid out as
+	 [metal ordinal][conduit material ordinal][size ordinal].*/
+	private static final double[][][] acResistance;
+	/**Reactance in ohms per 1000 feet of each conductor size, laid out as
+	 [0 non magnetic conduit, 1 magnetic conduit][size ordinal].*/
+	private static final double[][] reactance;
+	private static final double[] noResistance = new double[sizes.length];
+
+	static {
+		acResistance = new double[Metal.values().length][Material.values().length][sizes.length];
+		for(Metal metal: Metal.values())
+			for(Material material: Material.values())
+				for(Size size: sizes)
+					acResistance[metal.ordinal()][material.ordinal()][size.ordinal()] =
+							ConductorProperties.getACResistance(size, metal, material);
+		reactance = new double[2][sizes.length];
+		for(Size size: sizes) {
+			reactance[0][size.ordinal()] = ConductorProperties.getReactance(size, false);
+			reactance[1][size.ordinal()] = ConductorProperties.getReactance(size, true);
+		}
+	}
+
+	/**
+	 Returns the AC resistances of all the sizes for the given metal and
+	 conduit material. Like {@link ConductorProperties#getACResistance}, the
+	 resistances are zero if any parameter is null.
+	 */
+	private static double[] getACResistances(Metal metal, Material conduitMaterial){
+		if(metal == null || conduitMaterial == null)
+			return noResistance;
+		return acResistance[metal.ordinal()][conduitMaterial.ordinal()];
+	}
+
+	/**
+	 Returns the reactances of all the sizes for the given conduit material.
+	 */
+	private static double[] getReactances(Material conduitMaterial){
+		return reactance[ConduitProperties.isMagnetic(conduitMaterial) ? 1 : 0];
+	}
+
 	/**
 	 Container for messages resulting from validation of input variables and
 	 calculations performed by this class.
@@ -349,6 +391,15 @@ public class VoltDrop implements ROVoltDrop {
 		return 0;
 	}
 
+	@Override
+	public boolean isACVoltageDropIncreasing(){
+		if(checkInputForACVoltageDrop())
+			return !isOverdriven(conductor.getSize().ordinal(),
+					getACResistances(conductor.getMetal(), conduitMaterial),
+					getReactances(conduitMaterial));
+		return false;
+	}
+
 	@Override
 	public Size getCalculatedSizeAC(){
 		if(checkInputForACSizeCalculation())
@@ -389,26 +440,72 @@ public class VoltDrop implements ROVoltDrop {
 	 preset conductor, but of the given size.
 	 */
 	private double getGenericACVoltageAtLoad(Size size){
+		double length = conductor.getLength();
+		double resistance = getACResistances(conductor.getMetal(), conduitMaterial)[size.ordinal()];
+		double conductorReactance = getReactances(conduitMaterial)[size.ordinal()];
+		return getACVoltageAtLoad(resistance * 0.001 * length / sets,
+				conductorReactance * 0.001 * length / sets);
+	}
+
+	/**
+	 Returns the magnitude of the complex number (real, imaginary). The
+	 operations are the same used by the abs() method of the commons-math
+	 Complex class (overflow safe), so both return exactly the same value for
+	 finite arguments.
+	 */
+	private static double abs(double real, double imaginary){
+		if(Math.abs(real) < Math.abs(imaginary)){
+			if(imaginary == 0.0)
+				return Math.abs(real);
+			double q = real / imaginary;
+			return Math.abs(imaginary) * Math.sqrt(1 + q * q);
+		}
+		if(real == 0.0)
+			return Math.abs(imaginary);
+		double q = imaginary / real;
+		return Math.abs(real) * Math.sqrt(1 + q * q);
+	}
+
+	/**
+	 Calculates and returns the AC voltage at the load terminals, fed by a
+	 conductor having the given one way resistance and reactance. The phasor
+	 math is done on primitive real/imaginary pairs, in the same order the
+	 commons-math Complex class does it, so no object is created.
+	 */
+	private double getACVoltageAtLoad(double oneWayACResistance,
+	                                  double oneWayConductorReactance){
 		double k = sourceVoltage.getPhases() == 1 ? 2 : sourceVoltage.getFactor();
-		double oneWayACResistance = ConductorProperties.getACResistance(
-				size,
-				conductor.getMetal(),
-				conduitMaterial,
-				conductor.getLength(),
-				sets
-		);
-		double oneWayConductorReactance = ConductorProperties.getReactance(
-				size,
-				ConduitProperties.isMagnetic(conduitMaterial),
-				conductor.getLength(),
-				sets
-		);
-		Complex totalConductorImpedanceComplex = new Complex(k * oneWayACResistance, k * oneWayConductorReactance);
-		Complex sourceVoltageComplex = new Complex(sourceVoltage.getVoltage(), 0);
-		Complex loadCurrentComplex = new Complex(loadCurrent * powerFactor, -loadCurrent * Math.sin(Math.acos(powerFactor)));
-		Complex voltageDropAtConductorComplex = totalConductorImpedanceComplex.multiply(loadCurrentComplex);
-		Complex voltageAtLoadComplex = sourceVoltageComplex.subtract(voltageDropAtConductorComplex);
-		return voltageAtLoadComplex.abs();
+		double impedanceRe = k * oneWayACResistance;
+		double impedanceIm = k * oneWayConductorReactance;
+		double currentRe = loadCurrent * powerFactor;
+		double currentIm = -loadCurrent * Math.sin(Math.acos(powerFactor));
+		double dropRe = impedanceRe * currentRe - impedanceIm * currentIm;
+		double dropIm = impedanceRe * currentIm + impedanceIm * currentRe;
+		return abs(sourceVoltage.getVoltage() - dropRe, 0 - dropIm);
+	}
+
+	/**
+	 Returns the magnitude of the AC voltage drop phasor along a conductor
+	 having the given one way resistance and reactance, that is, the load
+	 current times the magnitude of the impedance of the circuit.
+	 */
+	private double getACVoltageDropMagnitude(double oneWayACResistance,
+	                                         double oneWayConductorReactance){
+		double k = sourceVoltage.getPhases() == 1 ? 2 : sourceVoltage.getFactor();
+		return loadCurrent * abs(k * oneWayACResistance, k * oneWayConductorReactance);
+	}
+
+	/**
+	 Returns the AC voltage drop percentage of the preset conductor if it
+	 were of the size having the given ordinal.
+	 */
+	private double getACVoltageDropPercentage(int sizeOrdinal, double[] resistances,
+	                                          double[] reactances){
+		double length = conductor.getLength();
+		double voltageAtLoad = getACVoltageAtLoad(
+				resistances[sizeOrdinal] * 0.001 * length / sets,
+				reactances[sizeOrdinal] * 0.001 * length / sets);
+		return 100 * (sourceVoltage.getVoltage() - voltageAtLoad) / sourceVoltage.getVoltage();
 	}
 
 	/**
@@ -416,32 +513,93 @@ public class VoltDrop implements ROVoltDrop {
 	 drop percentage is less or equal to the given maximum voltage drop.
 	 Simultaneously, the max length and the actual voltage drop percentage is
 	 calculated and saved in the corresponding fields.
+	 <p>Both the ampacity of the sizes and their voltage drop are monotonic
+	 with the size, so instead of trying every size, the first size that can
+	 carry the load current and the first size that meets the maximum voltage
+	 drop are binary searched over the precomputed R/X tables. The result is
+	 the same as trying every size in order.
  	*/
 	private Size computeSizeAC(){
-		for(Size size : Size.values()) {
-			if(loadCurrent >
-				sets *
-				ConductorProperties.getStandardAmpacity(
-					size,
-					conductor.getMetal(),
-					conductor.getTemperatureRating()
-				))
-				continue;
-
-			actualVoltageDropPercentageAC = 100 * (sourceVoltage.getVoltage() - getGenericACVoltageAtLoad(size)) / sourceVoltage.getVoltage();
-			if(actualVoltageDropPercentageAC <= maxVoltageDropPercent){
-				maxLengthAC = computeMaxLengthAC(size);
-				if(maxLengthAC <= 0) {
-					resultMessages.add(ERROR30);
-					return null;
-				}
-				if(sets > 1 && (size.ordinal() < Size.AWG_1$0.ordinal()))
-					resultMessages.add(WARNN21.append("Actual size is " + size.getName() + "."));
-				return size;
-			}
+		Metal metal = conductor.getMetal();
+		TempRating tempRating = conductor.getTemperatureRating();
+		//first size whose ampacity can carry the load current
+		int low = 0;
+		int high = sizes.length;
+		while(low < high){
+			int middle = (low + high) >>> 1;
+			if(loadCurrent > sets * ConductorProperties.getStandardAmpacity(sizes[middle], metal, tempRating))
+				low = middle + 1;
+			else
+				high = middle;
 		}
-		resultMessages.add(ERROR31);
-		return null;
+		if(low == sizes.length){
+			resultMessages.add(ERROR31);
+			return null;
+		}
+		double[] resistances = getACResistances(metal, conduitMaterial);
+		double[] reactances = getReactances(conduitMaterial);
+		/*for sizes so small that the voltage drop is comparable to the source
+		voltage, the drop percentage is not monotonic (the voltage at the load
+		"wraps around"). They are checked one by one, as before.*/
+		while(low < sizes.length && isOverdriven(low, resistances, reactances)){
+			if(getACVoltageDropPercentage(low, resistances, reactances) <= maxVoltageDropPercent)
+				return acceptSizeAC(low, resistances, reactances);
+			low++;
+		}
+		//first size, from there on, that meets the maximum voltage drop
+		high = sizes.length;
+		while(low < high){
+			int middle = (low + high) >>> 1;
+			if(getACVoltageDropPercentage(middle, resistances, reactances) <= maxVoltageDropPercent)
+				high = middle;
+			else
+				low = middle + 1;
+		}
+		if(low == sizes.length){
+			actualVoltageDropPercentageAC = getACVoltageDropPercentage(sizes.length - 1, resistances, reactances);
+			resultMessages.add(ERROR31);
+			return null;
+		}
+		return acceptSizeAC(low, resistances, reactances);
+	}
+
+	/**
+	 Returns true if, for the size having the given ordinal, the voltage drop
+	 phasor D is so big compared to the source voltage Vs that the drop
+	 percentage is not monotonic with the size anymore. That is, when |D|² is
+	 greater than Vs times the in-phase component of D or, since the voltage
+	 at the load is VL = |Vs - D|, when |D|² + VL² is greater than Vs². For
+	 such sizes the voltage at the load can even be greater than the source
+	 voltage.
+	 */
+	private boolean isOverdriven(int sizeOrdinal, double[] resistances,
+	                             double[] reactances){
+		double length = conductor.getLength();
+		double resistance = resistances[sizeOrdinal] * 0.001 * length / sets;
+		double reactance = reactances[sizeOrdinal] * 0.001 * length / sets;
+		double drop = getACVoltageDropMagnitude(resistance, reactance);
+		double voltageAtLoad = getACVoltageAtLoad(resistance, reactance);
+		double source = sourceVoltage.getVoltage();
+		return drop * drop + voltageAtLoad * voltageAtLoad > source * source;
+	}
+
+	/**
+	 Saves the actual voltage drop percentage and the max length for the size
+	 having the given ordinal and returns that size, or null if the max length
+	 cannot be computed.
+	 */
+	private Size acceptSizeAC(int sizeOrdinal, double[] resistances,
+	                          double[] reactances){
+		Size size = sizes[sizeOrdinal];
+		actualVoltageDropPercentageAC = getACVoltageDropPercentage(sizeOrdinal, resistances, reactances);
+		maxLengthAC = computeMaxLengthAC(size);
+		if(maxLengthAC <= 0) {
+			resultMessages.add(ERROR30);
+			return null;
+		}
+		if(sets > 1 && (size.ordinal() < Size.AWG_1$0.ordinal()))
+			resultMessages.add(WARNN21.append("Actual size is " + size.getName() + "."));
+		return size;
 	}
 
 	/**
@@ -551,7 +709,7 @@ public class VoltDrop implements ROVoltDrop {
 	calculated and saved in the corresponding fields.
  	*/
 	private Size computeSizeDC(){
-		for(Size size : Size.values()){
+		for(Size size : sizes){
 			actualVoltageDropPercentageDC = 100 * (sourceVoltage.getVoltage() - getGenericDCVoltageAtLoad(size)) / sourceVoltage.getVoltage();
 			if(actualVoltageDropPercentageDC <= maxVoltageDropPercent){
 				maxLengthDC = computeMaxLengthDC(size);
@@ -1,7 +1,45 @@
 package main;
 
+import eecalcs.circuits.CircuitCsvCalculator;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
 public class Main {
+	/**
+	 Sizes the circuits of a CSV file.
+	 <p>Usage: Main input.csv output.csv [workers]
+	 @see CircuitCsvCalculator
+	 */
 	public static void main(String[] args) {
+		if(args.length < 2)
+			exitWithUsage();
+		CircuitCsvCalculator calculator = null;
+		if(args.length > 2) {
+			try {
+				int workers = Integer.parseInt(args[2]);
+				calculator = new CircuitCsvCalculator(workers, 64 * workers);
+			}
+			catch (IllegalArgumentException e) {
+				//also catches NumberFormatException
+				System.err.println("Invalid number of workers: " + args[2]);
+				exitWithUsage();
+			}
+		}
+		else
+			calculator = new CircuitCsvCalculator();
+		try {
+			long rows = calculator.calculate(Paths.get(args[0]), Paths.get(args[1]));
+			System.out.println(rows + " circuits calculated.");
+		}
+		catch (IOException e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
 
+	private static void exitWithUsage() {
+		System.err.println("Usage: Main input.csv output.csv [workers]");
+		System.exit(2);
 	}
-}
\ No newline at end of file
+}
@@ -255,4 +255,32 @@ class BundleTest {
         assertTrue(bundle.complyWith310_15_B_3_a_5());
     }
 
+    @Test
+    void getCurrentCarryingCount_tracksChanges() {
+        Conductor conductor = new Conductor();
+        Cable cable = new Cable(VoltageSystemAC.v480_3ph_4w, 1.0);
+        bundle.add(conductor);
+        bundle.add(conductor.clone());
+        bundle.add(cable);
+        assertEquals(2 + cable.getCurrentCarryingCount(),
+                bundle.getCurrentCarryingCount());
+
+        conductor.setRole(Conductor.Role.GND);
+        assertEquals(1 + cable.getCurrentCarryingCount(),
+                bundle.getCurrentCarryingCount());
+        cable.setSystem(VoltageSystemAC.v120_1ph_2w);
+        assertEquals(1 + cable.getCurrentCarryingCount(),
+                bundle.getCurrentCarryingCount());
+        cable.setNeutralCarryingConductor(true);
+        cable.setSystem(VoltageSystemAC.v208_3ph_4w);
+        assertEquals(1 + cable.getCurrentCarryingCount(),
+                bundle.getCurrentCarryingCount());
+
+        bundle.remove(cable);
+        assertEquals(1, bundle.getCurrentCarryingCount());
+        cable.setSystem(VoltageSystemAC.v480_3ph_3w);
+        assertEquals(1, bundle.getCurrentCarryingCount());
+        bundle.empty();
+        assertEquals(0, bundle.getCurrentCarryingCount());
+    }
 }
\ No newline at end of file
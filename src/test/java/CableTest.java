@@ -416,4 +416,32 @@ class CableTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void getCorrectedAndAdjustedAmpacity_cachedInBundle() {
+        Bundle bundle = new Bundle(null, 0, 30);
+        Cable cable1 = new Cable(VoltageSystemAC.v120_1ph_2w, 0.5);
+        Cable cable2 = new Cable(VoltageSystemAC.v120_1ph_2w, 0.5);
+        cable1.setType(CableType.MC);
+        cable2.setType(CableType.MC);
+        cable1.setPhaseConductorSize(Size.AWG_12);
+        cable2.setPhaseConductorSize(Size.AWG_12);
+        bundle.add(cable1);
+        bundle.add(cable2);
+        //310.15(B)(3)(a)(4) applies
+        assertEquals(1, cable1.getAdjustmentFactor());
+        double ampacity = cable1.getCorrectedAndAdjustedAmpacity();
+        assertEquals(ampacity, cable1.getCorrectedAndAdjustedAmpacity());
+        //the rule does not apply anymore because of the other cable
+        cable2.setType(CableType.NM);
+        assertEquals(ConductorProperties.getStandardAmpacity(Size.AWG_12, cable1.getMetal(),
+                cable1.getTemperatureRating()) * cable1.getCorrectionFactor()
+                * cable1.getAdjustmentFactor(), cable1.getCorrectedAndAdjustedAmpacity());
+        assertEquals(cable1.getCorrectionFactor() * cable1.getAdjustmentFactor(),
+                cable1.getCompoundFactor());
+        cable2.setType(CableType.MC);
+        assertEquals(ampacity, cable1.getCorrectedAndAdjustedAmpacity());
+        cable2.setPhaseConductorSize(Size.AWG_10);
+        assertEquals(cable1.getCorrectionFactor() * cable1.getAdjustmentFactor(),
+                cable1.getCompoundFactor());
+    }
+}
@@ -0,0 +1,88 @@
+package test.java;
+
+import eecalcs.circuits.CircuitBatch;
+import eecalcs.circuits.CircuitResult;
+import eecalcs.circuits.CircuitSpec;
+import eecalcs.conductors.Insul;
+import eecalcs.conductors.Metal;
+import eecalcs.conductors.Size;
+import eecalcs.systems.TempRating;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBatchTest {
+
+    private List<CircuitSpec> buildSpecs(int count){
+        VoltageSystemAC[] voltages = {VoltageSystemAC.v120_1ph_2w,
+                VoltageSystemAC.v208_1ph_2w, VoltageSystemAC.v208_3ph_4w,
+                VoltageSystemAC.v480_3ph_3w};
+        List<CircuitSpec> specs = new ArrayList<>();
+        for(int i = 0; i < count; i++)
+            specs.add(new CircuitSpec.Builder()
+                    .setLoad(voltages[i % voltages.length], 5 + i % 150)
+                    .setLength(20 + i % 300)
+                    .setContinuous(i % 3 == 0)
+                    .setMetal(i % 5 == 0 ? Metal.ALUMINUM : Metal.COPPER)
+                    .setInsulation(i % 2 == 0 ? Insul.THHN : Insul.THW)
+                    .setTerminationTempRating(i % 4 == 0 ? TempRating.T75 : null)
+                    .build());
+        return specs;
+    }
+
+    @Test
+    void size(){
+        CircuitResult result = CircuitBatch.size(new CircuitSpec.Builder().build());
+        //10 amps @ 120v, 100 feet: voltage drop rules the size
+        assertEquals(Size.AWG_10, result.getPhaseSize());
+        assertEquals(Size.AWG_10, result.getNeutralSize());
+        assertEquals(Size.AWG_10, result.getGroundingSize());
+        assertEquals(30, result.getOCPDRating());
+        assertEquals(30, result.getCircuitAmpacity(), 0.01);
+        assertFalse(result.getResultMessages().hasErrors());
+
+        result = CircuitBatch.size(new CircuitSpec.Builder()
+                .setLoad(VoltageSystemAC.v480_3ph_3w, 100).build());
+        assertNull(result.getNeutralSize());
+        assertNotNull(result.getPhaseSize());
+    }
+
+    @Test
+    void sizeAll_matchesSequential(){
+        List<CircuitSpec> specs = buildSpecs(500);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<CircuitResult> results;
+        try {
+            results = CircuitBatch.sizeAll(specs, pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+        assertEquals(specs.size(), results.size());
+        for(int i = 0; i < specs.size(); i++){
+            CircuitResult expected = CircuitBatch.size(specs.get(i));
+            CircuitResult actual = results.get(i);
+            assertEquals(expected.getPhaseSize(), actual.getPhaseSize());
+            assertEquals(expected.getNeutralSize(), actual.getNeutralSize());
+            assertEquals(expected.getGroundingSize(), actual.getGroundingSize());
+            assertEquals(expected.getOCPDRating(), actual.getOCPDRating());
+            assertEquals(expected.getCircuitAmpacity(), actual.getCircuitAmpacity());
+            assertEquals(expected.getResultMessages().errorCount(),
+                    actual.getResultMessages().errorCount());
+        }
+    }
+
+    @Test
+    void sizeAll_invalidArguments(){
+        assertThrows(IllegalArgumentException.class, () -> CircuitBatch.sizeAll(null));
+        List<CircuitSpec> specs = new ArrayList<>();
+        specs.add(null);
+        assertThrows(IllegalArgumentException.class, () -> CircuitBatch.sizeAll(specs));
+        assertTrue(CircuitBatch.sizeAll(new ArrayList<>()).isEmpty());
+    }
+}
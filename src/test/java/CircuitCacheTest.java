@@ -0,0 +1,112 @@
+package test.java;
+
+import eecalcs.circuits.CircuitBatch;
+import eecalcs.circuits.CircuitCache;
+import eecalcs.circuits.CircuitResult;
+import eecalcs.circuits.CircuitSpec;
+import eecalcs.conduits.Type;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitCacheTest {
+
+    private CircuitSpec spec(double current){
+        return new CircuitSpec.Builder()
+                .setLoad(VoltageSystemAC.v208_3ph_4w, current).build();
+    }
+
+    @Test
+    void get(){
+        CircuitCache cache = new CircuitCache(10);
+        CircuitResult first = cache.get(spec(50));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        //an equal spec, but a different object
+        CircuitResult second = cache.get(spec(50));
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate());
+        assertEquals(1, cache.size());
+
+        CircuitResult expected = CircuitBatch.size(spec(50));
+        assertEquals(expected.getPhaseSize(), first.getPhaseSize());
+        assertEquals(expected.getOCPDRating(), first.getOCPDRating());
+
+        assertNotSame(first, cache.get(spec(51)));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get(null));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitCache(0));
+    }
+
+    @Test
+    void get_normalizedKey(){
+        CircuitCache cache = new CircuitCache(10);
+        CircuitResult freeAir = cache.get(new CircuitSpec.Builder()
+                .setInstallation(CircuitSpec.Installation.FREE_AIR)
+                .setConduitType(Type.EMT).build());
+        //the conduit type is not used in free air
+        assertSame(freeAir, cache.get(new CircuitSpec.Builder()
+                .setInstallation(CircuitSpec.Installation.FREE_AIR)
+                .setConduitType(Type.RMC).build()));
+        //but it is in a private conduit
+        CircuitResult emt = cache.get(new CircuitSpec.Builder()
+                .setConduitType(Type.EMT).build());
+        assertNotSame(emt, cache.get(new CircuitSpec.Builder()
+                .setConduitType(Type.RMC).build()));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void eviction(){
+        CircuitCache cache = new CircuitCache(2);
+        CircuitResult a = cache.get(spec(10));
+        cache.get(spec(20));
+        //a becomes the most recently used one
+        assertSame(a, cache.get(spec(10)));
+        cache.get(spec(30));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        //20 was evicted, 10 was not
+        assertSame(a, cache.get(spec(10)));
+        cache.get(spec(20));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    void sizeAll_withCache(){
+        List<CircuitSpec> specs = new ArrayList<>();
+        for(int i = 0; i < 400; i++)
+            specs.add(spec(10 + i % 8));
+        CircuitCache cache = new CircuitCache(100);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<CircuitResult> results;
+        try {
+            results = CircuitBatch.sizeAll(specs, pool, cache);
+        }
+        finally {
+            pool.shutdown();
+        }
+        assertEquals(specs.size(), results.size());
+        assertEquals(8, cache.size());
+        assertEquals(specs.size(), cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getHitCount() >= specs.size() - 8 * 4);
+        for(int i = 0; i < specs.size(); i++)
+            assertEquals(CircuitBatch.size(specs.get(i)).getPhaseSize(),
+                    results.get(i).getPhaseSize());
+    }
+}
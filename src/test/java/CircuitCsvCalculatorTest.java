@@ -0,0 +1,154 @@
+package test.java;
+
+import eecalcs.circuits.*;
+import eecalcs.conduits.Type;
+import eecalcs.loads.ACMotor;
+import eecalcs.loads.Horsepower;
+import eecalcs.loads.MotorProperties;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitCsvCalculatorTest {
+
+    private String[] calculate(String input, int workers, int window) throws IOException {
+        StringWriter out = new StringWriter();
+        long rows = new CircuitCsvCalculator(workers, window)
+                .calculate(new StringReader(input), out);
+        String[] lines = out.toString().split("\n");
+        assertEquals(rows + 1, lines.length);
+        return lines;
+    }
+
+    @Test
+    void calculate() throws IOException {
+        String input = "ID,voltage,current,length,continuous,conduitType,load,motorType,motorVoltage,horsepower\n" +
+                "A1,v208_3ph_4w,50,150,yes,EMT,,,,\n" +
+                "\n" +
+                "A2,v480_3ph_3w,200,,,,,,,\n" +
+                "M1,v480_3ph_3w,,100,,,motor,ac3p,460,hp_25\n" +
+                "E1,v999,10,,,,,,,\n" +
+                "\"E,2\",v120_1ph_2w,abc,,,,,,,\n";
+        String[] lines = calculate(input, 3, 2);
+        assertEquals(6, lines.length);
+        assertTrue(lines[0].startsWith("id,status,phaseSize"));
+
+        CircuitResult a1 = CircuitBatch.size(new CircuitSpec.Builder()
+                .setLoad(VoltageSystemAC.v208_3ph_4w, 50).setLength(150)
+                .setContinuous(true).setConduitType(Type.EMT).build());
+        String[] row = lines[1].split(",", -1);
+        assertEquals("A1", row[0]);
+        assertEquals(a1.getPhaseSize().name(), row[2]);
+        assertEquals(String.valueOf(a1.getOCPDRating()), row[7]);
+        assertEquals(a1.getConduitTradeSize().name(), row[8]);
+
+        row = lines[2].split(",", -1);
+        assertEquals("A2", row[0]);
+        assertEquals(CircuitBatch.size(new CircuitSpec.Builder()
+                .setLoad(VoltageSystemAC.v480_3ph_3w, 200).build())
+                .getPhaseSize().name(), row[2]);
+
+        row = lines[3].split(",", -1);
+        assertEquals("M1", row[0]);
+        ACMotor motor = new ACMotor(MotorProperties.Type.AC3P, 460,
+                Horsepower.HP_25, VoltageSystemAC.v480_3ph_3w);
+        assertEquals(new Circuit(motor).getCircuitSize().name(),
+                row[2]);
+
+        assertTrue(lines[4].startsWith("E1,ERROR,"));
+        assertTrue(lines[4].contains("Invalid voltage"));
+        assertTrue(lines[5].startsWith("\"E,2\",ERROR,"));
+        assertTrue(lines[5].contains("Invalid current"));
+    }
+
+    @Test
+    void calculate_keepsInputOrder() throws IOException {
+        int count = 3000;
+        //the rows are generated while they are read
+        Reader input = new Reader() {
+            private int row = -1;
+            private String pending = "";
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                if(pending.isEmpty()) {
+                    if(row == count)
+                        return -1;
+                    pending = row < 0 ? "id,voltage,current,length\n" :
+                            row + ",v208_3ph_4w," + (5 + row % 300) + "," +
+                                    (20 + (row * 7) % 500) + "\n";
+                    row++;
+                }
+                int n = Math.min(length, pending.length());
+                pending.getChars(0, n, buffer, offset);
+                pending = pending.substring(n);
+                return n;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        String[] lines;
+        StringWriter out = new StringWriter();
+        assertEquals(count, new CircuitCsvCalculator(4, 16).calculate(input, out));
+        lines = out.toString().split("\n");
+        List<String> ids = new ArrayList<>();
+        for(int i = 1; i < lines.length; i++)
+            ids.add(lines[i].substring(0, lines[i].indexOf(',')));
+        for(int i = 0; i < count; i++)
+            assertEquals(String.valueOf(i), ids.get(i));
+        //a sample of rows against the sequential calculation
+        for(int i = 0; i < count; i += 397) {
+            CircuitResult expected = CircuitBatch.size(new CircuitSpec.Builder()
+                    .setLoad(VoltageSystemAC.v208_3ph_4w, 5 + i % 300)
+                    .setLength(20 + (i * 7) % 500).build());
+            String phase = lines[i + 1].split(",", -1)[2];
+            assertEquals(expected.getPhaseSize() == null ? "" :
+                    expected.getPhaseSize().name(), phase);
+        }
+    }
+
+    @Test
+    void calculate_writerFails() {
+        Writer failing = new Writer() {
+            private int writes = 0;
+
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                if(++writes > 10)
+                    throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        StringBuilder input = new StringBuilder("voltage,current\n");
+        for(int i = 0; i < 500; i++)
+            input.append("v120_1ph_2w,").append(10 + i % 20).append('\n');
+        IOException e = assertThrows(IOException.class, () -> new CircuitCsvCalculator(2, 4)
+                .calculate(new StringReader(input.toString()), failing));
+        assertEquals("disk full", e.getMessage());
+        //the reader thread stopped before the calculation returned
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .noneMatch(thread -> thread.getName().equals("circuit-csv-reader")));
+    }
+
+    @Test
+    void invalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitCsvCalculator(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitCsvCalculator(1, 0));
+        assertThrows(IOException.class, () -> new CircuitCsvCalculator()
+                .calculate(new StringReader(""), new StringWriter()));
+    }
+}
@@ -0,0 +1,112 @@
+package test.java;
+
+import eecalcs.circuits.Circuit;
+import eecalcs.circuits.CircuitResult;
+import eecalcs.circuits.CircuitScheduler;
+import eecalcs.circuits.SharedRacewaySolver;
+import eecalcs.conductors.Bundle;
+import eecalcs.conduits.Conduit;
+import eecalcs.conduits.Type;
+import eecalcs.loads.GeneralLoad;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitSchedulerTest {
+
+    /**
+     Builds a project where circuits 0 to 2 share a conduit, 3 and 4 share a
+     bundle, 5 and 6 share a load and the rest are on their own, repeated
+     the given number of times.
+     */
+    private List<Circuit> buildProject(int repetitions) {
+        List<Circuit> circuits = new ArrayList<>();
+        for (int r = 0; r < repetitions; r++) {
+            Conduit conduit = new Conduit(Type.EMT, false);
+            for (int i = 0; i < 3; i++) {
+                Circuit circuit = new Circuit(new GeneralLoad(VoltageSystemAC.v208_3ph_4w, 20 + 10 * i + r % 7));
+                circuit.setConduitMode(conduit);
+                circuits.add(circuit);
+            }
+            Bundle bundle = new Bundle(null, 0, 30);
+            for (int i = 0; i < 2; i++) {
+                Circuit circuit = new Circuit(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 15 + i));
+                circuit.setUsingCable(true);
+                circuit.setBundleMode(bundle);
+                circuits.add(circuit);
+            }
+            GeneralLoad load = new GeneralLoad(VoltageSystemAC.v480_3ph_3w, 40);
+            circuits.add(new Circuit(load));
+            circuits.add(new Circuit(load));
+            Circuit freeAir = new Circuit(new GeneralLoad(VoltageSystemAC.v240_1ph_2w, 30));
+            freeAir.setUsingCable(true);
+            freeAir.setFreeAirMode();
+            circuits.add(freeAir);
+            circuits.add(new Circuit(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 12 + r % 40)));
+        }
+        return circuits;
+    }
+
+    @Test
+    void components() {
+        List<Circuit> circuits = buildProject(2);
+        CircuitScheduler scheduler = new CircuitScheduler(circuits);
+        assertEquals(18, scheduler.getCircuitCount());
+        assertEquals(10, scheduler.getComponentCount());
+        assertEquals(Arrays.asList(0, 1, 2), scheduler.getCircuits(0));
+        assertEquals(Arrays.asList(3, 4), scheduler.getCircuits(1));
+        assertEquals(Arrays.asList(5, 6), scheduler.getCircuits(2));
+        assertEquals(Arrays.asList(7), scheduler.getCircuits(3));
+        assertEquals(Arrays.asList(8), scheduler.getCircuits(4));
+        assertEquals(Arrays.asList(9, 10, 11), scheduler.getCircuits(5));
+        assertEquals(5, scheduler.getComponent(10));
+        assertEquals(9, scheduler.getComponent(17));
+
+        //the same circuit listed twice
+        Circuit circuit = circuits.get(7);
+        scheduler = new CircuitScheduler(Arrays.asList(circuit, circuits.get(8), circuit));
+        assertEquals(2, scheduler.getComponentCount());
+        assertEquals(Arrays.asList(0, 2), scheduler.getCircuits(0));
+
+        assertEquals(0, new CircuitScheduler(new ArrayList<>()).recalculate().size());
+        assertThrows(IllegalArgumentException.class, () -> new CircuitScheduler(null));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitScheduler(Arrays.asList(circuit, null)));
+    }
+
+    @Test
+    void recalculate_matchesSequential() {
+        List<Circuit> parallel = buildProject(200);
+        List<Circuit> sequential = buildProject(200);
+        CircuitScheduler scheduler = new CircuitScheduler(parallel);
+        assertNull(scheduler.getOutcome(0));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<CircuitResult> results;
+        try {
+            results = scheduler.recalculate(pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+        assertEquals(parallel.size(), results.size());
+        for (int c = 0; c < scheduler.getComponentCount(); c++)
+            assertEquals(SharedRacewaySolver.Outcome.CONVERGED, scheduler.getOutcome(c));
+        //the conduits are sized once all their circuits are sized
+        sequential.forEach(Circuit::getCircuitSize);
+        for (int i = 0; i < sequential.size(); i++) {
+            CircuitResult expected = sequential.get(i).snapshot();
+            CircuitResult actual = results.get(i);
+            assertEquals(expected.getPhaseSize(), actual.getPhaseSize(), "circuit " + i);
+            assertEquals(expected.getNeutralSize(), actual.getNeutralSize(), "circuit " + i);
+            assertEquals(expected.getGroundingSize(), actual.getGroundingSize(), "circuit " + i);
+            assertEquals(expected.getOCPDRating(), actual.getOCPDRating(), "circuit " + i);
+            assertEquals(expected.getCircuitAmpacity(), actual.getCircuitAmpacity(), "circuit " + i);
+            assertEquals(expected.getConduitTradeSize(), actual.getConduitTradeSize(), "circuit " + i);
+        }
+    }
+}
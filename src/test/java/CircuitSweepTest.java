@@ -0,0 +1,157 @@
+package test.java;
+
+import eecalcs.circuits.*;
+import eecalcs.conductors.Insul;
+import eecalcs.conductors.Metal;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+import eecalcs.systems.TempRating;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitSweepTest {
+
+    private void assertMatchesBatch(CircuitSpec base, SweepResult result){
+        double[] lengths = result.getLengths();
+        double[] currents = result.getCurrents();
+        int[] ambients = result.getAmbientTemperaturesF();
+        int[] sets = result.getNumberOfSets();
+        Type[] types = result.getConduitTypes();
+        for(int t = 0; t < types.length; t++)
+            for(int s = 0; s < sets.length; s++)
+                for(int a = 0; a < ambients.length; a++)
+                    for(int c = 0; c < currents.length; c++)
+                        for(int l = 0; l < lengths.length; l++) {
+                            CircuitResult expected = CircuitBatch.size(base.toBuilder()
+                                    .setLoad(base.getVoltageSystem(), currents[c])
+                                    .setAmbientTemperatureF(ambients[a])
+                                    .setNumberOfSets(sets[s])
+                                    .setConduitType(types[t])
+                                    .setLength(lengths[l]).build());
+                            int i = result.indexOf(t, s, a, c, l);
+                            String point = "point " + i;
+                            assertEquals(expected.getPhaseSize(), result.getPhaseSize(i), point);
+                            assertEquals(ordinal(expected.getNeutralSize()),
+                                    result.getNeutralSizes()[i], point);
+                            assertEquals(ordinal(expected.getGroundingSize()),
+                                    result.getGroundingSizes()[i], point);
+                            assertEquals(ordinal(expected.getSizePerVoltageDrop()),
+                                    result.getSizesPerVoltageDrop()[i], point);
+                            assertEquals(expected.getOCPDRating(), result.getOCPDRatings()[i], point);
+                            assertEquals(expected.getConduitTradeSize(),
+                                    result.getConduitTradeSize(i), point);
+                            assertEquals(expected.getVoltageDropPercentage(),
+                                    result.getVoltageDropPercentages()[i], point);
+                        }
+    }
+
+    private int ordinal(Size size){
+        return size == null ? -1 : size.ordinal();
+    }
+
+    @Test
+    void range(){
+        assertArrayEquals(new double[]{50, 55, 60}, CircuitSweep.range(50, 60, 5));
+        assertArrayEquals(new double[]{50, 55}, CircuitSweep.range(50, 59, 5));
+        assertEquals(191, CircuitSweep.range(50, 1000, 5).length);
+        assertEquals(11, CircuitSweep.range(0, 1, 0.1).length);
+        assertThrows(IllegalArgumentException.class, () -> CircuitSweep.range(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitSweep.range(1, 0, 1));
+    }
+
+    @Test
+    void run_matchesBatch(){
+        CircuitSpec base = new CircuitSpec.Builder()
+                .setLoad(VoltageSystemAC.v208_3ph_4w, 10).build();
+        CircuitSweep sweep = new CircuitSweep(base)
+                .setLengths(CircuitSweep.range(50, 1000, 50))
+                .setCurrents(10, 40, 100, 250)
+                .setAmbientTemperaturesF(86, 110)
+                .setNumberOfSets(1, 2)
+                .setConduitTypes(Type.EMT, Type.PVC40);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SweepResult result;
+        try {
+            result = sweep.run(pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+        assertEquals(20 * 4 * 2 * 2 * 2, result.size());
+        assertMatchesBatch(base, result);
+        //some points were filled without calculating a circuit
+        assertTrue(result.getEvaluatedCount() < result.size());
+    }
+
+    @Test
+    void run_cableInFreeAir(){
+        CircuitSpec base = new CircuitSpec.Builder()
+                .setLoad(VoltageSystemAC.v240_1ph_3w, 30)
+                .setUsingCable(true)
+                .setInstallation(CircuitSpec.Installation.FREE_AIR)
+                .setContinuous(true).build();
+        SweepResult result = new CircuitSweep(base)
+                .setLengths(CircuitSweep.range(20, 600, 20))
+                .setCurrents(5, 30, 75)
+                .run();
+        assertMatchesBatch(base, result);
+        assertEquals(-1, result.getConduitTradeSizes()[0]);
+    }
+
+    @Test
+    void run_longLine(){
+        //on long lines, the voltage at the load of the small sizes wraps
+        //around and the sizes go up and down with the length
+        CircuitSpec base = new CircuitSpec.Builder()
+                .setLoad(VoltageSystemAC.v240_1ph_3w, 18)
+                .setMetal(Metal.ALUMINUM)
+                .setInsulation(Insul.THW)
+                .setPowerFactor(0.738)
+                .setNonlinear(true)
+                .setTerminationTempRating(TempRating.T75)
+                .setInstallation(CircuitSpec.Installation.FREE_AIR)
+                .setAmbientTemperatureF(79).build();
+        SweepResult result = new CircuitSweep(base)
+                .setLengths(CircuitSweep.range(5, 4415, 45))
+                .run();
+        assertMatchesBatch(base, result);
+        assertEquals(Size.AWG_12, result.getPhaseSize(0));
+        assertEquals(Size.AWG_10, result.getPhaseSize(2));
+    }
+
+    @Test
+    void defaults(){
+        CircuitSpec base = new CircuitSpec.Builder().setLength(150).build();
+        SweepResult result = new CircuitSweep(base).run();
+        assertEquals(1, result.size());
+        assertEquals(1, result.getEvaluatedCount());
+        assertEquals(150, result.getLengths()[0]);
+        CircuitResult expected = CircuitBatch.size(base);
+        assertEquals(expected.getPhaseSize(), result.getPhaseSize(0));
+        assertEquals(Trade.T1$2, result.getConduitTradeSize(0));
+
+        //the result cannot be changed through its getters
+        result.getPhaseSizes()[0] = -1;
+        result.getOCPDRatings()[0] = 0;
+        result.getLengths()[0] = 0;
+        assertEquals(expected.getPhaseSize(), result.getPhaseSize(0));
+        assertEquals(expected.getOCPDRating(), result.getOCPDRatings()[0]);
+        assertEquals(150, result.getLengths()[0]);
+    }
+
+    @Test
+    void invalidParameters(){
+        CircuitSweep sweep = new CircuitSweep(new CircuitSpec.Builder().build());
+        assertThrows(IllegalArgumentException.class, () -> new CircuitSweep(null));
+        assertThrows(IllegalArgumentException.class, () -> sweep.setLengths(100, 50));
+        assertThrows(IllegalArgumentException.class, () -> sweep.setLengths(0, 50));
+        assertThrows(IllegalArgumentException.class, () -> sweep.setCurrents());
+        assertThrows(IllegalArgumentException.class, () -> sweep.setConduitTypes(Type.EMT, null));
+        assertThrows(IllegalArgumentException.class, () -> sweep.run(null));
+    }
+}
@@ -2,6 +2,8 @@ package test.java;
 
 import eecalcs.circuits.Circuit;
 import eecalcs.circuits.CircuitMode;
+import eecalcs.circuits.CircuitResult;
+import eecalcs.circuits.CircuitSpec;
 import eecalcs.conduits.*;
 import eecalcs.loads.GeneralLoad;
 import eecalcs.conductors.*;
@@ -9,10 +11,14 @@ import eecalcs.systems.TempRating;
 import eecalcs.systems.VoltageSystemAC;
 import org.junit.jupiter.api.Test;
 import test.Tools;
+import tools.ResultMessage;
 //import tools.ResultMessage;
 //import static test.Tools;
 
 import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -2621,7 +2627,210 @@ conduitables correspond with the circuit configuration */
         circuit.setTerminationTempRating(TempRating.T75);
         assertEquals(Size.AWG_6, circuit.getCircuitSize(), getState());
     }
+
+    @Test
+    void snapshot(){
+        generalLoad.setNominalCurrent(60);
+        circuit.setLength(20);
+        CircuitResult result = circuit.snapshot();
+        assertEquals(Size.AWG_4, result.getPhaseSize());
+        assertEquals(Size.AWG_4, result.getNeutralSize());
+        assertEquals(circuit.getGroundingConductor().getSize(), result.getGroundingSize());
+        assertEquals(circuit.getOCPDRating(), result.getOCPDRating());
+        assertEquals(circuit.getCircuitAmpacity(), result.getCircuitAmpacity());
+        assertEquals(circuit.getPrivateConduit().getTradeSize(), result.getConduitTradeSize());
+        assertEquals(circuit.getPrivateConduit().getFillPercentage(), result.getConduitFillPercentage());
+        assertEquals(CircuitMode.PRIVATE_CONDUIT, result.getCircuitMode());
+        assertEquals(3, result.getMaxVoltageDropPercent());
+        assertTrue(result.getVoltageDropPercentage() > 0);
+        assertTrue(result.getVoltageDropPercentage() <= 3);
+        assertTrue(result.getMaxLength() >= 20);
+
+        //the snapshot does not follow later changes to the circuit
+        circuit.setTerminationTempRating(TempRating.T75);
+        circuit.setFreeAirMode();
+        assertEquals(Size.AWG_6, circuit.getCircuitSize(), getState());
+        assertEquals(Size.AWG_4, result.getPhaseSize());
+        assertEquals(CircuitMode.PRIVATE_CONDUIT, result.getCircuitMode());
+        assertNull(circuit.snapshot().getConduitTradeSize());
+
+        //messages are a read-only view
+        assertThrows(UnsupportedOperationException.class,
+                () -> result.getResultMessages().getMessages().clear());
+        assertEquals(circuit.getResultMessages().hasMessages(),
+                circuit.snapshot().getResultMessages().hasMessages());
+        //taking a snapshot does not change the circuit messages or its
+        //voltage drop object
+        generalLoad.setVoltageSystem(VoltageSystemAC.v208_3ph_4w);
+        circuit.setLength(300);
+        circuit.snapshot();
+        List<ResultMessage> messages = new ArrayList<>(circuit.getResultMessages().getMessages());
+        double voltageDrop = circuit.getVoltageDrop().getACVoltageDropPercentage();
+        circuit.snapshot();
+        assertEquals(messages, circuit.getResultMessages().getMessages());
+        assertEquals(voltageDrop, circuit.getVoltageDrop().getACVoltageDropPercentage());
+    }
+
+    private void assertSameResult(CircuitResult expected, CircuitResult actual){
+        assertEquals(expected.getPhaseSize(), actual.getPhaseSize());
+        assertEquals(expected.getNeutralSize(), actual.getNeutralSize());
+        assertEquals(expected.getGroundingSize(), actual.getGroundingSize());
+        assertEquals(expected.getSizePerAmpacity(), actual.getSizePerAmpacity());
+        assertEquals(expected.getSizePerVoltageDrop(), actual.getSizePerVoltageDrop());
+        assertEquals(expected.getCircuitAmpacity(), actual.getCircuitAmpacity());
+        assertEquals(expected.getOCPDRating(), actual.getOCPDRating());
+        assertEquals(expected.getConduitTradeSize(), actual.getConduitTradeSize());
+        assertEquals(expected.getVoltageDropPercentage(), actual.getVoltageDropPercentage());
+        assertEquals(expected.getResultMessages().errorCount(),
+                actual.getResultMessages().errorCount());
+    }
+
+    /**
+     Applies the given changes, in order, to a new circuit with a new load and
+     returns its result, calculated from scratch.
+     */
+    private CircuitResult fresh(List<Consumer<Circuit>> changes){
+        Circuit fresh = new Circuit(new GeneralLoad());
+        changes.forEach(change -> change.accept(fresh));
+        return fresh.snapshot();
+    }
+
+    /**
+     Applies the given change to the circuit and records it, so that the
+     result of the circuit can be compared with a new circuit that had all the
+     recorded changes applied.
+     */
+    private void apply(List<Consumer<Circuit>> changes, Consumer<Circuit> change){
+        change.accept(circuit);
+        changes.add(change);
+        assertSameResult(fresh(changes), circuit.snapshot());
+    }
+
+    @Test
+    void incrementalRecalculation(){
+        //each change reruns only some stages; the result must be the same
+        //as calculating a new circuit from scratch.
+        List<Consumer<Circuit>> changes = new ArrayList<>();
+        apply(changes, c -> ((GeneralLoad) c.getLoad()).setNominalCurrent(45));
+        apply(changes, c -> c.setLength(350));
+        apply(changes, c -> c.setAmbientTemperatureF(120));
+        apply(changes, c -> c.setMaxVoltageDropPercent(5));
+        apply(changes, c -> c.setTerminationTempRating(TempRating.T75));
+        apply(changes, c -> c.set100PercentRated(true));
+        apply(changes, c -> c.setPrivateConduitType(Type.EMT));
+        apply(changes, c -> c.setMetal(Metal.ALUMINUM));
+        apply(changes, c -> c.setInsulation(Insul.THHN));
+        apply(changes, c -> c.setLength(20));
+        apply(changes, c -> ((GeneralLoad) c.getLoad()).setContinuous());
+        apply(changes, c -> c.set100PercentRated(false));
+        apply(changes, c -> c.setAmbientTemperatureF(86));
+        apply(changes, c -> c.setFreeAirMode());
+        apply(changes, c -> c.setAmbientTemperatureF(120));
+        apply(changes, c -> c.setConduitMode());
+    }
+
+    @Test
+    void incrementalRecalculation_100PercentRated(){
+        generalLoad.setVoltageSystem(VoltageSystemAC.v208_3ph_3w);
+        generalLoad.setNominalCurrent(100);
+        generalLoad.setContinuous();
+        assertEquals(Size.AWG_1$0, circuit.getCircuitSize(), getState());
+        assertEquals(125, circuit.getOCPDRating(), getState());
+
+        //a 100% rated OCPD does not need the 125% factor for continuous loads
+        circuit.set100PercentRated(true);
+        assertEquals(Size.AWG_1, circuit.getCircuitSize(), getState());
+        assertEquals(110, circuit.getOCPDRating(), getState());
+        assertEquals(Size.AWG_1, circuit.snapshot().getSizePerAmpacity());
+
+        circuit.set100PercentRated(false);
+        assertEquals(Size.AWG_1$0, circuit.getCircuitSize(), getState());
+        assertEquals(125, circuit.getOCPDRating(), getState());
+    }
+
+    @Test
+    void incrementalRecalculation_sharedConduit(){
+        generalLoad.setNominalCurrent(45);
+        circuit.setConduitMode(sharedConduit);
+        Circuit other = new Circuit(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 45));
+        Conduit otherConduit = new Conduit(Type.RMC, false);
+        other.setConduitMode(otherConduit);
+        assertSameResult(other.snapshot(), circuit.snapshot());
+
+        //the type defines the material, used only by the voltage drop
+        sharedConduit.setType(Type.PVC40);
+        otherConduit.setType(Type.PVC40);
+        assertSameResult(other.snapshot(), circuit.snapshot());
+
+        //more current carrying conductors change the adjustment factor
+        Circuit neighbor = new Circuit(new GeneralLoad(VoltageSystemAC.v208_3ph_3w, 20));
+        neighbor.setConduitMode(sharedConduit);
+        new Circuit(new GeneralLoad(VoltageSystemAC.v208_3ph_3w, 20))
+                .setConduitMode(otherConduit);
+        assertSameResult(other.snapshot(), circuit.snapshot());
+
+        sharedConduit.setNipple(true);
+        otherConduit.setNipple(true);
+        assertSameResult(other.snapshot(), circuit.snapshot());
+    }
+
+    @Test
+    void incrementalRecalculation_conduitMembership(){
+        //eight 120 V circuits in a conduit: 16 current carrying conductors
+        //and an adjustment factor of 0.5
+        generalLoad.setNominalCurrent(20);
+        circuit.setConduitMode(sharedConduit);
+        Circuit[] neighbors = new Circuit[7];
+        for(int i = 0; i < neighbors.length; i++) {
+            neighbors[i] = new Circuit(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 20));
+            neighbors[i].setConduitMode(sharedConduit);
+        }
+        assertEquals(0.5, circuit.getPhaseConductor().getAdjustmentFactor());
+        assertSameResult(alone(7), circuit.snapshot());
+        assertEquals(Size.AWG_8, circuit.snapshot().getSizePerAmpacity());
+
+        //the neighbors leave, one to another conduit, the others to free air
+        //or to a private conduit
+        Conduit anotherConduit = new Conduit(Type.RMC, false);
+        neighbors[0].setConduitMode(anotherConduit);
+        neighbors[1].setFreeAirMode();
+        neighbors[2].setConduitMode();
+        neighbors[3].setFreeAirMode();
+        neighbors[4].setFreeAirMode();
+        //three circuits remain: 6 current carrying conductors
+        assertEquals(0.8, circuit.getPhaseConductor().getAdjustmentFactor());
+        assertSameResult(alone(2), circuit.snapshot());
+        assertEquals(Size.AWG_10, circuit.snapshot().getSizePerAmpacity());
+
+        neighbors[5].setFreeAirMode();
+        neighbors[6].setFreeAirMode();
+        assertEquals(1, circuit.getPhaseConductor().getAdjustmentFactor());
+        assertSameResult(alone(0), circuit.snapshot());
+        assertEquals(Size.AWG_12, circuit.snapshot().getSizePerAmpacity());
+
+        //they join again
+        for(Circuit neighbor: neighbors)
+            neighbor.setConduitMode(sharedConduit);
+        assertEquals(0.5, circuit.getPhaseConductor().getAdjustmentFactor());
+        assertSameResult(alone(7), circuit.snapshot());
+        assertEquals(Size.AWG_8, circuit.snapshot().getSizePerAmpacity());
+    }
+
+    /**
+     @return The result of a new 120 V, 20 A circuit in a conduit with the
+     given number of identical circuits.
+     */
+    private CircuitResult alone(int neighbors){
+        Conduit conduit = new Conduit(Type.RMC, false);
+        Circuit fresh = new Circuit(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 20));
+        fresh.setConduitMode(conduit);
+        for(int i = 0; i < neighbors; i++)
+            new Circuit(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 20))
+                    .setConduitMode(conduit);
+        return fresh.snapshot();
+    }
 }
+
 /*
 
 class CircuitData{
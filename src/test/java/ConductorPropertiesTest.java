@@ -15,17 +15,43 @@ class ConductorPropertiesTest {
         assertEquals(Size.AWG_1, ConductorProperties.getSizeFromStandardAmpacityTable(144.23, Metal.COPPER, TempRating.T90));
         assertEquals(Size.AWG_1$0, ConductorProperties.getSizeFromStandardAmpacityTable(144.23, Metal.COPPER, TempRating.T75));
         assertEquals(Size.AWG_3$0, ConductorProperties.getSizeFromStandardAmpacityTable(144.23, Metal.ALUMINUM, TempRating.T75));
+        //exact table values and boundaries
+        assertEquals(Size.AWG_14, ConductorProperties.getSizeFromStandardAmpacityTable(15, Metal.COPPER, TempRating.T60));
+        assertEquals(Size.AWG_12, ConductorProperties.getSizeFromStandardAmpacityTable(15.01, Metal.COPPER, TempRating.T60));
+        assertEquals(Size.AWG_12, ConductorProperties.getSizeFromStandardAmpacityTable(1, Metal.ALUMINUM, TempRating.T60));
+        assertEquals(Size.KCMIL_2000, ConductorProperties.getSizeFromStandardAmpacityTable(630, Metal.ALUMINUM, TempRating.T90));
+        assertNull(ConductorProperties.getSizeFromStandardAmpacityTable(630.01, Metal.ALUMINUM, TempRating.T90));
+        assertNull(ConductorProperties.getSizeFromStandardAmpacityTable(0, Metal.COPPER, TempRating.T90));
+        assertNull(ConductorProperties.getSizeFromStandardAmpacityTable(10, null, TempRating.T90));
+        //the binary search must agree with a linear scan of the table
+        for (Metal metal : Metal.values())
+            for (TempRating tempRating : TempRating.values())
+                for (double amps = 0.5; amps < 700; amps += 0.5) {
+                    Size expected = null;
+                    for (Size size : Size.values())
+                        if (ConductorProperties.getStandardAmpacity(size, metal, tempRating) >= amps) {
+                            expected = size;
+                            break;
+                        }
+                    assertEquals(expected, ConductorProperties.getSizeFromStandardAmpacityTable(amps, metal, tempRating));
+                }
     }
 
     @Test
     void hasInsulatedArea() {
         assertFalse(ConductorProperties.hasInsulatedArea(null, null));
+        assertTrue(ConductorProperties.hasInsulatedArea(Size.AWG_12, Insul.THW));
+        assertFalse(ConductorProperties.hasInsulatedArea(Size.AWG_12, Insul.USE));
+        assertFalse(ConductorProperties.hasInsulatedArea(Size.AWG_12, null));
     }
 
 
     @Test
     void getInsulatedAreaIn2() {
         assertFalse(ConductorProperties.hasInsulatedArea(null, null));
+        assertEquals(0.0181, ConductorProperties.getInsulatedAreaIn2(Size.AWG_12, Insul.THW), 0.0001);
+        assertEquals(0.0, ConductorProperties.getInsulatedAreaIn2(Size.AWG_12, Insul.MI));
+        assertEquals(0.0, ConductorProperties.getInsulatedAreaIn2(null, Insul.THW));
     }
 
     @Test
@@ -64,6 +90,9 @@ class ConductorPropertiesTest {
     void getTempRating() {
         assertNull(ConductorProperties.getTempRating(null));
         assertEquals(TempRating.T90,ConductorProperties.getTempRating(Insul.THHN));
+        assertEquals(TempRating.T60,ConductorProperties.getTempRating(Insul.TW));
+        assertEquals(TempRating.T75,ConductorProperties.getTempRating(Insul.THWN));
+        assertEquals(TempRating.T90,ConductorProperties.getTempRating(Insul.XHHW2));
     }
 
     @Test
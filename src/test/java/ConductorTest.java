@@ -274,4 +274,63 @@ class ConductorTest {
         assertEquals(Insul.TBS, phaseB.getInsulation());
 
     }
-}
\ No newline at end of file
+
+    /**
+     The value calculated from the tables, without the cache.
+     */
+    private double uncachedAmpacity(Conductor conductor) {
+        return ConductorProperties.getStandardAmpacity(conductor.getSize(), conductor.getMetal(),
+                conductor.getTemperatureRating()) * conductor.getCorrectionFactor()
+                * conductor.getAdjustmentFactor();
+    }
+
+    @Test
+    void getCorrectedAndAdjustedAmpacity_cached() {
+        Conductor conductor = new Conductor(Size.AWG_8, Metal.COPPER, Insul.THHN, 100);
+        Conduit conduit = new Conduit(Type.EMT, false);
+        conduit.add(conductor);
+        AmpacityCache.resetCounters();
+        double ampacity = conductor.getCorrectedAndAdjustedAmpacity();
+        assertEquals(uncachedAmpacity(conductor), ampacity);
+        for (int i = 0; i < 10; i++)
+            assertEquals(ampacity, conductor.getCorrectedAndAdjustedAmpacity());
+        assertEquals(10, AmpacityCache.getHitCount());
+        assertEquals(1, AmpacityCache.getMissCount());
+
+        //changes in the conduit
+        Conductor[] others = new Conductor[4];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = new Conductor();
+            conduit.add(others[i]);
+        }
+        assertEquals(uncachedAmpacity(conductor), conductor.getCorrectedAndAdjustedAmpacity());
+        assertTrue(conductor.getCorrectedAndAdjustedAmpacity() < ampacity);
+        //a change of role of another conductor is reported to the conduit,
+        //which updates its current-carrying count and invalidates the cache
+        others[0].setRole(Conductor.Role.GND);
+        assertEquals(4, conduit.getCurrentCarryingCount());
+        assertEquals(uncachedAmpacity(conductor), conductor.getCorrectedAndAdjustedAmpacity());
+        assertTrue(conductor.getCorrectedAndAdjustedAmpacity() < ampacity);
+        others[1].setRole(Conductor.Role.GND);
+        assertEquals(3, conduit.getCurrentCarryingCount());
+        assertEquals(ampacity, conductor.getCorrectedAndAdjustedAmpacity());
+        conduit.setRoofTopDistance(2);
+        assertEquals(uncachedAmpacity(conductor), conductor.getCorrectedAndAdjustedAmpacity());
+        //the ambient temperature of another conductor is propagated to the
+        //whole conduit
+        others[2].setAmbientTemperatureF(120);
+        assertEquals(120, conductor.getAmbientTemperatureF());
+        assertEquals(uncachedAmpacity(conductor), conductor.getCorrectedAndAdjustedAmpacity());
+        assertEquals(conductor.getCorrectionFactor() * conductor.getAdjustmentFactor(),
+                conductor.getCompoundFactor());
+
+        //changes in the conductor itself
+        conductor.setSize(Size.AWG_2);
+        assertEquals(uncachedAmpacity(conductor), conductor.getCorrectedAndAdjustedAmpacity());
+        conductor.copyFrom(new Conductor(Size.AWG_4, Metal.ALUMINUM, Insul.TW, 50));
+        assertEquals(uncachedAmpacity(conductor), conductor.getCorrectedAndAdjustedAmpacity());
+        conductor.leaveConduit();
+        assertEquals(1, conductor.getAdjustmentFactor());
+        assertEquals(uncachedAmpacity(conductor), conductor.getCorrectedAndAdjustedAmpacity());
+    }
+}
@@ -0,0 +1,114 @@
+package test.java;
+
+import eecalcs.circuits.*;
+import eecalcs.conduits.Conduit;
+import eecalcs.conduits.Trade;
+import eecalcs.conduits.Type;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConduitOptimizerTest {
+
+    private CircuitSpec spec(VoltageSystemAC voltageSystem, double current) {
+        return new CircuitSpec.Builder().setLoad(voltageSystem, current)
+                .setConduitType(Type.EMT).build();
+    }
+
+    @Test
+    void optimize_buildMatchesPlan() {
+        ConduitOptimizer optimizer = new ConduitOptimizer();
+        for(int i = 0; i < 12; i++) {
+            optimizer.add(spec(VoltageSystemAC.v208_3ph_4w, 10 + 7 * i), "A");
+            optimizer.add(spec(VoltageSystemAC.v120_1ph_2w, 5 + 3 * i), "B");
+        }
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ConduitPlan plan;
+        try {
+            plan = optimizer.optimize(pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+        //sharing is cheaper than one conduit per circuit
+        assertTrue(plan.getConduitCount() < 24);
+        assertTrue(plan.getCost() < 24);
+
+        List<Circuit> circuits = plan.build();
+        assertEquals(24, circuits.size());
+        for(int c = 0; c < plan.getConduitCount(); c++) {
+            List<Integer> members = plan.getCircuits(c);
+            assertFalse(members.isEmpty());
+            Conduit conduit = circuits.get(members.get(0)).getSharedConduit();
+            Set<Integer> groups = new HashSet<>();
+            for(int i: members) {
+                assertSame(conduit, circuits.get(i).getSharedConduit());
+                assertEquals(c, plan.getConduit(i));
+                assertEquals(plan.getPhaseSize(i), circuits.get(i).getCircuitSize(), "circuit " + i);
+                groups.add(i % 2);
+            }
+            //routing groups are never mixed
+            assertEquals(1, groups.size());
+            assertEquals(plan.getTradeSize(c), conduit.getTradeSize());
+            assertEquals(Type.EMT, plan.getConduitType(c));
+        }
+    }
+
+    @Test
+    void optimize_respectsMaxTrade() {
+        ConduitOptimizer optimizer = new ConduitOptimizer().setMaxTrade(Trade.T1);
+        for(int i = 0; i < 20; i++)
+            optimizer.add(spec(VoltageSystemAC.v208_3ph_4w, 40), "A");
+        ConduitPlan plan = optimizer.optimize();
+        assertTrue(plan.getConduitCount() > 1);
+        for(int c = 0; c < plan.getConduitCount(); c++)
+            assertTrue(plan.getTradeSize(c).ordinal() <= Trade.T1.ordinal());
+    }
+
+    @Test
+    void optimize_upsizingIsExpensive() {
+        //when upsizing costs more than a conduit, circuits do not share
+        ConduitOptimizer optimizer = new ConduitOptimizer().setUpsizeCost(100);
+        for(int i = 0; i < 4; i++)
+            optimizer.add(spec(VoltageSystemAC.v208_3ph_4w, 95), "A");
+        ConduitPlan plan = optimizer.optimize();
+        List<Circuit> circuits = plan.build();
+        for(int i = 0; i < 4; i++)
+            assertEquals(CircuitBatch.size(spec(VoltageSystemAC.v208_3ph_4w, 95))
+                    .getPhaseSize(), circuits.get(i).getCircuitSize());
+    }
+
+    @Test
+    void optimize_thousandsOfCircuits() {
+        ConduitOptimizer optimizer = new ConduitOptimizer();
+        for(int i = 0; i < 3000; i++)
+            optimizer.add(spec(i % 3 == 0 ? VoltageSystemAC.v480_3ph_3w :
+                    VoltageSystemAC.v120_1ph_2w, 5 + i % 60), "route" + i % 10);
+        long start = System.nanoTime();
+        ConduitPlan plan = optimizer.optimize();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        assertTrue(seconds < 30, "took " + seconds + " s");
+        assertTrue(plan.getConduitCount() < 3000);
+        assertTrue(plan.getCost() < Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void invalidParameters() {
+        ConduitOptimizer optimizer = new ConduitOptimizer();
+        assertThrows(IllegalArgumentException.class, () -> optimizer.add(null, "A"));
+        assertThrows(IllegalArgumentException.class, () ->
+                optimizer.add(spec(VoltageSystemAC.v120_1ph_2w, 10), null));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.add(
+                new CircuitSpec.Builder().setInstallation(CircuitSpec.Installation.FREE_AIR)
+                        .setUsingCable(true).build(), "A"));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.setMaxTrade(null));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.setConduitCost(-1));
+        assertThrows(IllegalArgumentException.class, () -> optimizer.optimize(null));
+    }
+}
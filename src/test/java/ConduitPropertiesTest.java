@@ -32,4 +32,53 @@ class ConduitPropertiesTest {
 		assertEquals(0, ConduitProperties.getArea(null, null));
 
 	}
+
+	/**
+	 The linear search used before the sorted areas.
+	 */
+	private Trade linearTradeSizeForArea(double area, Type type, Trade minimum) {
+		int bound = minimum == null ? 0 : minimum.ordinal();
+		for (int i = bound; i < Trade.values().length; i++)
+			if (ConduitProperties.hasArea(type, Trade.values()[i]) &&
+					ConduitProperties.getArea(type, Trade.values()[i]) >= area)
+				return Trade.values()[i];
+		return null;
+	}
+
+	@Test
+	void getTradeSizeForArea() {
+		assertEquals(Trade.T1$2, ConduitProperties.getTradeSizeForArea(0.1, Type.EMT, null));
+		assertEquals(Trade.T1$2, ConduitProperties.getTradeSizeForArea(0.304, Type.EMT, null));
+		assertEquals(Trade.T3$4, ConduitProperties.getTradeSizeForArea(0.3041, Type.EMT, null));
+		assertEquals(Trade.T1, ConduitProperties.getTradeSizeForArea(0.1, Type.EMT, Trade.T1));
+		assertEquals(Trade.T2, ConduitProperties.getTradeSizeForArea(0.1, Type.PVCEB, Trade.T3$4));
+		assertEquals(Trade.T3, ConduitProperties.getTradeSizeForArea(3.9, Type.PVCEB, null));
+		assertNull(ConduitProperties.getTradeSizeForArea(14.754, Type.EMT, null));
+		assertNull(ConduitProperties.getTradeSizeForArea(0.1, Type.EMT, Trade.T5));
+		assertNull(ConduitProperties.getTradeSizeForArea(Double.NaN, Type.EMT, null));
+		assertNull(ConduitProperties.getTradeSizeForArea(0.1, null, null));
+		for (Type type : Type.values())
+			for (Trade minimum : new Trade[]{null, Trade.T3$8, Trade.T1$2, Trade.T2, Trade.T6})
+				for (double area = 0; area < 35; area += 0.0137)
+					assertEquals(linearTradeSizeForArea(area, type, minimum),
+							ConduitProperties.getTradeSizeForArea(area, type, minimum));
+	}
+
+	@Test
+	void getTradeSizeForFill() {
+		for (Type type : Type.values())
+			for (int fill : new int[]{31, 40, 53, 60, 100})
+				for (Trade minimum : new Trade[]{null, Trade.T1$2, Trade.T3}) {
+					for (double area = 0; area < 20; area += 0.0071)
+						assertEquals(linearTradeSizeForArea(area / (fill * 0.01), type, minimum),
+								ConduitProperties.getTradeSizeForFill(area, fill, type, minimum));
+					//exactly at the limit of every trade size
+					for (Trade trade : Trade.values()) {
+						double limit = ConduitProperties.getArea(type, trade) * fill * 0.01;
+						for (double area : new double[]{Math.nextDown(limit), limit, Math.nextUp(limit)})
+							assertEquals(linearTradeSizeForArea(area / (fill * 0.01), type, minimum),
+									ConduitProperties.getTradeSizeForFill(area, fill, type, minimum));
+					}
+				}
+	}
 }
\ No newline at end of file
@@ -246,4 +246,64 @@ class ConduitTest {
         assertEquals(Trade.T1_1$2, conduit.getTradeSizeForOneEGC());
 
     }
+
+    private int sumCurrentCarrying(){
+        int count = 0;
+        for(Conduitable c: conduit.getConduitables())
+            count += c.getCurrentCarryingCount();
+        return count;
+    }
+
+    private double sumArea(){
+        double area = 0;
+        for(Conduitable c: conduit.getConduitables())
+            area += c.getInsulatedAreaIn2();
+        return area;
+    }
+
+    @Test
+    void aggregates(){
+        assertEquals(0, conduit.getCurrentCarryingCount());
+        assertEquals(0, conduit.getConduitablesArea());
+        assertNull(conduit.getBiggestEGC());
+
+        change1();
+        change2();
+        assertEquals(sumCurrentCarrying(), conduit.getCurrentCarryingCount());
+        assertEquals(sumArea(), conduit.getConduitablesArea());
+
+        //changes made to the conduitables are reflected
+        conductor.setRole(Conductor.Role.GND);
+        assertEquals(sumCurrentCarrying(), conduit.getCurrentCarryingCount());
+        assertSame(conductor, conduit.getBiggestEGC());
+        conductor.setSize(Size.AWG_2);
+        assertEquals(sumArea(), conduit.getConduitablesArea());
+        assertEquals(Size.AWG_2, conduit.getBiggestEGC().getSize());
+        conductor2.setInsulation(Insul.THW);
+        assertEquals(sumArea(), conduit.getConduitablesArea());
+        cable2.setSystem(VoltageSystemAC.v240_1ph_2w);
+        cable.setOuterDiameter(1.5);
+        assertEquals(sumCurrentCarrying(), conduit.getCurrentCarryingCount());
+        assertEquals(sumArea(), conduit.getConduitablesArea());
+
+        //even when the notifier of the conductor is disabled
+        conductor2.notifierEnabled(false);
+        conductor2.copyFrom(new Conductor().setSize(Size.AWG_6).setRole(Conductor.Role.GND));
+        conductor2.notifierEnabled(true);
+        assertEquals(sumCurrentCarrying(), conduit.getCurrentCarryingCount());
+        assertEquals(sumArea(), conduit.getConduitablesArea());
+        assertSame(conductor, conduit.getBiggestEGC());
+
+        conduit.remove(conductor);
+        assertEquals(sumCurrentCarrying(), conduit.getCurrentCarryingCount());
+        assertSame(conductor2, conduit.getBiggestEGC());
+        //a conductor that left the conduit does not affect it anymore
+        conductor.setRole(Conductor.Role.HOT);
+        assertEquals(sumCurrentCarrying(), conduit.getCurrentCarryingCount());
+
+        conduit.empty();
+        assertEquals(0, conduit.getCurrentCarryingCount());
+        assertEquals(0, conduit.getConduitablesArea());
+        assertNull(conduit.getBiggestEGC());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package test.java;
+
+import eecalcs.conductors.*;
+import eecalcs.conduits.Conduit;
+import eecalcs.conduits.Type;
+import eecalcs.systems.TempRating;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FactorContextTest {
+
+    @Test
+    void getCompoundFactor_conductor() {
+        Conductor conductor = new Conductor(Size.AWG_12, Metal.COPPER, Insul.XHHW2, 10);
+        Conduit conduit = new Conduit(Type.PVC40, false);
+        conduit.setRoofTopDistance(2);
+        conductor.setAmbientTemperatureF(TempRating.getFahrenheit(43));
+        conduit.add(conductor);
+        for (int i = 0; i < 5; i++)
+            conduit.add(conductor.clone());
+
+        FactorContext context = conductor.getFactorContext();
+        assertEquals(conductor.getAmbientTemperatureF(), context.getAmbientTemperatureF());
+        assertEquals(Factors.getRoofTopTempAdjustment(2), context.getRoofTopTempAdjustment());
+        assertEquals(0.8, context.getAdjustmentFactor());
+        assertEquals(conductor.getCompoundFactor(), context.getCompoundFactor());
+        assertEquals(1, context.getCompoundFactor(null));
+        //the rooftop adder is ignored for XHHW-2 but not for other ratings
+        for (TempRating tempRating : TempRating.values())
+            assertEquals(Factors.getTemperatureCorrectionF(context.getAmbientTemperatureF()
+                    + context.getRoofTopTempAdjustment(), tempRating) * 0.8,
+                    context.getCompoundFactor(tempRating));
+    }
+
+    @Test
+    void getCompoundFactor_cable() {
+        Cable cable = new Cable(VoltageSystemAC.v480_3ph_4w, 1.0);
+        cable.setRoofTopDistance(10);
+        Bundle bundle = new Bundle(cable, 3, 30);
+
+        Cable bundled = (Cable) bundle.getConduitables().get(0);
+        FactorContext context = bundled.getFactorContext();
+        assertEquals(bundled.getAdjustmentFactor(), context.getAdjustmentFactor());
+        assertEquals(bundled.getCompoundFactor(), context.getCompoundFactor());
+        for (TempRating tempRating : TempRating.values())
+            assertEquals(bundled.getCompoundFactor(tempRating),
+                    context.getCompoundFactor(tempRating));
+    }
+
+    @Test
+    void getCompoundFactor_doesNotChangeConduitable() {
+        Conductor conductor = new Conductor(Size.AWG_10, Metal.COPPER, Insul.THHN, 50);
+        int[] notifications = {0};
+        conductor.getNotifier().addListener(sender -> notifications[0]++);
+        Conduit conduit = new Conduit(Type.EMT, false);
+        conduit.add(conductor);
+        double area = conduit.getConduitablesArea();
+        notifications[0] = 0;
+
+        for (TempRating tempRating : TempRating.values())
+            conductor.getCompoundFactor(tempRating);
+        conductor.getFactorContext().getCompoundFactor(TempRating.T60);
+
+        assertEquals(0, notifications[0]);
+        assertEquals(Insul.THHN, conductor.getInsulation());
+        assertTrue(conductor.getNotifier().isEnable());
+        assertEquals(area, conduit.getConduitablesArea());
+    }
+}
@@ -22,6 +22,30 @@ class FactorsTest {
         assertEquals(1.29, Factors.getTemperatureCorrectionF(50,  TempRating.T60));
         assertEquals(1.20, Factors.getTemperatureCorrectionF(50,  TempRating.T75));
         assertEquals(1.15, Factors.getTemperatureCorrectionF(50,  TempRating.T90));
+        //range limits
+        assertEquals(1.29, Factors.getTemperatureCorrectionF(5,  TempRating.T60));
+        assertEquals(0.0,  Factors.getTemperatureCorrectionF(4,  TempRating.T90));
+        assertEquals(0.0,  Factors.getTemperatureCorrectionF(186,  TempRating.T90));
+        assertEquals(1.0,  Factors.getTemperatureCorrectionF(86,  TempRating.T75));
+        assertEquals(0.94, Factors.getTemperatureCorrectionF(87,  TempRating.T75));
+    }
+
+    @Test
+    void correctAmpacitiesF() {
+        double[] ampacities = {20, 25, 35, 50};
+        double[] corrected = new double[ampacities.length];
+        Factors.correctAmpacitiesF(ampacities, 100, TempRating.T75, corrected);
+        for (int i = 0; i < ampacities.length; i++)
+            assertEquals(ampacities[i] * Factors.getTemperatureCorrectionF(100,
+                    TempRating.T75), corrected[i]);
+        //in place
+        Factors.correctAmpacitiesF(ampacities, 150, TempRating.T60, ampacities);
+        assertArrayEquals(new double[]{0, 0, 0, 0}, ampacities);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Factors.correctAmpacitiesF(new double[2], 86, TempRating.T60, new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> Factors.correctAmpacitiesF(null, 86, TempRating.T60, new double[1]));
     }
 
     @Test
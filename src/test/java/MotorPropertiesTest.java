@@ -1,6 +1,7 @@
 package test.java;
 
 import eecalcs.circuits.OCPD;
+import eecalcs.loads.Horsepower;
 import eecalcs.loads.MotorProperties;
 import org.junit.jupiter.api.Test;
 
@@ -55,4 +56,54 @@ class MotorPropertiesTest {
 				MotorProperties.getMaxOCPDRatingFactorPerType(OCPD.Type.INVERSE_TIME_BREAKER,
 						MotorProperties.Type.AC3P_WR, null));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void getFlc() {
+		assertEquals(12.2, MotorProperties.getFlc(MotorProperties.Type.DC, 90, Horsepower.HP_1));
+		assertEquals(0, MotorProperties.getFlc(MotorProperties.Type.DC, 95, Horsepower.HP_1));
+		assertEquals(0, MotorProperties.getFlc(MotorProperties.Type.DC, 90, Horsepower.HP_2));
+		assertEquals(16.0, MotorProperties.getFlc(MotorProperties.Type.AC1P, 115, Horsepower.HP_1));
+		assertEquals(16.0, MotorProperties.getFlc(MotorProperties.Type.AC1P, 120, Horsepower.HP_1));
+		assertEquals(27.0, MotorProperties.getFlc(MotorProperties.Type.AC3P, 480, Horsepower.HP_20));
+		assertEquals(27.0, MotorProperties.getFlc(MotorProperties.Type.AC3P, -460, Horsepower.HP_20));
+		assertEquals(0, MotorProperties.getFlc(MotorProperties.Type.AC3P, 1500, Horsepower.HP_20));
+		assertEquals(0, MotorProperties.getFlc(MotorProperties.Type.AC3P, Integer.MIN_VALUE,
+				Horsepower.HP_20));
+		assertEquals(0, MotorProperties.getFlc(MotorProperties.Type.AC3P_WR, 460, Horsepower.HP_20));
+		assertEquals(0, MotorProperties.getFlc(MotorProperties.Type.AC3P, 460, null));
+		assertEquals(0, MotorProperties.getFlc(null, 460, Horsepower.HP_20));
+	}
+
+	@Test
+	void getFlc_bulk() {
+		Horsepower[] horsepowers = new Horsepower[Horsepower.COUNT + 1];
+		for (int i = 0; i < Horsepower.COUNT; i++)
+			horsepowers[i] = Horsepower.byOrdinal(i);
+		double[] flcs = new double[horsepowers.length + 1];
+		flcs[horsepowers.length] = -1;
+		for (MotorProperties.Type type : MotorProperties.Type.values()) {
+			for (int voltage : new int[]{0, 90, 115, 200, 208, 230, 240, 460, 500, 575, 600, 2300}) {
+				MotorProperties.getFlc(type, voltage, horsepowers, flcs);
+				for (int i = 0; i < horsepowers.length; i++)
+					assertEquals(MotorProperties.getFlc(type, voltage, horsepowers[i]), flcs[i]);
+				assertEquals(-1, flcs[horsepowers.length]);
+			}
+		}
+		assertThrows(IllegalArgumentException.class, () ->
+				MotorProperties.getFlc(MotorProperties.Type.AC3P, 460, horsepowers, new double[2]));
+		assertThrows(IllegalArgumentException.class, () ->
+				MotorProperties.getFlc(MotorProperties.Type.AC3P, 460, null, flcs));
+	}
+
+	@Test
+	void getNormalizedVoltage() {
+		assertEquals(115, MotorProperties.getNormalizedVoltage(110));
+		assertEquals(208, MotorProperties.getNormalizedVoltage(-208));
+		assertEquals(230, MotorProperties.getNormalizedVoltage(240));
+		assertEquals(460, MotorProperties.getNormalizedVoltage(440));
+		assertEquals(575, MotorProperties.getNormalizedVoltage(1000));
+		assertEquals(2300, MotorProperties.getNormalizedVoltage(2300));
+		assertEquals(0, MotorProperties.getNormalizedVoltage(2400));
+		assertEquals(0, MotorProperties.getNormalizedVoltage(210));
+	}
+}
@@ -34,12 +34,16 @@ class NotifierDelegateTest {
         public Object fieldOldValue;
         public Object fieldNewValue;
         public boolean notified = false;
+        public int count = 0;
+        public int fieldCount = 0;
 
         @Override
         public void notify(Object sender) {
             notified = true;
+            count++;
             if(sender instanceof Speaker) {
                 Speaker sp = (Speaker) sender;
+                fieldCount = sp.notifierDelegate.info.fields.size();
                 fieldName = sp.notifierDelegate.info.fields.get(0).fieldName;
                 fieldOldValue = sp.notifierDelegate.info.fields.get(0).oldValue;
                 fieldNewValue = sp.notifierDelegate.info.fields.get(0).newValue;
@@ -102,6 +106,59 @@ class NotifierDelegateTest {
         assertFalse(listener2.notified);
     }
 
+    @Test
+    void batch() {
+        NotifierDelegate notifier = speaker.notifierDelegate;
+        notifier.beginBatch();
+        assertTrue(notifier.isInBatch());
+        speaker.setField1("first");
+        speaker.setField2(1);
+        speaker.setField1("second");
+        speaker.setField2(2);
+        assertFalse(listener1.notified);
+        assertFalse(listener2.notified);
+        notifier.commit();
+        assertFalse(notifier.isInBatch());
+        assertEquals(1, listener1.count);
+        assertEquals(1, listener2.count);
+        //fields are merged: first old value, last new value
+        assertEquals(2, listener1.fieldCount);
+        assertEquals("field1", listener1.fieldName);
+        assertEquals("string value of field1", listener1.fieldOldValue);
+        assertEquals("second", listener1.fieldNewValue);
+        assertTrue(notifier.info.fields.isEmpty());
+
+        //nested batches notify only on the outermost commit
+        notifier.beginBatch();
+        speaker.setField2(3);
+        notifier.beginBatch();
+        speaker.setField1("third");
+        notifier.commit();
+        assertEquals(1, listener1.count);
+        notifier.commit();
+        assertEquals(2, listener1.count);
+        assertEquals(2, listener1.fieldCount);
+        assertEquals("field2", listener1.fieldName);
+
+        //nothing changed, nobody is notified
+        notifier.beginBatch();
+        notifier.commit();
+        assertEquals(2, listener1.count);
+
+        //changes made while disabled are not notified
+        notifier.beginBatch();
+        notifier.enable(false);
+        speaker.setField1("fourth");
+        notifier.enable(true);
+        speaker.setField2(4);
+        notifier.commit();
+        assertEquals(3, listener1.count);
+        assertEquals(1, listener1.fieldCount);
+        assertEquals("field2", listener1.fieldName);
+
+        assertThrows(IllegalStateException.class, notifier::commit);
+    }
+
     @Test
     void enabled() {
         //too trivial to be tested
@@ -0,0 +1,208 @@
+package test.java;
+
+import eecalcs.loads.GeneralLoad;
+import eecalcs.loads.Panel;
+import eecalcs.loads.Panel.Connection;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PanelTest {
+
+    @Test
+    void constructor_wyeOnly() {
+        assertEquals(120, new Panel(VoltageSystemAC.v208_3ph_4w).getLineToNeutralVoltage());
+        assertEquals(277, new Panel(VoltageSystemAC.v480_3ph_4w).getLineToNeutralVoltage());
+        assertThrows(IllegalArgumentException.class, () -> new Panel(null));
+        assertThrows(IllegalArgumentException.class, () -> new Panel(VoltageSystemAC.v208_3ph_3w));
+        assertThrows(IllegalArgumentException.class, () -> new Panel(VoltageSystemAC.v240_3ph_4w));
+    }
+
+    @Test
+    void getAllowedConnections() {
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        assertEquals(Arrays.asList(Connection.A, Connection.B, Connection.C),
+                panel.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10)));
+        assertEquals(Arrays.asList(Connection.AB, Connection.BC, Connection.CA),
+                panel.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 10)));
+        //the neutral current of a single-phase, three-wire load is unknown
+        assertTrue(panel.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v208_1ph_3w, 10)).isEmpty());
+        assertEquals(Arrays.asList(Connection.ABC),
+                panel.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v208_3ph_4w, 10)));
+        assertTrue(panel.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v208_1ph_2wN, 10)).isEmpty());
+        assertTrue(panel.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v277_1ph_2w, 10)).isEmpty());
+        assertTrue(panel.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v480_3ph_4w, 10)).isEmpty());
+
+        Panel panel480 = new Panel(VoltageSystemAC.v480_3ph_4w);
+        assertEquals(3, panel480.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v277_1ph_2w, 10)).size());
+        assertEquals(3, panel480.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v480_1ph_2w, 10)).size());
+        assertTrue(panel480.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10)).isEmpty());
+        assertTrue(panel480.getAllowedConnections(new GeneralLoad(VoltageSystemAC.v480_1ph_3w, 10)).isEmpty());
+    }
+
+    @Test
+    void add_invalidArguments() {
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        assertThrows(IllegalArgumentException.class, () -> panel.add(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> panel.add(new GeneralLoad(VoltageSystemAC.v240_1ph_2w, 10)));
+        assertThrows(IllegalArgumentException.class,
+                () -> panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10), Connection.AB));
+        int index = panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 10));
+        assertThrows(IllegalArgumentException.class, () -> panel.setConnection(index, Connection.A));
+        assertThrows(IllegalArgumentException.class, () -> panel.setConnection(index, null));
+        assertThrows(IllegalArgumentException.class, () -> panel.getCurrent(Connection.AB));
+        assertEquals(0, panel.getLoadCount() - 1);
+    }
+
+    @Test
+    void add_toLeastLoadedPhase() {
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        assertEquals(Connection.A, panel.getConnection(panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10))));
+        assertEquals(Connection.B, panel.getConnection(panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10))));
+        assertEquals(Connection.BC, panel.getConnection(panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 10))));
+        assertEquals(Connection.C, panel.getConnection(panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 5))));
+        assertEquals(Connection.ABC, panel.getConnection(panel.add(new GeneralLoad(VoltageSystemAC.v208_3ph_4w, 10))));
+    }
+
+    @Test
+    void totals() {
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 20), Connection.A);
+        panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10), Connection.B);
+        panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 10), Connection.BC);
+        panel.add(new GeneralLoad(VoltageSystemAC.v208_3ph_4w, 10), Connection.ABC);
+
+        double threePhase = 208 * 10 * Math.sqrt(3) / 3;
+        assertEquals(2400 + threePhase, panel.getVoltAmperes(Connection.A), 1e-9);
+        assertEquals(1200 + 1040 + threePhase, panel.getVoltAmperes(Connection.B), 1e-9);
+        assertEquals(1040 + threePhase, panel.getVoltAmperes(Connection.C), 1e-9);
+        //20 A and 10 A at 0°; the line-to-line load does not use phase A
+        assertEquals(30, panel.getCurrent(Connection.A), 1e-9);
+        //20 A at -120° and 10 A at -90°
+        assertEquals(Math.hypot(10, 10 * Math.sqrt(3) + 10), panel.getCurrent(Connection.B), 1e-9);
+        //10 A at 120° and 10 A at 90°
+        assertEquals(Math.hypot(5, 5 * Math.sqrt(3) + 10), panel.getCurrent(Connection.C), 1e-9);
+        assertEquals(30 - Math.hypot(5, 5 * Math.sqrt(3) + 10), panel.getImbalance(), 1e-9);
+        //20 A and 10 A line-to-neutral currents 120° apart
+        assertEquals(Math.sqrt(400 + 100 - 200), panel.getNeutralCurrent(), 1e-9);
+
+        panel.setConnection(1, Connection.C);
+        assertEquals(1200 + 1040 + threePhase, panel.getVoltAmperes(Connection.C), 1e-9);
+        assertEquals(10 * Math.sqrt(3), panel.getNeutralCurrent(), 1e-9);
+    }
+
+    @Test
+    void totals_balancedNeutral() {
+        Panel panel = new Panel(VoltageSystemAC.v480_3ph_4w);
+        for (Connection phase : new Connection[]{Connection.A, Connection.B, Connection.C})
+            panel.add(new GeneralLoad(VoltageSystemAC.v277_1ph_2w, 15), phase);
+        assertEquals(0, panel.getNeutralCurrent(), 1e-9);
+        assertEquals(0, panel.getImbalance(), 1e-9);
+        assertEquals(15, panel.getCurrent(Connection.B), 1e-9);
+    }
+
+    @Test
+    void currents_lineToLine() {
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 10), Connection.AB);
+        assertEquals(10, panel.getCurrent(Connection.A), 1e-9);
+        assertEquals(10, panel.getCurrent(Connection.B), 1e-9);
+        assertEquals(0, panel.getCurrent(Connection.C), 1e-9);
+        assertEquals(10, panel.getImbalance(), 1e-9);
+        assertEquals(0, panel.getNeutralCurrent(), 1e-9);
+
+        //a delta of equal loads draws √3 times their current from each phase
+        panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 10), Connection.BC);
+        panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 10), Connection.CA);
+        for (Connection phase : new Connection[]{Connection.A, Connection.B, Connection.C})
+            assertEquals(10 * Math.sqrt(3), panel.getCurrent(phase), 1e-9);
+        assertEquals(0, panel.getImbalance(), 1e-9);
+    }
+
+    @Test
+    void totals_followLoadChanges() {
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        GeneralLoad load = new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10);
+        panel.add(load, Connection.B);
+        load.setNominalCurrent(25);
+        assertEquals(25, panel.getCurrent(Connection.B), 1e-9);
+        assertEquals(25, panel.getNeutralCurrent(), 1e-9);
+
+        //a line-to-line load goes to the least loaded pair of phases
+        panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 5), Connection.A);
+        load.setVoltageSystem(VoltageSystemAC.v208_1ph_2w);
+        assertEquals(Connection.BC, panel.getConnection(0));
+        assertEquals(600, panel.getVoltAmperes(Connection.A), 1e-9);
+        assertEquals(208 * 25 / 2.0, panel.getVoltAmperes(Connection.B), 1e-9);
+        assertEquals(5, panel.getNeutralCurrent(), 1e-9);
+
+        //a load that cannot be connected is disconnected
+        load.setVoltageSystem(VoltageSystemAC.v480_3ph_4w);
+        assertNull(panel.getConnection(0));
+        assertEquals(0, panel.getVoltAmperes(Connection.B), 1e-9);
+        assertEquals(0, panel.getVoltAmperes(Connection.C), 1e-9);
+    }
+
+    @Test
+    void totals_matchRecalculation() {
+        Random random = new Random(7);
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        for (int i = 0; i < 200; i++) {
+            VoltageSystemAC system = i % 3 == 0 ? VoltageSystemAC.v208_1ph_2w
+                    : VoltageSystemAC.v120_1ph_2w;
+            panel.add(new GeneralLoad(system, 1 + random.nextInt(300) / 10.0));
+        }
+        for (int step = 0; step < 5000; step++) {
+            int index = random.nextInt(panel.getLoadCount());
+            panel.setConnection(index, panel.getAllowedConnections(panel.getLoad(index))
+                    .get(random.nextInt(3)));
+        }
+        double[] phases = new double[3];
+        double[] neutrals = new double[3];
+        for (int i = 0; i < panel.getLoadCount(); i++) {
+            double va = panel.getLoad(i).getVoltAmperes();
+            switch (panel.getConnection(i)) {
+                case A: phases[0] += va; neutrals[0] += va; break;
+                case B: phases[1] += va; neutrals[1] += va; break;
+                case C: phases[2] += va; neutrals[2] += va; break;
+                case AB: phases[0] += va / 2; phases[1] += va / 2; break;
+                case BC: phases[1] += va / 2; phases[2] += va / 2; break;
+                case CA: phases[2] += va / 2; phases[0] += va / 2; break;
+                default: fail();
+            }
+        }
+        assertEquals(phases[0], panel.getVoltAmperes(Connection.A), 1e-6);
+        assertEquals(phases[1], panel.getVoltAmperes(Connection.B), 1e-6);
+        assertEquals(phases[2], panel.getVoltAmperes(Connection.C), 1e-6);
+        double a = neutrals[0], b = neutrals[1], c = neutrals[2];
+        assertEquals(Math.sqrt(a * a + b * b + c * c - a * b - b * c - c * a) / 120,
+                panel.getNeutralCurrent(), 1e-6);
+
+        //the currents of the loads added as phasors, one phase at a time
+        Connection[] phases3 = {Connection.A, Connection.B, Connection.C};
+        for (int phase = 0; phase < 3; phase++) {
+            double x = 0, y = 0;
+            for (int i = 0; i < panel.getLoadCount(); i++) {
+                Connection connection = panel.getConnection(i);
+                double current = panel.getLoad(i).getNominalCurrent();
+                double angle;
+                if (connection == phases3[phase])
+                    angle = -120 * phase;
+                else if (connection.ordinal() == 3 + phase)
+                    angle = 30 - 120 * phase; //leaves through the first phase
+                else if (connection.ordinal() == 3 + (phase + 2) % 3)
+                    angle = 30 - 120 * ((phase + 2) % 3) + 180; //returns
+                else
+                    continue;
+                x += current * Math.cos(Math.toRadians(angle));
+                y += current * Math.sin(Math.toRadians(angle));
+            }
+            assertEquals(Math.hypot(x, y), panel.getCurrent(phases3[phase]), 1e-6);
+        }
+    }
+}
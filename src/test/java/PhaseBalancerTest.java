@@ -0,0 +1,136 @@
+package test.java;
+
+import eecalcs.loads.GeneralLoad;
+import eecalcs.loads.Panel;
+import eecalcs.loads.Panel.Connection;
+import eecalcs.loads.PhaseBalancer;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseBalancerTest {
+
+    /**
+     A panel with the given number of 120 V, 208 V single-phase and 208 V
+     three-phase loads, all connected to the same phases.
+     */
+    private Panel buildPanel(int count, long seed) {
+        Random random = new Random(seed);
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        for (int i = 0; i < count; i++) {
+            int kind = random.nextInt(10);
+            double current = 1 + random.nextInt(400) / 10.0;
+            if (kind < 6)
+                panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, current), Connection.A);
+            else if (kind < 9)
+                panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, current), Connection.AB);
+            else
+                panel.add(new GeneralLoad(VoltageSystemAC.v208_3ph_4w, current), Connection.ABC);
+        }
+        return panel;
+    }
+
+    @Test
+    void balance_smallPanel() {
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        for (double current : new double[]{20, 20, 20, 10, 10, 10})
+            panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, current), Connection.A);
+        PhaseBalancer balancer = new PhaseBalancer();
+        assertEquals(90 + 90, balancer.getCost(panel), 1e-9);
+        assertEquals(0, balancer.balance(panel), 1e-9);
+        for (Connection phase : new Connection[]{Connection.A, Connection.B, Connection.C})
+            assertEquals(30, panel.getCurrent(phase), 1e-9);
+    }
+
+    @Test
+    void balance_keepsKindAndThreePhaseLoads() {
+        Panel panel = buildPanel(300, 1);
+        Connection[] before = new Connection[panel.getLoadCount()];
+        for (int i = 0; i < before.length; i++)
+            before[i] = panel.getConnection(i);
+        new PhaseBalancer().balance(panel);
+        for (int i = 0; i < before.length; i++) {
+            Connection after = panel.getConnection(i);
+            assertTrue(panel.getAllowedConnections(panel.getLoad(i)).contains(after));
+            if (before[i] == Connection.ABC)
+                assertEquals(Connection.ABC, after);
+        }
+    }
+
+    @Test
+    void balance_neverWorse() {
+        Panel panel = buildPanel(200, 2);
+        PhaseBalancer balancer = new PhaseBalancer();
+        double first = balancer.balance(panel);
+        assertEquals(first, balancer.getCost(panel), 1e-9);
+        //the current assignment is one of the starts
+        assertTrue(balancer.setStarts(1).balance(panel) <= first + 1e-9);
+    }
+
+    @Test
+    void balance_independentOfWorkers() {
+        Panel one = buildPanel(300, 3);
+        Panel four = buildPanel(300, 3);
+        PhaseBalancer balancer = new PhaseBalancer();
+        ForkJoinPool onePool = new ForkJoinPool(1);
+        ForkJoinPool fourPool = new ForkJoinPool(4);
+        try {
+            assertEquals(balancer.balance(one, onePool), balancer.balance(four, fourPool));
+        }
+        finally {
+            onePool.shutdown();
+            fourPool.shutdown();
+        }
+        for (int i = 0; i < one.getLoadCount(); i++)
+            assertEquals(one.getConnection(i), four.getConnection(i));
+    }
+
+    @Test
+    void balance_neutralWeight() {
+        /*two 10 A, 120 V loads and a 20 A, 208 V load: the phases are
+        balanced only if both 120 V loads share the phase not used by the
+        208 V load, which doubles the current of the neutral.*/
+        Panel panel = new Panel(VoltageSystemAC.v208_3ph_4w);
+        panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10), Connection.A);
+        panel.add(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, 10), Connection.B);
+        panel.add(new GeneralLoad(VoltageSystemAC.v208_1ph_2w, 20), Connection.AB);
+        PhaseBalancer balancer = new PhaseBalancer();
+        assertEquals(0, balancer.setNeutralWeight(0).balance(panel), 1e-9);
+        assertEquals(panel.getConnection(0), panel.getConnection(1));
+        assertEquals(20, panel.getNeutralCurrent(), 1e-9);
+
+        double cost = balancer.setNeutralWeight(10).balance(panel);
+        assertNotEquals(panel.getConnection(0), panel.getConnection(1));
+        assertEquals(10, panel.getNeutralCurrent(), 1e-9);
+        assertTrue(panel.getImbalance() > 0);
+        assertEquals(panel.getImbalance() + 10 * 10, cost, 1e-9);
+    }
+
+    @Test
+    void balance_thousandLoads() {
+        Panel panel = buildPanel(1000, 4);
+        PhaseBalancer balancer = new PhaseBalancer();
+        double before = balancer.getCost(panel);
+        double after = balancer.balance(panel);
+        assertTrue(after < before / 1000);
+        //currents are multiples of 0.1 A, so the phases can be within 1 A
+        assertTrue(panel.getImbalance() < 1);
+        assertTrue(panel.getNeutralCurrent() < 1);
+    }
+
+    @Test
+    void invalidArguments() {
+        PhaseBalancer balancer = new PhaseBalancer();
+        assertThrows(IllegalArgumentException.class, () -> balancer.setStarts(0));
+        assertThrows(IllegalArgumentException.class, () -> balancer.setNeutralWeight(-1));
+        assertThrows(IllegalArgumentException.class, () -> balancer.balance(null));
+        assertThrows(IllegalArgumentException.class, () -> balancer.getCost(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> balancer.balance(new Panel(VoltageSystemAC.v208_3ph_4w), null));
+        assertEquals(0, balancer.balance(new Panel(VoltageSystemAC.v480_3ph_4w)));
+    }
+}
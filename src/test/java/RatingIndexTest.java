@@ -0,0 +1,75 @@
+package test.java;
+
+import org.junit.jupiter.api.Test;
+import tools.RatingIndex;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingIndexTest {
+    private final RatingIndex index = new RatingIndex(15, 20, 25, 60, 100);
+
+    @Test
+    void ceilingIndex() {
+        assertEquals(0, index.ceilingIndex(-10));
+        assertEquals(0, index.ceilingIndex(0));
+        assertEquals(0, index.ceilingIndex(15));
+        assertEquals(1, index.ceilingIndex(15.001));
+        assertEquals(1, index.ceilingIndex(20));
+        assertEquals(3, index.ceilingIndex(25.5));
+        assertEquals(4, index.ceilingIndex(99.99));
+        assertEquals(4, index.ceilingIndex(100));
+        assertEquals(5, index.ceilingIndex(100.001));
+        assertEquals(5, index.ceilingIndex(Double.POSITIVE_INFINITY));
+        assertEquals(5, index.ceilingIndex(Double.NaN));
+    }
+
+    @Test
+    void floorIndex() {
+        assertEquals(-1, index.floorIndex(-10));
+        assertEquals(-1, index.floorIndex(14.999));
+        assertEquals(0, index.floorIndex(15));
+        assertEquals(0, index.floorIndex(19.5));
+        assertEquals(2, index.floorIndex(59));
+        assertEquals(3, index.floorIndex(60));
+        assertEquals(4, index.floorIndex(100));
+        assertEquals(4, index.floorIndex(1e9));
+        assertEquals(-1, index.floorIndex(Double.NaN));
+    }
+
+    @Test
+    void indexOf() {
+        assertEquals(0, index.indexOf(15));
+        assertEquals(3, index.indexOf(60));
+        assertEquals(-1, index.indexOf(59));
+        assertEquals(-1, index.indexOf(-15));
+        assertEquals(-1, index.indexOf(Integer.MAX_VALUE));
+        assertEquals(5, index.size());
+        assertEquals(25, index.get(2));
+    }
+
+    @Test
+    void matchesLinearSearch() {
+        int[] ratings = {0, 3, 7, 8, 50, 51, 400};
+        RatingIndex other = new RatingIndex(ratings);
+        for (double value = -2; value <= 402; value += 0.25) {
+            int ceiling = ratings.length;
+            int floor = -1;
+            for (int i = 0; i < ratings.length; i++) {
+                if (ratings[i] >= value && ceiling == ratings.length)
+                    ceiling = i;
+                if (ratings[i] <= value)
+                    floor = i;
+            }
+            assertEquals(ceiling, other.ceilingIndex(value));
+            assertEquals(floor, other.floorIndex(value));
+        }
+    }
+
+    @Test
+    void invalidRatings() {
+        assertThrows(IllegalArgumentException.class, RatingIndex::new);
+        assertThrows(IllegalArgumentException.class, () -> new RatingIndex(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RatingIndex(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> new RatingIndex(10, 5));
+    }
+}
@@ -0,0 +1,112 @@
+package test.java;
+
+import org.junit.jupiter.api.Test;
+import tools.ResultMessage;
+import tools.ResultMessages;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultMessagesTest {
+    private final ResultMessage ERROR10 = new ResultMessage("error 10", -10);
+    private final ResultMessage ERROR20 = new ResultMessage("error 20", -20);
+    private final ResultMessage WARNING5 = new ResultMessage("warning 5", 5);
+
+    @Test
+    void addAndRemove() {
+        ResultMessages messages = new ResultMessages();
+        assertFalse(messages.hasMessages());
+        messages.add(ERROR10);
+        messages.add(ERROR10);
+        messages.add("other error 10", -10);
+        messages.add(WARNING5);
+        messages.add("far away", 100000);
+        assertEquals(1, messages.errorCount());
+        assertEquals(2, messages.warningCount());
+        assertEquals("error 10", messages.getMessage(-10));
+        assertEquals("far away", messages.getMessage(100000));
+        assertEquals("", messages.getMessage(-20));
+        assertTrue(messages.containsMessage(ERROR10));
+        assertFalse(messages.containsMessage(ERROR20));
+        assertTrue(messages.containsMessage(100000));
+
+        List<ResultMessage> view = messages.getMessages();
+        assertEquals(3, view.size());
+        assertSame(ERROR10, view.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+
+        messages.remove(ERROR10, ERROR20);
+        messages.remove(100000);
+        assertFalse(messages.hasErrors());
+        assertEquals(1, messages.warningCount());
+        //the view taken before is not changed
+        assertEquals(3, view.size());
+
+        messages.clearMessages();
+        assertFalse(messages.hasMessages());
+        assertEquals(0, messages.getMessages().size());
+    }
+
+    @Test
+    void copyFrom() {
+        ResultMessages source = new ResultMessages();
+        source.add(ERROR10);
+        source.add(WARNING5);
+        ResultMessages target = new ResultMessages();
+        target.add(ERROR10);
+        target.add(ERROR20);
+        assertEquals(1, target.copyFrom(source));
+        assertEquals(2, target.errorCount());
+        assertEquals(1, target.warningCount());
+        assertEquals(0, target.copyFrom(new ResultMessages()));
+    }
+
+    @Test
+    void append() {
+        ResultMessage appended = ERROR10.append("more");
+        assertEquals("error 10\nmore", appended.message);
+        assertEquals(-10, appended.number);
+        assertEquals("error 10", ERROR10.message);
+    }
+
+    @Test
+    void concurrentReaders() throws InterruptedException {
+        ResultMessages messages = new ResultMessages();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                while (!done.get()) {
+                    List<ResultMessage> view = messages.getMessages();
+                    int errors = 0;
+                    for (ResultMessage msg : view)
+                        if (msg == null)
+                            failure.set("null message");
+                        else if (msg.number < 0)
+                            errors++;
+                    //messages are added and removed in pairs
+                    if (errors % 2 != 0)
+                        failure.set("partial state: " + errors);
+                    if (messages.errorCount() > 2)
+                        failure.set("too many errors");
+                }
+            });
+            readers[r].start();
+        }
+        ResultMessages pair = new ResultMessages();
+        pair.add(ERROR10);
+        pair.add(ERROR20);
+        for (int i = 0; i < 100000; i++) {
+            messages.copyFrom(pair);
+            messages.clearMessages();
+        }
+        done.set(true);
+        for (Thread reader : readers)
+            reader.join();
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,119 @@
+package test.java;
+
+import eecalcs.circuits.Circuit;
+import eecalcs.circuits.SharedRacewaySolver;
+import eecalcs.conductors.Bundle;
+import eecalcs.conductors.Size;
+import eecalcs.conduits.Conduit;
+import eecalcs.conduits.Type;
+import eecalcs.loads.GeneralLoad;
+import eecalcs.systems.VoltageSystemAC;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedRacewaySolverTest {
+
+    /**
+     Two circuits using MC cables in a 30" bundle, for which the adjustment
+     factor is 1 only if both cables are #12 (310.15(B)(3)(a)(4)).
+     */
+    private List<Circuit> buildBundle(double currentX, double currentY) {
+        Bundle bundle = new Bundle(null, 0, 30);
+        List<Circuit> circuits = new ArrayList<>();
+        for (double current : new double[]{currentX, currentY}) {
+            Circuit circuit = new Circuit(new GeneralLoad(VoltageSystemAC.v120_1ph_2w, current));
+            circuit.setUsingCable(true);
+            circuit.setBundleMode(bundle);
+            circuit.setLength(10);
+            circuits.add(circuit);
+        }
+        return circuits;
+    }
+
+    @Test
+    void solve_sharedConduit() {
+        Conduit conduit = new Conduit(Type.EMT, false);
+        List<Circuit> circuits = new ArrayList<>();
+        List<GeneralLoad> loads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            GeneralLoad load = new GeneralLoad(VoltageSystemAC.v208_3ph_4w, 30);
+            Circuit circuit = new Circuit(load);
+            circuit.setConduitMode(conduit);
+            loads.add(load);
+            circuits.add(circuit);
+        }
+        SharedRacewaySolver solver = new SharedRacewaySolver(circuits);
+        assertEquals(SharedRacewaySolver.Outcome.CONVERGED, solver.solve());
+        assertEquals(3, solver.getEvaluationCount());
+        assertEquals(1, solver.getRoundCount());
+        assertEquals(Size.AWG_6, circuits.get(1).getCircuitSize());
+
+        //nothing changed
+        assertEquals(SharedRacewaySolver.Outcome.CONVERGED, solver.solve());
+        assertEquals(0, solver.getEvaluationCount());
+        assertEquals(0, solver.getRoundCount());
+
+        //the neutral becomes current-carrying: 10 conductors in the conduit
+        loads.get(0).setNonlinear(true);
+        assertEquals(SharedRacewaySolver.Outcome.CONVERGED, solver.solve());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, solver.getEvaluationCount(i));
+            assertEquals(0.5, circuits.get(i).getPhaseConductor().getAdjustmentFactor());
+            assertEquals(Size.AWG_4, circuits.get(i).getCircuitSize());
+        }
+    }
+
+    @Test
+    void solve_bundleChangedOutsideTheSolver() {
+        List<Circuit> circuits = buildBundle(16, 17);
+        Circuit x = circuits.get(0);
+        Circuit y = circuits.get(1);
+        SharedRacewaySolver solver = new SharedRacewaySolver(circuits);
+        assertEquals(SharedRacewaySolver.Outcome.CONVERGED, solver.solve());
+        assertEquals(Size.AWG_12, x.getCircuitSize());
+        assertEquals(Size.AWG_12, y.getCircuitSize());
+        assertEquals(1, y.getCable().getAdjustmentFactor());
+
+        /*y is calculated before x, while the rule still applies; x changes
+        the factor of y when it is calculated but y is not notified.*/
+        ((GeneralLoad) x.getLoad()).setNominalCurrent(30);
+        assertEquals(Size.AWG_12, y.getCircuitSize());
+        assertNotEquals(Size.AWG_12, x.getCircuitSize());
+        assertEquals(0.8, y.getCable().getAdjustmentFactor());
+        assertEquals(Size.AWG_12, y.getCircuitSize());
+
+        assertEquals(SharedRacewaySolver.Outcome.CONVERGED, solver.solve());
+        assertEquals(1, solver.getEvaluationCount(1));
+        assertEquals(Size.AWG_10, y.getCircuitSize());
+    }
+
+    @Test
+    void solve_oscillation() {
+        /*x is #14 when the rule applies and #12 when it does not, while the
+        rule applies only when x is #12.*/
+        SharedRacewaySolver solver = new SharedRacewaySolver(buildBundle(13, 12.5));
+        assertEquals(SharedRacewaySolver.Outcome.OSCILLATING, solver.solve());
+        assertTrue(solver.getRoundCount() <= 4);
+        assertTrue(solver.getEvaluationCount(0) >= 2);
+
+        solver = new SharedRacewaySolver(buildBundle(13, 12.5)).setMaxRounds(1);
+        assertEquals(1, solver.getMaxRounds());
+        assertEquals(SharedRacewaySolver.Outcome.ROUND_LIMIT_REACHED, solver.solve());
+        assertEquals(1, solver.getRoundCount());
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SharedRacewaySolver(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SharedRacewaySolver(Arrays.asList(new Circuit(new GeneralLoad()), null)));
+        SharedRacewaySolver solver = new SharedRacewaySolver(new ArrayList<>());
+        assertThrows(IllegalArgumentException.class, () -> solver.setMaxRounds(0));
+        assertEquals(SharedRacewaySolver.Outcome.CONVERGED, solver.solve());
+    }
+}
@@ -20,4 +20,17 @@ class SizeTest {
 
         assertEquals(Size.KCMIL_2000, Size.KCMIL_1750.getNextSizeUp());
     }
-}
\ No newline at end of file
+
+    @Test
+    void byOrdinal() {
+        assertEquals(28, Size.COUNT);
+        for (int i = 0; i < Size.COUNT; i++)
+            assertEquals(Size.values()[i], Size.byOrdinal(i));
+        assertNull(Size.byOrdinal(-1));
+        assertNull(Size.byOrdinal(Size.COUNT));
+        assertEquals(Size.KCMIL_250, Size.AWG_4$0.next());
+        assertNull(Size.KCMIL_2000.next());
+        assertEquals(Size.AWG_4$0, Size.KCMIL_250.previous());
+        assertNull(Size.AWG_14.previous());
+    }
+}
@@ -4,6 +4,7 @@ import eecalcs.conductors.*;
 import eecalcs.conduits.Material;
 import eecalcs.systems.VoltageSystemAC;
 import eecalcs.voltagedrop.VoltDrop;
+import org.apache.commons.math3.complex.Complex;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -224,4 +225,104 @@ class VoltDropTest {
         assertEquals(100*7.2991/277, voltDrop2.getACVoltageDropPercentage(), 0.0001);
     }
 
-}
\ No newline at end of file
+
+    /**
+     Reference implementation of the AC voltage at the load: the phasor math
+     is done with commons-math3 complex numbers.
+     */
+    private double referenceVoltageAtLoad(Size size, Metal metal, double length,
+                                          VoltageSystemAC source, Material material,
+                                          int sets, double current, double pf) {
+        double k = source.getPhases() == 1 ? 2 : source.getFactor();
+        double r = ConductorProperties.getACResistance(size, metal, material,
+                length, sets);
+        double x = ConductorProperties.getReactance(size,
+                eecalcs.conduits.ConduitProperties.isMagnetic(material),
+                length, sets);
+        Complex z = new Complex(k * r, k * x);
+        Complex i = new Complex(current * pf, -current * Math.sin(Math.acos(pf)));
+        return new Complex(source.getVoltage(), 0).subtract(z.multiply(i)).abs();
+    }
+
+    /**
+     Reference implementation of the sizing per AC voltage drop: tries every
+     size in order using commons-math3 complex numbers.
+     */
+    private Size referenceSizeAC(Conductor conductor, VoltageSystemAC source,
+                                 Material material, int sets, double current,
+                                 double pf, double maxPercent) {
+        for (Size size : Size.values()) {
+            if (current > sets * ConductorProperties.getStandardAmpacity(size,
+                    conductor.getMetal(), conductor.getTemperatureRating()))
+                continue;
+            double vLoad = referenceVoltageAtLoad(size, conductor.getMetal(),
+                    conductor.getLength(), source, material, sets, current, pf);
+            double percent = 100 * (source.getVoltage() - vLoad) / source.getVoltage();
+            if (percent <= maxPercent)
+                return size;
+        }
+        return null;
+    }
+
+    @Test
+    void getACVoltageAtLoad_matchesReference() {
+        Conductor c = new Conductor();
+        VoltDrop vd = new VoltDrop(c);
+        int count = 0;
+        for (VoltageSystemAC source : VoltageSystemAC.values())
+        for (Metal metal : Metal.values())
+        for (Material material : Material.values())
+        for (Size size : Size.values())
+        for (double length : new double[]{10, 250, 1800})
+        for (double pf : new double[]{0.7, 0.85, 1.0}) {
+            c.setMetal(metal);
+            c.setSize(size);
+            c.setLength(length);
+            if (c.getCorrectedAndAdjustedAmpacity() < 10)
+                continue;
+            vd.setSourceVoltage(source).setConduitMaterial(material)
+                    .setSets(1).setLoadCurrent(10).setPowerFactor(pf);
+            assertEquals(referenceVoltageAtLoad(size, metal, length, source,
+                    material, 1, 10, pf), vd.getACVoltageAtLoad());
+            count++;
+        }
+        assertTrue(count > 0);
+    }
+
+    @Test
+    void getCalculatedSizeAC_matchesReference() {
+        double[] currents = {1, 7.5, 16, 45, 99.9, 180, 420, 900, 2000};
+        double[] lengths = {3, 40, 125, 333, 900, 2500, 6000};
+        double[] powerFactors = {0.7, 0.83, 0.95, 1.0};
+        double[] maxPercents = {0.5, 3, 12};
+        Conductor c = new Conductor();
+        VoltDrop vd = new VoltDrop(c);
+        int count = 0;
+        for (VoltageSystemAC source : VoltageSystemAC.values())
+        for (Metal metal : Metal.values())
+        for (Insul insul : new Insul[]{Insul.TW, Insul.THHN})
+        for (Material material : Material.values())
+        for (int sets = 1; sets <= 2; sets++)
+        for (double current : currents)
+        for (double length : lengths)
+        for (double pf : powerFactors)
+        for (double maxPercent : maxPercents) {
+            c.setMetal(metal);
+            c.setInsulation(insul);
+            c.setLength(length);
+            vd.setSourceVoltage(source).setConduitMaterial(material)
+                    .setSets(sets).setLoadCurrent(current).setPowerFactor(pf)
+                    .setMaxVoltageDropPercent(maxPercent);
+            Size expected = referenceSizeAC(c, source, material, sets,
+                    current, pf, maxPercent);
+            Size actual = vd.getCalculatedSizeAC();
+            if (expected != null && actual == null)
+                //ERROR30: the max length for the size could not be computed
+                assertTrue(vd.getResultMessages().containsMessage(-30));
+            else
+                assertEquals(expected, actual);
+            count++;
+        }
+        assertTrue(count > 0);
+    }
+}
@@ -85,4 +85,14 @@ class VoltageSystemACTest {
         //voltage system changes, correct parameters
         assertEquals("600v 3Ø 3W", custom.setCustom(600,3,3).getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void byOrdinal() {
+        assertEquals(VoltageSystemAC.values().length, VoltageSystemAC.COUNT);
+        for (int i = 0; i < VoltageSystemAC.COUNT; i++)
+            assertEquals(VoltageSystemAC.values()[i], VoltageSystemAC.byOrdinal(i));
+        assertNull(VoltageSystemAC.byOrdinal(VoltageSystemAC.COUNT));
+        assertEquals(VoltageSystemAC.v208_1ph_2w, v120_1ph_2w.next());
+        assertNull(v120_1ph_2w.previous());
+    }
+}
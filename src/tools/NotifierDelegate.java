@@ -1,7 +1,9 @@
 package tools;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  This class represents a delegate whose role is forecasting notifications about
@@ -9,6 +11,11 @@ import java.util.List;
  All objects using a delegate should declare it private and provide a common
  name for the getter as<br><br>
  <code>public NotifierDelegate getNotifier()</code>
+ <p>Several changes can be grouped in a batch by calling {@link #beginBatch()}
+ before the changes and {@link #commit()} after them. Inside a batch, no
+ listener is notified; on commit, each listener is notified only once and
+ the {@link #info} object contains the merged list of all the fields that
+ changed during the batch.
  @see Listener
  */
 public class NotifierDelegate {
@@ -16,6 +23,15 @@ public class NotifierDelegate {
     private final Object sender;
 
     private boolean enable = true;
+    /**Number of nested batches in progress. Zero means no batch.*/
+    private int batchDepth = 0;
+    /**True if a notification was deferred by the current batch.*/
+    private boolean notificationPending = false;
+    /**Number of fields in {@link #info} that belong to the deferred
+     notifications of the current batch.*/
+    private int pendingFieldCount = 0;
+    /**Number of changes reported by the owner. See {@link #getChangeCount()}.*/
+    private int changeCount = 0;
     /**
      See {@link FieldInfoChangeEvent} for details.
      */
@@ -34,14 +50,107 @@ public class NotifierDelegate {
      Sends the FieldInfoChangeEvent message to all registered listeners if this
      NotifierDelegate is enable to do so. Refer to {@link #enable(boolean)}
      and {@link Listener} for details.
+     <p>If a batch is in progress, the notification is deferred until the
+     batch is committed. Refer to {@link #beginBatch()}.
      */
     public void notifyAllListeners() {
+        changeCount++;
+        if(batchDepth > 0) {
+            if(enable) {
+                notificationPending = true;
+                pendingFieldCount = info.fields.size();
+            }
+            else //the fields of a disabled notification are discarded
+                info.fields.subList(pendingFieldCount, info.fields.size()).clear();
+            return;
+        }
         if(enable)
             for(Listener listener: listeners)
                 listener.notify(sender);
+        info.clearFields();
+    }
+
+    /**
+     Starts a batch of changes. Until the matching call to {@link #commit()},
+     the notifications are deferred. Batches can be nested; only the commit
+     of the outermost batch notifies the listeners.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     Ends a batch of changes started by {@link #beginBatch()}. If this is the
+     outermost batch and any notification was deferred, all the listeners are
+     notified once. The {@link #info} object passed to them contains one entry
+     per changed field, in the order the fields changed first, with the value
+     the field had before the batch and its last value.
+     @throws IllegalStateException if no batch is in progress.
+     */
+    public void commit() {
+        if(batchDepth == 0)
+            throw new IllegalStateException("No batch in progress.");
+        if(--batchDepth > 0)
+            return;
+        boolean pending = notificationPending;
+        notificationPending = false;
+        pendingFieldCount = 0;
+        mergeFields();
+        if(pending)
+            notifyAllListeners();
+        else
             info.clearFields();
     }
 
+    /**
+     Counts a change of the owner that does not need to be notified to the
+     listeners, but that objects caching values derived from the owner must
+     know about. Refer to {@link #getChangeCount()}.
+     */
+    public void countChange() {
+        changeCount++;
+    }
+
+    /**
+     Returns the number of changes reported by the owner, that is, the number
+     of calls to {@link #notifyAllListeners()} and {@link #countChange()}. It
+     also counts the notifications that were not sent because this delegate
+     was disabled or was in a batch, so an object that caches a value derived
+     from the owner can tell whether the value is still valid by comparing
+     this number with the one it saw when it calculated the value.
+     @return The number of changes.
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     @return True if a batch of changes is in progress.
+     */
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    /**
+     Merges the fields in {@link #info} having the same name into one, which
+     keeps the first old value and the last new value.
+     */
+    private void mergeFields() {
+        if(info.fields.size() < 2)
+            return;
+        Map<String, FieldInfoChangeEvent.Fields> merged = new LinkedHashMap<>();
+        for(FieldInfoChangeEvent.Fields field: info.fields) {
+            FieldInfoChangeEvent.Fields first = merged.get(field.fieldName);
+            if(first == null)
+                merged.put(field.fieldName, new FieldInfoChangeEvent.Fields(
+                        field.fieldName, field.oldValue, field.newValue));
+            else
+                first.newValue = field.newValue;
+        }
+        info.fields.clear();
+        info.fields.addAll(merged.values());
+    }
+
     /**
      Adds a Listener object to this object list of listeners. Every listener in
      this list will be notified when the owner of this NotifierDelegate object
@@ -0,0 +1,103 @@
+package tools;
+
+/**
+ An index over a table of standard ratings (like the standard OCPD ratings
+ or the ratings of table NEC-250.122) that answers which rating is
+ immediately higher or lower than a given value in constant time.
+ <p>The ratings must be non-negative integers in strictly ascending order.
+ For every integer value from zero to the highest rating, the index keeps
+ the position of the first rating that is equal or higher than that value.
+ Because the ratings are integers, the first rating that is equal or higher
+ than a fractional value is the one for the next integer value, so
+ fractional values are resolved with the same table.
+ <p>Values that are NaN are not comparable to any rating: there is no
+ rating that is equal, higher or lower than NaN.
+ <p>Instances are immutable, so they can be shared between threads.
+ */
+public final class RatingIndex {
+	private final int[] ratings;
+	/**Position of the first rating that is equal or higher than the integer
+	 value used as index, from 0 to the highest rating.*/
+	private final short[] ceiling;
+
+	/**
+	 Creates an index for the given ratings.
+	 @param ratings The ratings, in strictly ascending order. They are copied.
+	 @throws IllegalArgumentException if there are no ratings, if any of them
+	 is negative or if they are not in strictly ascending order.
+	 */
+	public RatingIndex(int... ratings) {
+		if (ratings == null || ratings.length == 0 || ratings.length > Short.MAX_VALUE)
+			throw new IllegalArgumentException("The number of ratings must " +
+					"be between 1 and " + Short.MAX_VALUE + ".");
+		if (ratings[0] < 0)
+			throw new IllegalArgumentException("Ratings cannot be negative.");
+		for (int i = 1; i < ratings.length; i++)
+			if (ratings[i] <= ratings[i - 1])
+				throw new IllegalArgumentException("Ratings must be in " +
+						"strictly ascending order.");
+		this.ratings = ratings.clone();
+		int max = ratings[ratings.length - 1];
+		ceiling = new short[max + 1];
+		int index = 0;
+		for (int value = 0; value <= max; value++) {
+			if (value > ratings[index])
+				index++;
+			ceiling[value] = (short) index;
+		}
+	}
+
+	/**
+	 @return The number of ratings in this index.
+	 */
+	public int size() {
+		return ratings.length;
+	}
+
+	/**
+	 @param index The position of the rating, from 0 to {@link #size()} - 1.
+	 @return The rating at the given position.
+	 */
+	public int get(int index) {
+		return ratings[index];
+	}
+
+	/**
+	 @return The position of the lowest rating that is equal or higher than
+	 the given value, or {@link #size()} if there is none.
+	 @param value The value to search for.
+	 */
+	public int ceilingIndex(double value) {
+		if (Double.isNaN(value) || value > ratings[ratings.length - 1])
+			return ratings.length;
+		if (value <= 0)
+			return 0;
+		return ceiling[(int) Math.ceil(value)];
+	}
+
+	/**
+	 @return The position of the highest rating that is equal or lower than
+	 the given value, or -1 if there is none.
+	 @param value The value to search for.
+	 */
+	public int floorIndex(double value) {
+		int index = ceilingIndex(value);
+		if (index < ratings.length && ratings[index] == value)
+			return index;
+		if (Double.isNaN(value))
+			return -1;
+		return index - 1;
+	}
+
+	/**
+	 @return The position of the given rating, or -1 if it is not in this
+	 index.
+	 @param rating The rating to search for.
+	 */
+	public int indexOf(int rating) {
+		int index = ceilingIndex(rating);
+		if (index < ratings.length && ratings[index] == rating)
+			return index;
+		return -1;
+	}
+}
@@ -8,10 +8,12 @@ package tools;
  * message. If this number is positive it must be interpreted as a warning.
  * A number equals to zero has no meaning and eventually can be used to indicate
  * a neutral message, like a "status".
+ * <p>Message objects are immutable, so the same object can be shared by
+ * several containers and threads.
  */
 public class ResultMessage {
-	public String message;
-	public int number;
+	public final String message;
+	public final int number;
 
 	/**
 	 * Constructs a message object with a text message and number
@@ -23,8 +25,14 @@ public class ResultMessage {
 		this.number = number;
 	}
 
+	/**
+	 * Returns a new message with the same number as this one, whose text is
+	 * the text of this message followed by the given additional information
+	 * in a new line. This message is not changed.
+	 * @param additionalInfo The text to add.
+	 * @return The new message.
+	 */
 	public ResultMessage append(String additionalInfo){
-		message = message + "\n" + additionalInfo;
-		return this;
+		return new ResultMessage(message + "\n" + additionalInfo, number);
 	}
 }
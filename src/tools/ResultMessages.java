@@ -2,7 +2,8 @@ package tools;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -11,9 +12,82 @@ import java.util.List;
  considered errors that impeaches proper calculation. Positive resultMessages numbers
  are warnings that doesn't affect the calculation result but that the user
  needs to be aware of.
+ <p>A message is identified by its number: this container never holds two
+ messages with the same number.
+ <p>The messages are kept in an immutable state object that is replaced on
+ every change, so readers in other threads always see a consistent set of
+ messages without locking, and {@link #getMessages()} returns that state as
+ a read-only list instead of copying it. Changes are synchronized. Asking for
+ a message number, or removing a message that is not present, is resolved
+ with a bitset lookup and does not create a new state.
  */
 public class ResultMessages implements ROResultMessages {
-	private final List<ResultMessage> resultMessages =  new ArrayList<>();
+	/**Numbers in [-BITSET_RANGE, BITSET_RANGE) are tracked in the bitset.*/
+	private static final int BITSET_RANGE = 1024;
+	private static final State EMPTY = new State(new ResultMessage[0]);
+	private volatile State state = EMPTY;
+
+	/**
+	 An immutable set of messages, in the order they were added.
+	 */
+	private static final class State {
+		private final ResultMessage[] messages;
+		private final List<ResultMessage> view;
+		/**Bit (number + BITSET_RANGE) is set if that number is present.*/
+		private final long[] present = new long[2 * BITSET_RANGE / 64];
+		private final int errorCount;
+		private final int warningCount;
+
+		State(ResultMessage[] messages) {
+			this.messages = messages;
+			view = Collections.unmodifiableList(Arrays.asList(messages));
+			int errors = 0;
+			int warnings = 0;
+			for (ResultMessage msg : messages) {
+				if (msg.number < 0)
+					errors++;
+				else if (msg.number > 0)
+					warnings++;
+				if (inBitset(msg.number)) {
+					int bit = msg.number + BITSET_RANGE;
+					present[bit >>> 6] |= 1L << bit;
+				}
+			}
+			errorCount = errors;
+			warningCount = warnings;
+		}
+
+		private static boolean inBitset(int number) {
+			return number >= -BITSET_RANGE && number < BITSET_RANGE;
+		}
+
+		ResultMessage get(int number) {
+			if (inBitset(number)) {
+				int bit = number + BITSET_RANGE;
+				if ((present[bit >>> 6] & (1L << bit)) == 0)
+					return null;
+			}
+			for (ResultMessage msg : messages)
+				if (msg.number == number)
+					return msg;
+			return null;
+		}
+
+		State with(ResultMessage msg) {
+			ResultMessage[] result = Arrays.copyOf(messages, messages.length + 1);
+			result[messages.length] = msg;
+			return new State(result);
+		}
+
+		State without(int number) {
+			ResultMessage[] result = new ResultMessage[messages.length - 1];
+			int count = 0;
+			for (ResultMessage msg : messages)
+				if (msg.number != number)
+					result[count++] = msg;
+			return new State(result);
+		}
+	}
 
 	/**
 	 Adds a new message to this result message container; if the message number
@@ -26,14 +100,14 @@ public class ResultMessages implements ROResultMessages {
 	 @see ResultMessage
 	 */
 	public void add(String resultMessage, int number) {
-		for(ResultMessage msg: resultMessages){
-			if(msg.number == number) return;
-		}
-		resultMessages.add(new ResultMessage(resultMessage, number));
+		if (state.get(number) != null)
+			return;
+		add(new ResultMessage(resultMessage, number));
 	}
 
 	/**
-	 Adds a message object to this result message container.
+	 Adds a message object to this result message container; if a message
+	 with the same number already exists, nothing is added.
 
 	 @param msg The existing message object to be added to this result message
 	 container.
@@ -41,59 +115,53 @@ public class ResultMessages implements ROResultMessages {
 	 @see ResultMessage
 	 */
 	public void add(ResultMessage msg){
-		if(resultMessages.contains(msg)) return;
-		resultMessages.add(msg);
+		if (state.get(msg.number) != null)
+			return;
+		synchronized (this) {
+			if (state.get(msg.number) == null)
+				state = state.with(msg);
+		}
 	}
 
 	@Override
 	public String getMessage(int number) {
-		for(ResultMessage msg: resultMessages){
-			if(msg.number == number) return msg.message;
-		}
-		return "";
+		ResultMessage msg = state.get(number);
+		return msg == null ? "" : msg.message;
 	}
 
 	@Override
 	public boolean containsMessage(int number){
-		return !getMessage(number).equals("");
+		return state.get(number) != null;
 	}
 
 	@Override
 	public boolean containsMessage(ResultMessage msg){
-		return resultMessages.contains(msg);
+		return state.get(msg.number) != null;
 	}
 
 	@Override
 	public boolean hasMessages() {
-		return resultMessages.size() > 0;
+		return state.messages.length > 0;
 	}
 
 	@Override
 	public boolean hasErrors() {
-		return errorCount() > 0;
+		return state.errorCount > 0;
 	}
 
 	@Override
 	public boolean hasWarnings() {
-		return warningCount() > 0;
+		return state.warningCount > 0;
 	}
 
 	@Override
 	public int errorCount() {
-		int result = 0;
-		for(ResultMessage msg: resultMessages){
-			if(msg.number < 0) result++;
-		}
-		return result;
+		return state.errorCount;
 	}
 
 	@Override
 	public int warningCount() {
-		int result = 0;
-		for(ResultMessage msg: resultMessages){
-			if(msg.number > 0) result++;
-		}
-		return result;
+		return state.warningCount;
 	}
 
 	/**
@@ -103,11 +171,11 @@ public class ResultMessages implements ROResultMessages {
 	 @param number The number of the message to be removed from this container.
 	 */
 	public void remove(int number){
-		for(ResultMessage msg : resultMessages){
-			if(msg.number == number) {
-				resultMessages.remove(msg);
-				break;
-			}
+		if (state.get(number) == null)
+			return;
+		synchronized (this) {
+			if (state.get(number) != null)
+				state = state.without(number);
 		}
 	}
 
@@ -119,24 +187,28 @@ public class ResultMessages implements ROResultMessages {
 	 */
 	public void remove(ResultMessage...msg){
 		for (ResultMessage message : msg) {
-			resultMessages.remove(message);
+			remove(message.number);
 		}
 	}
 
+	/**
+	 @return A read-only list of the messages in this container at the moment
+	 of the call. Later changes to this container are not reflected in it.
+	 */
 	@Override
 	public List<ResultMessage> getMessages() {
-		List<ResultMessage> m = new ArrayList<>();
-		for (ResultMessage mes: resultMessages) {
-			m.add(new ResultMessage(mes.message, mes.number));
-		}
-		return m;
+		return state.view;
 	}
 
 	/**
 	 Clear all the registered resultMessages in this container.
 	 */
 	public void clearMessages(){
-		resultMessages.clear();
+		if (state == EMPTY)
+			return;
+		synchronized (this) {
+			state = EMPTY;
+		}
 	}
 
 	/**
@@ -147,15 +219,20 @@ public class ResultMessages implements ROResultMessages {
 	 @return The number of resultMessages copied.
 	 */
 	public int copyFrom(@NotNull ROResultMessages source){
-		int count = 0;
-		for(ResultMessage sourceResultMessage : source.getMessages()) {
-			if (!containsMessage(sourceResultMessage.number)){
-				count++;
-				add(sourceResultMessage);
+		List<ResultMessage> sourceMessages = source.getMessages();
+		if (sourceMessages.isEmpty())
+			return 0;
+		synchronized (this) {
+			State result = state;
+			int count = 0;
+			for (ResultMessage sourceResultMessage : sourceMessages) {
+				if (result.get(sourceResultMessage.number) == null) {
+					count++;
+					result = result.with(sourceResultMessage);
+				}
 			}
+			state = result;
+			return count;
 		}
-		return count;
 	}
 }
-
-